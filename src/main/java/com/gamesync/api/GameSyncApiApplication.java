@@ -31,6 +31,11 @@ import io.github.cdimascio.dotenv.Dotenv;
 		type = SecuritySchemeType.HTTP,
 		scheme = "basic"
 )
+@SecurityScheme(
+		name = "bearerAuth",
+		type = SecuritySchemeType.HTTP,
+		scheme = "bearer"
+)
 public class GameSyncApiApplication {
 	private static final Logger logger = LoggerFactory.getLogger(GameSyncApiApplication.class);
 
@@ -0,0 +1,54 @@
+package com.gamesync.api.config;
+
+import com.gamesync.api.service.CredentialCacheService;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import java.util.Optional;
+
+/**
+ * {@link AuthenticationProvider} que envolve outro provedor (normalmente o
+ * DaoAuthenticationProvider com BCrypt) e consulta o {@link CredentialCacheService}
+ * antes de delegar. Em caso de acerto no cache, a verificação BCrypt e a busca
+ * do usuário no banco de dados são evitadas.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final CredentialCacheService credentialCache;
+
+    /**
+     * @param delegate        O provedor que realiza a autenticação real.
+     * @param credentialCache O cache de credenciais já verificadas.
+     */
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, CredentialCacheService credentialCache) {
+        this.delegate = delegate;
+        this.credentialCache = credentialCache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String rawPassword)) {
+            return delegate.authenticate(authentication);
+        }
+        String username = authentication.getName();
+
+        Optional<Authentication> cached = credentialCache.get(username, rawPassword);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long epoch = credentialCache.currentEpoch();
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null) {
+            credentialCache.put(username, rawPassword, result, epoch);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -0,0 +1,286 @@
+package com.gamesync.api.config;
+
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameTombstone;
+import com.gamesync.api.model.PlaySession;
+import com.gamesync.api.model.SyncCounter;
+import com.gamesync.api.service.NameNormalizer;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cria os índices do MongoDB que não podem ser declarados por anotações nas entidades.
+ *
+ * <p>
+ * O índice de texto da coleção "games" é composto com o prefixo {@code userId}: toda busca
+ * textual fica restrita à biblioteca de um usuário e percorre apenas as entradas dele.
+ * O idioma padrão é o português e cada documento pode trocar o stemmer pelo campo
+ * {@code language} ("pt" ou "en").
+ * </p>
+ *
+ * <p>
+ * O índice único {@code (userId, normalizedName)} impede nomes duplicados na biblioteca de um
+ * usuário, inclusive entre requisições concorrentes. Antes de criá-lo, os documentos gravados
+ * sem {@code normalizedName} são preenchidos. Como o índice é parcial (apenas documentos com
+ * {@code normalizedName} do tipo string), instâncias antigas ainda em execução durante a
+ * implantação continuam gravando normalmente.
+ * </p>
+ *
+ * <p>
+ * A coleção "play_sessions" precisa ser criada explicitamente como coleção de séries temporais
+ * (uma inserção comum criaria uma coleção normal). Os trechos brutos expiram após
+ * {@code gamesync.play-sessions.retention}; o histórico consolidado não expira.
+ * </p>
+ *
+ * <p>
+ * Os registros de exclusão da sincronização incremental expiram por um índice TTL após
+ * {@code gamesync.sync.tombstone-retention}. Jogos gravados antes da sincronização incremental
+ * recebem a sequência 1, de modo que entram apenas na primeira sincronização completa. Os
+ * contadores de sequência por usuário ("sync_sequences") são criados na primeira execução a partir
+ * das sequências já gravadas.
+ * </p>
+ */
+@Component
+public class MongoIndexConfig {
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    /** Nome do índice de texto da coleção de jogos. */
+    public static final String GAME_TEXT_INDEX = "user_text_search";
+
+    /** Nome do índice único de nomes normalizados da coleção de jogos. */
+    public static final String GAME_NAME_INDEX = "user_normalized_name";
+
+    /** Nome do índice TTL dos registros de exclusão. */
+    private static final String TOMBSTONE_TTL_INDEX = "deleted_at_ttl";
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+    /** A coleção já existe. */
+    private static final int NAMESPACE_EXISTS = 48;
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration playSessionRetention;
+    private final Duration tombstoneRetention;
+
+    public MongoIndexConfig(MongoTemplate mongoTemplate,
+                            @Value("${gamesync.play-sessions.retention:400d}") Duration playSessionRetention,
+                            @Value("${gamesync.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.mongoTemplate = mongoTemplate;
+        this.playSessionRetention = playSessionRetention;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Preenche a sequência de sincronização e a versão de edição dos jogos antigos, cria os
+     * contadores de sequência por usuário a partir das sequências já gravadas e garante o índice TTL
+     * dos registros de exclusão. Se a retenção configurada mudar, o índice existente precisa ser removido (ou
+     * alterado com {@code collMod}) para que o novo valor seja aplicado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureSyncIndexes() {
+        long backfilled = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Game.class))
+                .updateMany(Filters.exists("seq", false), Updates.set("seq", 1L))
+                .getModifiedCount();
+        if (backfilled > 0) {
+            logger.info("Sequência de sincronização preenchida em {} jogos.", backfilled);
+        }
+        long versioned = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Game.class))
+                .updateMany(Filters.exists("version", false), List.of(new Document("$set", new Document("version", "$seq"))))
+                .getModifiedCount();
+        if (versioned > 0) {
+            logger.info("Versão de edição preenchida em {} jogos.", versioned);
+        }
+        if (!mongoTemplate.collectionExists(SyncCounter.class)) {
+            // Cada contador parte da maior sequência já gravada pelo usuário; contadores criados por uma
+            // gravação concorrente apenas sobem, se preciso.
+            String counters = mongoTemplate.getCollectionName(SyncCounter.class);
+            for (Class<?> source : List.of(Game.class, GameTombstone.class)) {
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(source)).aggregate(List.of(
+                        Aggregates.match(Filters.type("userId", "string")),
+                        Aggregates.group("$userId", Accumulators.max("seq", "$seq")),
+                        new Document("$merge", new Document("into", counters)
+                                .append("whenMatched", List.of(new Document("$set", new Document("seq",
+                                        new Document("$max", List.of("$seq", "$$new.seq"))))))
+                                .append("whenNotMatched", "insert"))))
+                        .toCollection();
+            }
+            logger.info("Contadores de sequência criados a partir das sequências gravadas.");
+        }
+        try {
+            mongoTemplate.getCollection(mongoTemplate.getCollectionName(GameTombstone.class)).createIndex(
+                    Indexes.ascending("deletedAt"),
+                    new IndexOptions()
+                            .name(TOMBSTONE_TTL_INDEX)
+                            .expireAfter(tombstoneRetention.toSeconds(), TimeUnit.SECONDS));
+            logger.info("Índice TTL '{}' verificado nos registros de exclusão.", TOMBSTONE_TTL_INDEX);
+        } catch (MongoServerException e) {
+            logger.error("Não foi possível criar o índice TTL '{}': {}", TOMBSTONE_TTL_INDEX, e.getMessage());
+        }
+    }
+
+    /**
+     * Cria a coleção de séries temporais dos trechos de tempo de jogo, se ainda não existir.
+     * Os metadados (usuário e jogo) definem os buckets e o tempo é agrupado por minutos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePlaySessionCollection() {
+        String collection = mongoTemplate.getCollectionName(PlaySession.class);
+        if (mongoTemplate.collectionExists(collection)) {
+            return;
+        }
+        try {
+            mongoTemplate.getDb().createCollection(collection, new CreateCollectionOptions()
+                    .timeSeriesOptions(new TimeSeriesOptions("timestamp")
+                            .metaField("meta")
+                            .granularity(TimeSeriesGranularity.MINUTES))
+                    .expireAfter(playSessionRetention.toSeconds(), TimeUnit.SECONDS));
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+            // Criada por outra instância ao mesmo tempo.
+            return;
+        }
+        logger.info("Coleção de séries temporais '{}' criada.", collection);
+    }
+
+    /**
+     * Garante a existência do índice de texto ao final da inicialização.
+     * A operação é idempotente: se o índice já existir com a mesma definição, nada muda.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureGameTextIndex() {
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Game.class)).createIndex(
+                Indexes.compoundIndex(
+                        Indexes.ascending("userId"),
+                        Indexes.compoundIndex(Indexes.text("name"), Indexes.text("description"), Indexes.text("developer"))),
+                new IndexOptions()
+                        .name(GAME_TEXT_INDEX)
+                        .weights(new Document("name", 10).append("developer", 5).append("description", 1))
+                        .defaultLanguage("portuguese")
+                        .languageOverride("language"));
+        logger.info("Índice de texto '{}' verificado na coleção de jogos.", GAME_TEXT_INDEX);
+    }
+
+    /**
+     * Preenche {@code normalizedName} nos jogos antigos e garante o índice único de nomes.
+     * A migração é idempotente: só toca documentos sem o campo, então reinícios posteriores
+     * apenas confirmam que o índice existe.
+     *
+     * <p>
+     * Sem o índice nada impede nomes duplicados, então a inicialização falha se ele não puder ser
+     * criado. Um duplicado gravado durante a migração (ex: por outra instância ainda sem o índice)
+     * é desambiguado e a criação é repetida uma vez antes de desistir.
+     * </p>
+     *
+     * @throws IllegalStateException Se o índice não puder ser criado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureGameNameIndex() {
+        MongoCollection<Document> games = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Game.class));
+        long backfilled = backfillNormalizedNames(games);
+        long renamed = disambiguateExistingDuplicates(games);
+        if (backfilled > 0 || renamed > 0) {
+            logger.info("Migração de nomes normalizados: {} jogos preenchidos, {} duplicados desambiguados.",
+                    backfilled, renamed);
+        }
+        try {
+            createGameNameIndex(games);
+        } catch (MongoServerException e) {
+            logger.warn("Não foi possível criar o índice único '{}' ({}); desambiguando novamente.",
+                    GAME_NAME_INDEX, e.getMessage());
+            disambiguateExistingDuplicates(games);
+            try {
+                createGameNameIndex(games);
+            } catch (MongoServerException retryFailure) {
+                throw new IllegalStateException("Não foi possível criar o índice único '" + GAME_NAME_INDEX
+                        + "'; sem ele nomes duplicados não são impedidos.", retryFailure);
+            }
+        }
+        logger.info("Índice único '{}' verificado na coleção de jogos.", GAME_NAME_INDEX);
+    }
+
+    private static void createGameNameIndex(MongoCollection<Document> games) {
+        games.createIndex(
+                Indexes.ascending("userId", "normalizedName"),
+                new IndexOptions()
+                        .name(GAME_NAME_INDEX)
+                        .unique(true)
+                        .partialFilterExpression(Filters.type("normalizedName", "string")));
+    }
+
+    /**
+     * Grava {@code normalizedName} em lotes de bulkWrite nos jogos que ainda não o possuem.
+     */
+    private long backfillNormalizedNames(MongoCollection<Document> games) {
+        long updated = 0;
+        List<WriteModel<Document>> batch = new ArrayList<>();
+        for (Document game : games.find(Filters.and(Filters.exists("normalizedName", false), Filters.type("name", "string")))
+                .projection(Projections.include("name"))
+                .batchSize(BACKFILL_BATCH_SIZE)) {
+            batch.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq("_id", game.get("_id")), Filters.eq("name", game.getString("name"))),
+                    Updates.set("normalizedName", NameNormalizer.normalize(game.getString("name")))));
+            if (batch.size() == BACKFILL_BATCH_SIZE) {
+                updated += games.bulkWrite(batch).getModifiedCount();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            updated += games.bulkWrite(batch).getModifiedCount();
+        }
+        return updated;
+    }
+
+    /**
+     * Bibliotecas antigas podem ter nomes que só diferem em maiúsculas ou acentos. O jogo mais
+     * antigo de cada grupo mantém o nome normalizado; nos demais o ID é anexado à chave (o nome
+     * exibido não muda), para que o índice único possa ser criado sem perder dados.
+     */
+    private long disambiguateExistingDuplicates(MongoCollection<Document> games) {
+        long renamed = 0;
+        for (Document group : games.aggregate(List.of(
+                        Aggregates.match(Filters.type("normalizedName", "string")),
+                        Aggregates.sort(Sorts.ascending("_id")),
+                        Aggregates.group(new Document("userId", "$userId").append("normalizedName", "$normalizedName"),
+                                Accumulators.push("ids", "$_id"), Accumulators.sum("count", 1)),
+                        Aggregates.match(Filters.gt("count", 1))))
+                .allowDiskUse(true)) {
+            String normalizedName = group.get("_id", Document.class).getString("normalizedName");
+            List<Object> ids = group.getList("ids", Object.class);
+            for (Object id : ids.subList(1, ids.size())) {
+                String suffix = id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+                renamed += games.updateOne(Filters.eq("_id", id),
+                        Updates.set("normalizedName", normalizedName + "\u0000" + suffix)).getModifiedCount();
+            }
+        }
+        return renamed;
+    }
+}
@@ -0,0 +1,13 @@
+package com.gamesync.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução de tarefas agendadas ({@code @Scheduled}), como a reconciliação
+ * dos resumos de biblioteca.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,8 @@
 package com.gamesync.api.config;
 
+import com.gamesync.api.service.CredentialCacheService;
 import com.gamesync.api.service.CustomUserDetailsService;
+import com.gamesync.api.service.TokenService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,6 +16,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -32,10 +35,12 @@ import java.util.List;
 public class SecurityConfig {
 
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint; // Injeção
+    private final TokenService tokenService;
 
-    // Construtor para injetar o CustomAuthenticationEntryPoint
-    public SecurityConfig(CustomAuthenticationEntryPoint customAuthenticationEntryPoint) {
+    // Construtor para injetar o CustomAuthenticationEntryPoint e o TokenService
+    public SecurityConfig(CustomAuthenticationEntryPoint customAuthenticationEntryPoint, TokenService tokenService) {
         this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
+        this.tokenService = tokenService;
     }
 
     /**
@@ -58,16 +63,22 @@ public class SecurityConfig {
      * {@link PasswordEncoder} para verificar a senha.
      * @param userDetailsService Nosso serviço customizado que busca usuários do banco de dados.
      * @param passwordEncoder O codificador de senhas definido acima.
+     * @param credentialCache Cache de credenciais já verificadas; quando habilitado, envolve o
+     *                        DaoAuthenticationProvider para evitar o BCrypt a cada requisição.
      * @return Uma instância de ProviderManager configurada com o DaoAuthenticationProvider.
      */
     @Bean
     public AuthenticationManager authenticationManager(
             CustomUserDetailsService userDetailsService,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            CredentialCacheService credentialCache
     ) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
+        if (credentialCache.isEnabled()) {
+            return new ProviderManager(new CachingAuthenticationProvider(authenticationProvider, credentialCache));
+        }
         return new ProviderManager(authenticationProvider);
     }
 
@@ -101,8 +112,14 @@ public class SecurityConfig {
                                 "/webjars/**"
                         ).permitAll()
                         .requestMatchers(HttpMethod.POST, "/users/register").permitAll()
+                        // A conta em exclusão já não se autentica; o ID da exclusão é um UUID aleatório.
+                        .requestMatchers(HttpMethod.GET, "/users/deletions/*").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/auth/token", "/auth/refresh").permitAll()
                         .anyRequest().authenticated()
                 )
+                // Tokens Bearer são validados antes do HTTP Basic, sem BCrypt nem acesso ao banco.
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService, customAuthenticationEntryPoint),
+                        BasicAuthenticationFilter.class)
                 .httpBasic(httpBasic -> httpBasic
                         .authenticationEntryPoint(customAuthenticationEntryPoint)
                 )
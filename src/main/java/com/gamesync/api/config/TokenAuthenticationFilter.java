@@ -0,0 +1,74 @@
+package com.gamesync.api.config;
+
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Filtro que autentica requisições com o cabeçalho {@code Authorization: Bearer <token>}.
+ * O token é validado em memória pelo {@link TokenService} e o principal é montado a partir
+ * das claims, sem consultar o banco de dados nem o CustomUserDetailsService.
+ * Requisições sem token Bearer seguem normalmente para os demais filtros (ex: HTTP Basic).
+ * O contexto autenticado é guardado como atributo da requisição (como faz o filtro HTTP Basic),
+ * de modo que os despachos assíncronos das respostas transmitidas (exportação, SSE), que não passam
+ * por este filtro, continuem autenticados.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    /**
+     * @param tokenService             Serviço que valida os tokens de acesso.
+     * @param authenticationEntryPoint Ponto de entrada usado para responder 401 a tokens inválidos.
+     */
+    public TokenAuthenticationFilter(TokenService tokenService, AuthenticationEntryPoint authenticationEntryPoint) {
+        this.tokenService = tokenService;
+        this.authenticationEntryPoint = authenticationEntryPoint;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<TokenService.TokenClaims> claims = tokenService.parseAccessToken(header.substring(BEARER_PREFIX.length()));
+        if (claims.isEmpty()) {
+            SecurityContextHolder.clearContext();
+            authenticationEntryPoint.commence(request, response,
+                    new BadCredentialsException("Token de acesso inválido, expirado ou revogado."));
+            return;
+        }
+
+        UserPrincipal principal = tokenService.toPrincipal(claims.get());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+
+        filterChain.doFilter(request, response);
+    }
+}
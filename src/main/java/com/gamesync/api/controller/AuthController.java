@@ -0,0 +1,91 @@
+package com.gamesync.api.controller;
+
+import com.gamesync.api.dto.ErrorResponse;
+import com.gamesync.api.dto.TokenRefreshDTO;
+import com.gamesync.api.dto.TokenRequestDTO;
+import com.gamesync.api.dto.TokenResponse;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.service.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST para emissão de tokens de acesso.
+ * Permite trocar usuário e senha (verificados uma única vez com BCrypt) por um token de acesso
+ * de curta duração e um token de renovação, usados como alternativa ao HTTP Basic.
+ * Todas as operações são mapeadas sob o caminho base "/auth".
+ */
+@RestController
+@RequestMapping("/auth")
+@Tag(name = "Auth", description = "Emissão e renovação de tokens de acesso.")
+public class AuthController {
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+
+    /**
+     * Construtor para injeção de dependências.
+     * @param authenticationManager Gerenciador que verifica usuário e senha.
+     * @param tokenService Serviço que emite e renova os tokens.
+     */
+    public AuthController(AuthenticationManager authenticationManager, TokenService tokenService) {
+        this.authenticationManager = authenticationManager;
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Endpoint para obter um par de tokens a partir de usuário e senha.
+     * @param tokenRequest DTO contendo username e password.
+     * @return ResponseEntity contendo os tokens emitidos e o status HTTP 200 (OK).
+     */
+    @PostMapping("/token")
+    @Operation(summary = "Emite tokens de acesso",
+            description = "Verifica usuário e senha e retorna um token de acesso (Bearer) e um token de renovação. Não requer autenticação.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tokens emitidos com sucesso.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = TokenResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos ou malformados.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Usuário ou senha inválidos.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<TokenResponse> issueToken(@Valid @RequestBody TokenRequestDTO tokenRequest) {
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(tokenRequest.getUsername(), tokenRequest.getPassword()));
+        return ResponseEntity.ok(tokenService.issueTokens((UserPrincipal) authentication.getPrincipal()));
+    }
+
+    /**
+     * Endpoint para renovar os tokens a partir de um token de renovação válido.
+     * @param refreshRequest DTO contendo o token de renovação.
+     * @return ResponseEntity contendo o novo par de tokens e o status HTTP 200 (OK).
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "Renova os tokens de acesso",
+            description = "Troca um token de renovação válido e não revogado por um novo par de tokens. Não requer autenticação.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tokens renovados com sucesso.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = TokenResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Token de renovação inválido, expirado ou revogado.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<TokenResponse> refreshToken(@Valid @RequestBody TokenRefreshDTO refreshRequest) {
+        return ResponseEntity.ok(tokenService.refresh(refreshRequest.getRefreshToken()));
+    }
+}
@@ -1,11 +1,37 @@
 package com.gamesync.api.controller;
 
+import com.gamesync.api.dto.CursorPageResponse;
 import com.gamesync.api.dto.ErrorResponse;
+import com.gamesync.api.dto.GameBatchResponse;
+import com.gamesync.api.dto.GameBulkResponse;
+import com.gamesync.api.dto.GameBulkUpdateDTO;
+import com.gamesync.api.dto.GameChangeDTO;
+import com.gamesync.api.dto.GameChangeSetResponse;
+import com.gamesync.api.dto.GameChangesResponse;
 import com.gamesync.api.dto.GameCreateDTO;
+import com.gamesync.api.dto.GameFilterDTO;
+import com.gamesync.api.dto.GameLookupResponse;
+import com.gamesync.api.dto.GamePatchDTO;
+import com.gamesync.api.dto.GameSelectionDTO;
+import com.gamesync.api.dto.GameStatsResponse;
+import com.gamesync.api.dto.GameStreamEvent;
 import com.gamesync.api.dto.GameUpdateDTO;
+import com.gamesync.api.dto.PlayTimeHeartbeatDTO;
+import com.gamesync.api.dto.PlayTimeHistoryResponse;
+import com.gamesync.api.exception.BadRequestException;
 import com.gamesync.api.exception.ResourceNotFoundException;
 import com.gamesync.api.model.Game;
+import com.gamesync.api.model.PlayTimePeriod;
+import com.gamesync.api.service.GameAutocompleteService;
+import com.gamesync.api.service.GameEventHub;
+import com.gamesync.api.service.GameExportService;
+import com.gamesync.api.service.GameSearchService;
 import com.gamesync.api.service.GameService;
+import com.gamesync.api.service.GameStatsService;
+import com.gamesync.api.service.GameSyncService;
+import com.gamesync.api.service.LibraryVersionService;
+import com.gamesync.api.service.PlayHistoryService;
+import com.gamesync.api.service.PlayTimeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,9 +39,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -28,10 +62,35 @@ import java.util.List;
 @RequestMapping("/games")
 @Tag(name = "Games", description = "Operações relacionadas ao gerenciamento de jogos.")
 public class GameController {
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String CSV_VALUE = "text/csv";
+
     private final GameService gameService;
+    private final GameExportService gameExportService;
+    private final GameSearchService gameSearchService;
+    private final GameAutocompleteService gameAutocompleteService;
+    private final GameStatsService gameStatsService;
+    private final LibraryVersionService libraryVersionService;
+    private final PlayTimeService playTimeService;
+    private final PlayHistoryService playHistoryService;
+    private final GameSyncService gameSyncService;
+    private final GameEventHub gameEventHub;
 
-    public GameController(GameService gameService) {
+    public GameController(GameService gameService, GameExportService gameExportService,
+                          GameSearchService gameSearchService, GameAutocompleteService gameAutocompleteService,
+                          GameStatsService gameStatsService, LibraryVersionService libraryVersionService,
+                          PlayTimeService playTimeService, PlayHistoryService playHistoryService,
+                          GameSyncService gameSyncService, GameEventHub gameEventHub) {
         this.gameService = gameService;
+        this.gameExportService = gameExportService;
+        this.gameSearchService = gameSearchService;
+        this.gameAutocompleteService = gameAutocompleteService;
+        this.gameStatsService = gameStatsService;
+        this.libraryVersionService = libraryVersionService;
+        this.playTimeService = playTimeService;
+        this.playHistoryService = playHistoryService;
+        this.gameSyncService = gameSyncService;
+        this.gameEventHub = gameEventHub;
     }
 
     /**
@@ -62,24 +121,418 @@ public class GameController {
     }
 
     /**
-     * Endpoint para buscar todos os jogos do usuário atualmente autenticado.
-     * @return ResponseEntity contendo uma lista de jogos e o status HTTP 200 (OK).
+     * Endpoint para criar vários jogos de uma vez (ex: importação de um launcher).
+     * Itens inválidos ou com nome duplicado são reportados individualmente sem impedir a criação dos demais.
+     * @param createDTOs Lista de jogos a criar.
+     * @return ResponseEntity contendo o resultado de cada item e o status HTTP 200 (OK).
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Cria jogos em lote",
+            description = "Adiciona vários jogos à coleção do usuário autenticado com uma única verificação de duplicidade e uma única gravação em lote. A resposta traz o resultado de cada item (CREATED, DUPLICATE, INVALID ou FAILED), na ordem da requisição.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado; consulte o status de cada item.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GameBatchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Lote vazio, malformado ou acima do tamanho máximo.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<GameBatchResponse> createGames(@RequestBody List<GameCreateDTO> createDTOs) {
+        return ResponseEntity.ok(gameService.createGames(createDTOs));
+    }
+
+    /**
+     * Endpoint para buscar vários jogos pelos IDs em uma única requisição (ex: IDs vindos da sincronização
+     * ou de notificações), no lugar de uma chamada a GET /games/{id} por jogo.
+     * @param ids Os IDs dos jogos, na ordem desejada.
+     * @return ResponseEntity contendo os jogos encontrados, na ordem da requisição, os IDs não encontrados
+     *         e o status HTTP 200 (OK).
+     */
+    @PostMapping("/lookup")
+    @Operation(summary = "Busca vários jogos por ID",
+            description = "Retorna, com uma única consulta, os jogos do usuário autenticado cujos IDs foram enviados, na ordem da requisição. IDs inexistentes ou de outros usuários são listados em 'missing'.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Jogos encontrados e IDs ausentes.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GameLookupResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Lista vazia, com IDs vazios ou acima do tamanho máximo.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<GameLookupResponse> lookupGames(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(gameService.findGamesByIdsAndCurrentUser(ids));
+    }
+
+    /**
+     * Endpoint para alterar de uma vez todos os jogos selecionados (ex: marcar como COMPLETED).
+     * @param bulkUpdateDTO A seleção ("where") e a alteração a aplicar.
+     * @return ResponseEntity contendo as quantidades de jogos selecionados e alterados e o status HTTP 200 (OK).
+     */
+    @PostMapping("/bulk-update")
+    @Operation(summary = "Atualiza jogos em massa",
+            description = "Aplica a mesma alteração (status, favorite, language, inclusão ou remoção de genres, tags e platforms) a todos os jogos do usuário autenticado que atendem à seleção, em uma única operação.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Alteração aplicada.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GameBulkResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Seleção ou alteração ausente, ou inclusão e remoção na mesma coleção.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<GameBulkResponse> updateGamesInBulk(@Valid @RequestBody GameBulkUpdateDTO bulkUpdateDTO) {
+        return ResponseEntity.ok(gameService.updateGamesInBulk(bulkUpdateDTO));
+    }
+
+    /**
+     * Endpoint para excluir de uma vez todos os jogos selecionados (ex: tudo de uma plataforma).
+     * @param selection Os critérios de seleção.
+     * @return ResponseEntity contendo a quantidade de jogos excluídos e o status HTTP 200 (OK).
+     */
+    @PostMapping("/bulk-delete")
+    @Operation(summary = "Exclui jogos em massa",
+            description = "Exclui todos os jogos do usuário autenticado que atendem à seleção (ids, status, favorite, genres, platforms, tags), em lotes de até 1000 jogos, registrando as exclusões para a sincronização incremental.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Jogos excluídos.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GameBulkResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Nenhum critério de seleção informado.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<GameBulkResponse> deleteGamesInBulk(@Valid @RequestBody GameSelectionDTO selection) {
+        return ResponseEntity.ok(gameService.deleteGamesInBulk(selection));
+    }
+
+    /**
+     * Endpoint para buscar os jogos do usuário atualmente autenticado.
+     * Sem os parâmetros {@code limit} e {@code cursor}, retorna a biblioteca inteira (comportamento original,
+     * adequado para bibliotecas pequenas). Com qualquer um deles, retorna uma página paginada por cursor.
+     * Filtros (status, favorite, genres, platforms, tags) e ordenação (sort, order) são aplicados no banco.
+     * A resposta traz um ETag baseado na versão da biblioteca, lida do contador de sincronização do usuário
+     * (um único documento, igual em todas as instâncias); se o cliente o reenviar em {@code If-None-Match}
+     * e a biblioteca não tiver mudado, a resposta é 304 sem leitura dos jogos.
+     * @param filter Filtros e ordenação informados na query string.
+     * @param limit Quantidade máxima de jogos por página (opcional).
+     * @param cursor Cursor opaco da próxima página, retornado no campo "next" da página anterior (opcional).
+     * @param ifNoneMatch ETag recebido anteriormente (opcional).
+     * @return ResponseEntity contendo a lista de jogos, ou uma página com cursor, e o status HTTP 200 (OK),
+     *         ou HTTP 304 (Not Modified) se o ETag ainda for válido.
      */
     @GetMapping
-    @Operation(summary = "Lista todos os jogos do usuário",
-            description = "Retorna uma lista de todos os jogos pertencentes ao usuário autenticado.",
+    @Operation(summary = "Lista os jogos do usuário",
+            description = "Retorna os jogos pertencentes ao usuário autenticado, opcionalmente filtrados por status, favorite, genres, platforms e tags e ordenados por addedAt, hoursPlayed ou name (order=asc|desc). Informe 'limit' e/ou 'cursor' para paginação por cursor; sem eles, a lista completa é retornada.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista (ou página) de jogos retornada com sucesso.",
+                            content = @Content(mediaType = "application/json",
+										schema = @Schema(oneOf = { List.class, CursorPageResponse.class }))),
+                    @ApiResponse(responseCode = "304", description = "A biblioteca não mudou desde o ETag informado em If-None-Match."),
+                    @ApiResponse(responseCode = "400", description = "Parâmetro 'limit' fora do intervalo, ordenação não suportada ou cursor inválido.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<?> getAllGamesForCurrentUser(
+            @ParameterObject GameFilterDTO filter,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // A versão é lida antes da consulta: se a biblioteca mudar no meio, o ETag já nasce desatualizado.
+        long version = libraryVersionService.currentLibraryVersion();
+        String etag = libraryVersionService.libraryETag(version);
+        if (matchesETag(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        if (limit == null && cursor == null) {
+            if (filter.hasCriteria()) {
+                return withETag(etag).body(gameService.findAllGamesByCurrentUser(filter));
+            }
+            // O cache de leitura recarrega a biblioteca se a cópia guardada for anterior à versão lida.
+            return withETag(etag).body(gameService.findAllGamesByCurrentUser(version));
+        }
+        CursorPageResponse<Game> page = gameService.findGamesPageByCurrentUser(filter, limit, cursor);
+        return withETag(etag).body(page);
+    }
+
+    /**
+     * Endpoint para busca textual na biblioteca do usuário autenticado.
+     * Os termos são buscados em name, description e developer, com resultados ordenados por relevância.
+     * @param q Os termos da busca.
+     * @param lang Idioma dos termos para stemming: "pt" (padrão) ou "en".
+     * @param limit Quantidade máxima de resultados por página (opcional).
+     * @param cursor Cursor opaco da próxima página (opcional).
+     * @return ResponseEntity contendo a página de resultados e o status HTTP 200 (OK).
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Busca jogos por texto",
+            description = "Busca os termos em name, description e developer dos jogos do usuário autenticado, com stemming em português ou inglês, e retorna os resultados por relevância, paginados por cursor.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Resultados retornados com sucesso.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CursorPageResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Busca vazia, idioma não suportado, limite fora do intervalo ou cursor inválido.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<CursorPageResponse<Game>> searchGames(
+            @RequestParam String q,
+            @RequestParam(required = false) String lang,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(gameSearchService.searchGamesByCurrentUser(q, lang, limit, cursor));
+    }
+
+    /**
+     * Endpoint de autocompletar para o nome de jogos da biblioteca do usuário autenticado.
+     * Pensado para ser chamado a cada tecla digitada: a resposta vem de um índice em memória.
+     * @param prefix O início do nome digitado (sem diferenciar maiúsculas/minúsculas e acentos).
+     * @param limit Quantidade máxima de sugestões (opcional, padrão 10).
+     * @return ResponseEntity contendo os nomes encontrados em ordem alfabética e o status HTTP 200 (OK).
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocompleta nomes de jogos",
+            description = "Retorna os nomes dos jogos do usuário autenticado que começam com o prefixo informado, ignorando maiúsculas/minúsculas e acentos, em ordem alfabética.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = List.class))),
+                    @ApiResponse(responseCode = "400", description = "Parâmetro 'limit' fora do intervalo.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<List<String>> autocompleteGameNames(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(gameAutocompleteService.suggest(prefix, limit));
+    }
+
+    /**
+     * Endpoint da sincronização incremental: retorna apenas os jogos criados, alterados ou excluídos
+     * desde o token da sincronização anterior.
+     * @param since Token recebido na sincronização anterior; sem ele, retorna a biblioteca inteira (opcional).
+     * @param limit Quantidade máxima de itens (opcional).
+     * @return ResponseEntity contendo as alterações, o novo token e o status HTTP 200 (OK).
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Sincronização incremental",
+            description = "Retorna os jogos criados ou alterados e os IDs dos jogos excluídos desde o token informado, com um novo token. " +
+                    "Enquanto 'hasMore' for verdadeiro, repita a chamada com o novo token. Sem 'since', retorna a biblioteca inteira. " +
+                    "Alterações muito recentes podem ser entregues de novo na sincronização seguinte.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Alterações desde o token.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GameChangesResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Token ou limite inválido.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "410", description = "Token anterior à retenção das exclusões; refaça a sincronização completa.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<GameChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(gameSyncService.getChangesForCurrentUser(since, limit));
+    }
+
+    /**
+     * Endpoint para enviar de uma vez as alterações feitas por um dispositivo sem conexão.
+     * As alterações são aplicadas na ordem recebida; conflitos de versão e falhas são reportados
+     * individualmente, com o estado atual de cada jogo.
+     * @param changes Lista ordenada de alterações (CREATE, UPDATE ou DELETE).
+     * @return ResponseEntity contendo o resultado de cada alteração e o status HTTP 200 (OK).
+     */
+    @PostMapping("/changes")
+    @Operation(summary = "Envia alterações em lote",
+            description = "Aplica, na ordem recebida e com uma única gravação em lote, as criações, alterações e exclusões feitas por um dispositivo sem conexão. " +
+                    "Com 'baseVersion', a alteração só é aplicada se o jogo ainda estiver nessa versão; sem ela, apenas os campos informados são gravados. " +
+                    "A resposta traz o resultado de cada item (APPLIED, CONFLICT, NOT_FOUND, DUPLICATE, INVALID ou FAILED) e o estado atual do jogo.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado; consulte o status de cada item.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GameChangeSetResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Lote vazio, malformado ou acima do tamanho máximo.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<GameChangeSetResponse> applyChanges(@RequestBody List<GameChangeDTO> changes) {
+        return ResponseEntity.ok(gameService.applyChanges(changes));
+    }
+
+    /**
+     * Endpoint de eventos (Server-Sent Events) com as alterações da biblioteca do usuário autenticado
+     * em tempo real. A conexão não ocupa uma thread do servidor enquanto está ociosa.
+     * @return SseEmitter que envia os eventos "created", "updated", "deleted" e "reset".
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream de alterações da biblioteca",
+            description = "Mantém a conexão aberta e envia um evento SSE a cada jogo criado ('created'), alterado ('updated') " +
+                    "ou excluído ('deleted'). O evento 'reset' indica alterações em massa ou eventos descartados: sincronize com " +
+                    "GET /games/changes. Conexões que não consomem os eventos a tempo são encerradas; ao reconectar, " +
+                    "use GET /games/changes para obter o que foi perdido.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stream de eventos aberto.",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = GameStreamEvent.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public SseEmitter streamChanges() {
+        return gameEventHub.subscribeCurrentUser();
+    }
+
+    /**
+     * Endpoint para obter as estatísticas da biblioteca do usuário autenticado.
+     * @return ResponseEntity contendo as estatísticas e o status HTTP 200 (OK).
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Estatísticas da biblioteca",
+            description = "Retorna o total de jogos, a soma de horas jogadas, a quantidade de favoritos e as contagens por status, gênero e plataforma, calculados no servidor.",
             security = @SecurityRequirement(name = "basicAuth"),
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Lista de jogos retornada com sucesso.",
+                    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso.",
                             content = @Content(mediaType = "application/json",
-										schema = @Schema(implementation = List.class, subTypes = { Game.class }))),
+                                    schema = @Schema(implementation = GameStatsResponse.class))),
                     @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponse.class)))
             })
-    public ResponseEntity<List<Game>> getAllGamesForCurrentUser() {
-        List<Game> games = gameService.findAllGamesByCurrentUser();
-        return ResponseEntity.ok(games);
+    public ResponseEntity<GameStatsResponse> getLibraryStats() {
+        return ResponseEntity.ok(gameStatsService.getStatsForCurrentUser());
+    }
+
+    /**
+     * Endpoint para obter o histórico de tempo de jogo por dia ou semana, lido dos totais consolidados.
+     * @param period O período de agregação: DAY (padrão) ou WEEK.
+     * @param from Primeiro dia do intervalo (yyyy-MM-dd, UTC).
+     * @param to Último dia do intervalo (yyyy-MM-dd, UTC).
+     * @param gameId O ID de um jogo; sem ele, retorna o total de todos os jogos (opcional).
+     * @return ResponseEntity contendo o histórico e o status HTTP 200 (OK).
+     */
+    @GetMapping("/play-time")
+    @Operation(summary = "Histórico de tempo de jogo",
+            description = "Retorna o tempo jogado (em segundos) por dia ou semana no intervalo informado, de um jogo ou de toda a biblioteca. Os totais são consolidados periodicamente, com alguns minutos de atraso.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Histórico retornado com sucesso.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PlayTimeHistoryResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Intervalo ou período inválido.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<PlayTimeHistoryResponse> getPlayTimeHistory(
+            @RequestParam(defaultValue = "DAY") PlayTimePeriod period,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String gameId) {
+        return ResponseEntity.ok(playHistoryService.getHistoryForCurrentUser(period, gameId, from, to));
+    }
+
+    /**
+     * Endpoint para exportar a biblioteca do usuário autenticado.
+     * O formato é escolhido por negociação de conteúdo (cabeçalho Accept: application/x-ndjson ou text/csv)
+     * ou pelo parâmetro {@code format}. Os jogos são transmitidos um por linha, direto do cursor do banco.
+     * @param accept O cabeçalho Accept da requisição.
+     * @param format Formato explícito ("ndjson" ou "csv"), que tem precedência sobre o Accept (opcional).
+     * @return ResponseEntity com o corpo transmitido e o status HTTP 200 (OK).
+     * @throws BadRequestException Se {@code format} não for "ndjson" nem "csv".
+     */
+    @GetMapping(value = "/export", produces = { NDJSON_VALUE, CSV_VALUE })
+    @Operation(summary = "Exporta a biblioteca do usuário",
+            description = "Transmite todos os jogos do usuário autenticado em NDJSON ou CSV, um registro por linha, com uso de memória constante.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportação transmitida com sucesso."),
+                    @ApiResponse(responseCode = "400", description = "Formato de exportação não suportado.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<StreamingResponseBody> exportGames(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestParam(required = false) String format) {
+        GameExportService.Format exportFormat = resolveExportFormat(accept, format);
+        MediaType contentType = exportFormat == GameExportService.Format.CSV
+                ? MediaType.parseMediaType(CSV_VALUE + ";charset=UTF-8")
+                : MediaType.parseMediaType(NDJSON_VALUE);
+        String extension = exportFormat == GameExportService.Format.CSV ? "csv" : "ndjson";
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"games." + extension + "\"")
+                .body(gameExportService.exportCurrentUserLibrary(exportFormat));
+    }
+
+    /**
+     * Escolhe o formato de exportação: o parâmetro {@code format} tem precedência; depois,
+     * o primeiro tipo do cabeçalho Accept compatível com CSV ou NDJSON. O padrão é NDJSON.
+     * Um valor desconhecido em {@code format} é rejeitado, em vez de cair silenciosamente em NDJSON.
+     */
+    private static GameExportService.Format resolveExportFormat(String accept, String format) {
+        if (format != null) {
+            if ("csv".equalsIgnoreCase(format)) {
+                return GameExportService.Format.CSV;
+            }
+            if ("ndjson".equalsIgnoreCase(format)) {
+                return GameExportService.Format.NDJSON;
+            }
+            throw new BadRequestException("Formato de exportação não suportado: '" + format + "'. Use ndjson ou csv.");
+        }
+        if (accept != null) {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (mediaType.isWildcardType()) {
+                    continue;
+                }
+                if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+                    return GameExportService.Format.CSV;
+                }
+                if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+                    return GameExportService.Format.NDJSON;
+                }
+            }
+        }
+        return GameExportService.Format.NDJSON;
     }
 
     /**
@@ -97,6 +550,7 @@ public class GameController {
                     @ApiResponse(responseCode = "200", description = "Jogo encontrado com sucesso.",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = Game.class))),
+                    @ApiResponse(responseCode = "304", description = "O jogo não mudou desde o ETag informado em If-None-Match."),
                     @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponse.class))),
@@ -104,11 +558,15 @@ public class GameController {
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponse.class)))
             })
-    public ResponseEntity<Game> getGameById(@PathVariable String id) {
+    public ResponseEntity<Game> getGameById(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Game game = gameService.findGameByIdAndCurrentUser(id)
-						.orElseThrow(
-								() -> new ResourceNotFoundException("Jogo com ID '" + id + "' não encontrado ou acesso negado."));
-        return ResponseEntity.ok(game);
+						.orElseThrow(() -> new ResourceNotFoundException("Jogo com ID '" + id + "' não encontrado ou acesso negado."));
+        String etag = libraryVersionService.gameETag(game);
+        if (matchesETag(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return withETag(etag).body(game);
     }
 
     /**
@@ -147,6 +605,69 @@ public class GameController {
         return ResponseEntity.ok(updatedGame);
     }
 
+    /**
+     * Endpoint para atualizar parcialmente um jogo existente.
+     * Apenas os campos enviados são gravados, em uma única operação atômica no banco; edições
+     * simultâneas de campos diferentes (ex: em dois dispositivos) não se sobrescrevem.
+     * @param id O ID do jogo a ser atualizado (passado como variável de caminho).
+     * @param patchDTO DTO contendo apenas os campos a alterar. Validado com @Valid.
+     * @return ResponseEntity contendo o jogo atualizado e o status HTTP 200 (OK).
+     * @throws ResourceNotFoundException se o jogo não for encontrado ou o acesso for negado.
+     */
+    @PatchMapping("/{id}")
+    @Operation(summary = "Atualiza parcialmente um jogo",
+            description = "Grava apenas os campos informados. As coleções genres, tags e platforms podem ser substituídas ou alteradas com addGenres/removeGenres, addTags/removeTags e addPlatforms/removePlatforms. Apenas o proprietário do jogo pode modificá-lo.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Jogo atualizado com sucesso.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = Game.class))),
+                    @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos ou operações conflitantes na mesma coleção.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Jogo não encontrado ou acesso negado.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "O novo nome do jogo já existe para este usuário.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<Game> patchGame(@PathVariable String id, @Valid @RequestBody GamePatchDTO patchDTO) {
+        Game patchedGame = gameService.patchGame(id, patchDTO)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Falha ao atualizar. Jogo com ID '" + id + "' não encontrado ou acesso negado."));
+        return ResponseEntity.ok(patchedGame);
+    }
+
+    /**
+     * Endpoint para o heartbeat de tempo de jogo, enviado pelo cliente (ex: a cada minuto) enquanto o jogo roda.
+     * Os segundos são acumulados em memória e gravados em lote a cada poucos segundos, por isso a resposta
+     * não contém o jogo atualizado. Heartbeats para jogos inexistentes ou de outro usuário são descartados.
+     * @param id O ID do jogo em execução (passado como variável de caminho).
+     * @param heartbeat DTO contendo os segundos jogados desde o último heartbeat. Validado com @Valid.
+     * @return ResponseEntity sem corpo e com o status HTTP 202 (Accepted).
+     */
+    @PostMapping("/{id}/play-time")
+    @Operation(summary = "Registra tempo de jogo",
+            description = "Soma os segundos informados ao tempo de jogo (hoursPlayed). A gravação é feita em lote, alguns segundos depois.",
+            security = @SecurityRequirement(name = "basicAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Heartbeat aceito."),
+                    @ApiResponse(responseCode = "400", description = "Quantidade de segundos inválida.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<Void> recordPlayTime(@PathVariable String id, @Valid @RequestBody PlayTimeHeartbeatDTO heartbeat) {
+        playTimeService.recordHeartbeat(id, heartbeat.getSeconds());
+        return ResponseEntity.accepted().build();
+    }
+
     /**
      * Endpoint para excluir um jogo existente.
      * O acesso é restrito ao proprietário do jogo.
@@ -174,4 +695,41 @@ public class GameController {
             throw new ResourceNotFoundException("Falha ao excluir. Jogo com ID '" + id + "' não encontrado ou acesso negado."); //
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifica se o cabeçalho If-None-Match contém o ETag atual (aceita lista, ETags fracos e "*").
+     * "*" coincide com qualquer representação atual; os chamadores só chegam aqui depois de confirmar
+     * que o recurso existe (um jogo inexistente já resultou em 404).
+     */
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resposta 200 com o ETag informado. "no-cache" permite que o cliente guarde a resposta,
+     * mas o obriga a revalidá-la (If-None-Match) antes de reutilizá-la.
+     */
+    private static ResponseEntity.BodyBuilder withETag(String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate()).build();
+    }
+}
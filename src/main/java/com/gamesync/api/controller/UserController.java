@@ -3,7 +3,9 @@ package com.gamesync.api.controller;
 import com.gamesync.api.dto.UserRegistrationDTO;
 import com.gamesync.api.dto.UserUpdateDTO;
 import com.gamesync.api.exception.ResourceNotFoundException;
+import com.gamesync.api.model.AccountDeletion;
 import com.gamesync.api.model.User;
+import com.gamesync.api.service.AccountDeletionService;
 import com.gamesync.api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,14 +30,17 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Users", description = "Operações relacionadas ao gerenciamento de usuários.") // Anotação adicionada
 public class UserController {
     private final UserService userService;
+    private final AccountDeletionService accountDeletionService;
 
     /**
      * Construtor da classe UserController.
-     * Utilizado pelo Spring para injetar a dependência do UserService.
+     * Utilizado pelo Spring para injetar as dependências do UserService e do AccountDeletionService.
      * @param userService A instância do serviço de usuários.
+     * @param accountDeletionService A instância do serviço que acompanha as exclusões de conta.
      */
-    public UserController(UserService userService) {
+    public UserController(UserService userService, AccountDeletionService accountDeletionService) {
         this.userService = userService;
+        this.accountDeletionService = accountDeletionService;
     }
 
     /**
@@ -167,10 +172,16 @@ public class UserController {
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Exclui um usuário",
-            description = "Remove uma conta de usuário do sistema. Apenas o usuário autenticado pode excluir sua própria conta, o que também remove todos os jogos associados.",
+            description = "Remove uma conta de usuário do sistema. Apenas o usuário autenticado pode excluir sua própria conta, o que também remove todos os jogos associados. " +
+                    "Contas com bibliotecas muito grandes são excluídas em segundo plano: a resposta é 202 com o ID para acompanhar o progresso em GET /users/deletions/{id}.",
             security = @SecurityRequirement(name = "basicAuth"), // Requer autenticação Basic Auth
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Usuário excluído com sucesso (sem conteúdo)."),
+                    @ApiResponse(responseCode = "200", description = "Usuário excluído com sucesso.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = AccountDeletion.class))),
+                    @ApiResponse(responseCode = "202", description = "Exclusão iniciada em segundo plano; a conta já não pode se autenticar.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = AccountDeletion.class))),
                     @ApiResponse(responseCode = "401", description = "Credenciais de autenticação ausentes ou inválidas.",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponse.class))),
@@ -178,11 +189,36 @@ public class UserController {
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponse.class)))
             })
-    public ResponseEntity<Void> deleteUser(@PathVariable String id) {
-        if (userService.deleteUser(id)) {
-            return ResponseEntity.ok().build();
-        } else {
-            throw new ResourceNotFoundException("Falha ao excluir. Usuário com ID '" + id + "' não encontrado ou acesso negado.");
-        }
+    public ResponseEntity<AccountDeletion> deleteUser(@PathVariable String id) {
+        AccountDeletion deletion = userService.deleteUser(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Falha ao excluir. Usuário com ID '" + id + "' não encontrado ou acesso negado."));
+        HttpStatus status = deletion.getStatus() == AccountDeletion.Status.DONE ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(deletion);
+    }
+
+    /**
+     * Endpoint para acompanhar a exclusão de uma conta em segundo plano.
+     * Mapeado para requisições HTTP GET em "/users/deletions/{id}".
+     * Não exige autenticação, pois a conta em exclusão já não consegue se autenticar; o ID é um UUID
+     * aleatório conhecido apenas por quem solicitou a exclusão.
+     * @param id O ID da exclusão, devolvido pelo DELETE /users/{id}.
+     * @return ResponseEntity com o andamento da exclusão e status HTTP 200 (OK).
+     * @throws ResourceNotFoundException Se a exclusão não for encontrada.
+     */
+    @GetMapping("/deletions/{id}")
+    @Operation(summary = "Consulta o andamento da exclusão de uma conta",
+            description = "Retorna o status (RUNNING ou DONE) e a quantidade de jogos já removidos de uma exclusão em segundo plano.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Andamento da exclusão.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = AccountDeletion.class))),
+                    @ApiResponse(responseCode = "404", description = "Exclusão não encontrada.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<AccountDeletion> getDeletionStatus(@PathVariable String id) {
+        return accountDeletionService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Exclusão com ID '" + id + "' não encontrada."));
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.gamesync.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) para respostas paginadas por cursor.
+ * O campo {@code next} é um cursor opaco que deve ser repassado no parâmetro
+ * {@code cursor} para obter a próxima página; é null quando não há mais itens.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ *
+ * @param <T> O tipo dos itens da página.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+	private List<T> items;
+	private String next;
+}
@@ -0,0 +1,55 @@
+package com.gamesync.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) retornado pela criação de jogos em lote (POST /games/batch).
+ * Traz os totais e o resultado de cada item, na mesma ordem da requisição.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class GameBatchResponse {
+
+	/** Situação de um item do lote. */
+	public enum ItemStatus {
+		/** O jogo foi criado. */
+		CREATED,
+		/** Já existe um jogo com o mesmo nome (na biblioteca ou antes no próprio lote). */
+		DUPLICATE,
+		/** O item não passou na validação. */
+		INVALID,
+		/** A gravação do item falhou no banco. */
+		FAILED
+	}
+
+	/** Quantidade de jogos criados. */
+	private int created;
+	/** Quantidade de itens com nome duplicado. */
+	private int duplicates;
+	/** Quantidade de itens inválidos ou cuja gravação falhou. */
+	private int failed;
+	private List<Item> items;
+
+	/**
+	 * Resultado de um item do lote.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Item {
+		/** Posição do item na requisição (a partir de 0). */
+		private int index;
+		private ItemStatus status;
+		/** Nome informado no item. */
+		private String name;
+		/** ID do jogo criado, quando status for CREATED. */
+		private String id;
+		/** Motivo da falha, quando houver. */
+		private String message;
+	}
+}
@@ -0,0 +1,21 @@
+package com.gamesync.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data Transfer Object (DTO) retornado pelas operações em massa sobre jogos.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class GameBulkResponse {
+
+	/** Quantidade de jogos selecionados. */
+	private long matched;
+	/** Quantidade de jogos efetivamente alterados (ou excluídos). */
+	private long modified;
+}
@@ -0,0 +1,58 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.GameStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Set;
+
+/**
+ * Data Transfer Object (DTO) para a atualização em massa de jogos (POST /games/bulk-update).
+ * {@code where} seleciona os jogos; os demais campos descrevem a alteração, aplicada a todos
+ * eles em uma única operação no banco.
+ *
+ * <ul>
+ * <li>status, favorite e language substituem o valor atual ({@code $set}).</li>
+ * <li>add* inclui valores nas coleções sem duplicar ({@code $addToSet}).</li>
+ * <li>remove* retira valores das coleções ({@code $pull}).</li>
+ * </ul>
+ * Uma mesma coleção não pode receber inclusões e remoções na mesma requisição.
+ *
+ * <p>
+ * Usando Lombok para reduzir código boilerplate.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameBulkUpdateDTO {
+
+	@Valid
+	@NotNull(message = "Selection ('where') is required.")
+	private GameSelectionDTO where;
+
+	private GameStatus status;
+
+	private Boolean favorite;
+
+	@Pattern(regexp = "pt|en", message = "Language must be 'pt' or 'en'.")
+	private String language;
+
+	private Set<@Size(max = 50) String> addGenres;
+
+	private Set<String> removeGenres;
+
+	private Set<@Size(max = 50) String> addTags;
+
+	private Set<String> removeTags;
+
+	private Set<@Size(max = 50) String> addPlatforms;
+
+	private Set<String> removePlatforms;
+}
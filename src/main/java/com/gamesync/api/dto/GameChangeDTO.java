@@ -0,0 +1,65 @@
+package com.gamesync.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) de uma alteração feita por um dispositivo sem conexão e enviada
+ * em lote para POST /games/changes. As alterações são aplicadas na ordem da lista.
+ *
+ * <ul>
+ * <li>CREATE: {@code game} traz o jogo; {@code clientId} é um ID local opcional que as alterações
+ * seguintes do mesmo lote podem usar em {@code gameId}.</li>
+ * <li>UPDATE: {@code gameId} e {@code changes}, com a mesma semântica de PATCH /games/{id}.</li>
+ * <li>DELETE: apenas {@code gameId}.</li>
+ * </ul>
+ *
+ * <p>
+ * Com {@code baseVersion} (a {@code version} do jogo que o dispositivo conhecia), a alteração só é
+ * aplicada se o jogo não mudou desde então; caso contrário é devolvida como conflito, com o estado
+ * atual. Sem ela, apenas os campos informados são gravados (o último a escrever vence, campo a campo).
+ * </p>
+ *
+ * <p>
+ * Usando Lombok para reduzir código boilerplate.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameChangeDTO {
+
+	/** Tipo da alteração. */
+	public enum Type {
+		CREATE,
+		UPDATE,
+		DELETE
+	}
+
+	@NotNull(message = "Change type is required.")
+	private Type type;
+
+	/** ID do jogo (UPDATE e DELETE): o ID do servidor ou o {@code clientId} de um CREATE anterior do lote. */
+	private String gameId;
+
+	/** ID local do jogo criado (CREATE). */
+	@Size(max = 100, message = "Client ID must be up to 100 characters.")
+	private String clientId;
+
+	/** Versão do jogo conhecida pelo dispositivo (UPDATE e DELETE, opcional). */
+	private Long baseVersion;
+
+	/** O jogo a criar (CREATE). */
+	@Valid
+	private GameCreateDTO game;
+
+	/** Os campos a alterar (UPDATE). */
+	@Valid
+	private GamePatchDTO changes;
+}
@@ -0,0 +1,63 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.Game;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) retornado pelo envio de alterações em lote (POST /games/changes).
+ * Traz os totais e o resultado de cada alteração, na mesma ordem da requisição, com o estado
+ * atual do jogo no servidor.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class GameChangeSetResponse {
+
+	/** Situação de uma alteração do lote. */
+	public enum ItemStatus {
+		/** A alteração foi aplicada. */
+		APPLIED,
+		/** O jogo mudou desde {@code baseVersion}; {@code game} traz o estado atual. */
+		CONFLICT,
+		/** O jogo não existe (ou já foi excluído). */
+		NOT_FOUND,
+		/** Já existe um jogo com o mesmo nome. */
+		DUPLICATE,
+		/** A alteração não passou na validação. */
+		INVALID,
+		/** A gravação falhou no banco, ou dependia de uma alteração anterior que falhou. */
+		FAILED
+	}
+
+	/** Quantidade de alterações aplicadas. */
+	private int applied;
+	/** Quantidade de conflitos de versão. */
+	private int conflicts;
+	/** Quantidade de alterações rejeitadas por outros motivos. */
+	private int failed;
+	private List<Item> items;
+
+	/**
+	 * Resultado de uma alteração do lote.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Item {
+		/** Posição da alteração na requisição (a partir de 0). */
+		private int index;
+		private ItemStatus status;
+		/** ID do jogo no servidor, quando conhecido. */
+		private String gameId;
+		/** ID local informado no CREATE. */
+		private String clientId;
+		/** Estado atual do jogo no servidor (nulo se ele não existir). */
+		private Game game;
+		/** Motivo da rejeição, quando houver. */
+		private String message;
+	}
+}
@@ -0,0 +1,29 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.Game;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) retornado pela sincronização incremental (GET /games/changes).
+ * Traz os jogos criados ou alterados e os IDs dos jogos excluídos desde o token enviado,
+ * e o novo token a ser usado na próxima sincronização.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class GameChangesResponse {
+
+	/** Jogos criados ou alterados, no estado atual. */
+	private List<Game> changed;
+	/** IDs dos jogos excluídos. */
+	private List<String> deleted;
+	/** Token a enviar em {@code since} na próxima sincronização. */
+	private String token;
+	/** Indica que há mais alterações: a sincronização deve ser repetida imediatamente com o novo token. */
+	private boolean hasMore;
+}
@@ -4,6 +4,7 @@ import com.gamesync.api.model.GameSource;
 import com.gamesync.api.model.GameStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -64,4 +65,8 @@ public class GameCreateDTO {
 
 	@NotNull(message = "Game source is required.")
 	private GameSource source;
+
+	/** Idioma do texto do jogo para a busca textual: "pt" (padrão) ou "en". */
+	@Pattern(regexp = "pt|en", message = "Language must be 'pt' or 'en'.")
+	private String language;
 }
\ No newline at end of file
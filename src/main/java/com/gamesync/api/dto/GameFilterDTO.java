@@ -0,0 +1,58 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.GameStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Set;
+
+/**
+ * Data Transfer Object (DTO) com os filtros e a ordenação aceitos pela listagem de jogos.
+ * É preenchido a partir dos parâmetros de consulta (query string) de "GET /games".
+ *
+ * <p>
+ * Filtros de coleção (genres, platforms, tags) selecionam jogos que possuam pelo menos
+ * um dos valores informados. Todos os filtros informados são combinados com "E".
+ * </p>
+ * 
+ * <p>
+ * Usando Lombok para reduzir código boilerplate.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameFilterDTO {
+
+	private GameStatus status;
+
+	private Boolean favorite;
+
+	private Set<String> genres;
+
+	private Set<String> platforms;
+
+	private Set<String> tags;
+
+	/** Campo de ordenação: addedAt (padrão), hoursPlayed ou name. */
+	private String sort;
+
+	/** Direção da ordenação: asc (padrão) ou desc. */
+	private String order;
+
+	/**
+	 * Indica se algum filtro ou ordenação foi informado.
+	 *
+	 * @return true se a consulta difere da listagem padrão.
+	 */
+	public boolean hasCriteria() {
+		return status != null || favorite != null
+				|| (genres != null && !genres.isEmpty())
+				|| (platforms != null && !platforms.isEmpty())
+				|| (tags != null && !tags.isEmpty())
+				|| (sort != null && !sort.isBlank())
+				|| (order != null && !order.isBlank());
+	}
+}
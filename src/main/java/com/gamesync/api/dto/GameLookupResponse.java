@@ -0,0 +1,25 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.Game;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) retornado pela busca de vários jogos por ID (POST /games/lookup).
+ * Os jogos vêm na ordem dos IDs da requisição; os IDs sem jogo correspondente na biblioteca
+ * do usuário são listados em {@code missing}.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class GameLookupResponse {
+
+	/** Jogos encontrados, na ordem da requisição (IDs repetidos aparecem uma única vez). */
+	private List<Game> games;
+	/** IDs que não existem ou não pertencem ao usuário autenticado, na ordem da requisição. */
+	private List<String> missing;
+}
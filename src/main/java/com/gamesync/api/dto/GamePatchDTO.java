@@ -0,0 +1,73 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.GameStatus;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Set;
+
+/**
+ * Data Transfer Object (DTO) para a atualização parcial de um jogo (PATCH /games/{id}).
+ * Apenas os campos informados são gravados; os demais permanecem como estão no banco,
+ * mesmo que outro dispositivo os tenha alterado ao mesmo tempo.
+ *
+ * <p>
+ * As coleções (genres, tags, platforms) podem ser substituídas por inteiro ou alteradas com
+ * add* (inclui sem duplicar) e remove* (retira). Uma coleção não pode ser substituída e
+ * alterada na mesma requisição, nem receber inclusões e remoções ao mesmo tempo.
+ * </p>
+ *
+ * <p>
+ * Usando Lombok para reduzir código boilerplate.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GamePatchDTO {
+
+	@Size(max = 255, message = "Game name must be up to 255 characters.")
+	private String name;
+
+	@Size(max = 2000, message = "Description must be up to 2000 characters.")
+	private String description;
+
+	@Size(max = 100, message = "Developer name must be up to 100 characters.")
+	private String developer;
+
+	@Size(max = 1024, message = "Image URL must be up to 1024 characters.")
+	private String imageUrl;
+
+	@PositiveOrZero(message = "Hours played must be zero or positive.")
+	private Integer hoursPlayed;
+
+	private Boolean favorite;
+
+	private Set<@Size(max = 50) String> genres;
+
+	private Set<@Size(max = 50) String> addGenres;
+
+	private Set<String> removeGenres;
+
+	private Set<@Size(max = 50) String> tags;
+
+	private Set<@Size(max = 50) String> addTags;
+
+	private Set<String> removeTags;
+
+	private Set<@Size(max = 50) String> platforms;
+
+	private Set<@Size(max = 50) String> addPlatforms;
+
+	private Set<String> removePlatforms;
+
+	private GameStatus status;
+
+	@Pattern(regexp = "pt|en", message = "Language must be 'pt' or 'en'.")
+	private String language;
+}
@@ -0,0 +1,58 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.GameStatus;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Set;
+
+/**
+ * Data Transfer Object (DTO) que seleciona os jogos afetados por uma operação em massa
+ * (POST /games/bulk-update e POST /games/bulk-delete).
+ *
+ * <p>
+ * Os critérios informados são combinados com "E" e sempre restritos aos jogos do usuário
+ * autenticado. Filtros de coleção (genres, platforms, tags) selecionam jogos que possuam pelo
+ * menos um dos valores informados. Pelo menos um critério é obrigatório, para que uma requisição
+ * vazia nunca afete a biblioteca inteira.
+ * </p>
+ *
+ * <p>
+ * Usando Lombok para reduzir código boilerplate.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameSelectionDTO {
+
+	/** IDs explícitos dos jogos. */
+	@Size(max = 1000, message = "At most 1000 ids can be selected.")
+	private Set<String> ids;
+
+	private GameStatus status;
+
+	private Boolean favorite;
+
+	private Set<String> genres;
+
+	private Set<String> platforms;
+
+	private Set<String> tags;
+
+	/**
+	 * Indica se algum critério foi informado.
+	 *
+	 * @return true se houver pelo menos um critério de seleção.
+	 */
+	public boolean hasCriteria() {
+		return (ids != null && !ids.isEmpty())
+				|| status != null || favorite != null
+				|| (genres != null && !genres.isEmpty())
+				|| (platforms != null && !platforms.isEmpty())
+				|| (tags != null && !tags.isEmpty());
+	}
+}
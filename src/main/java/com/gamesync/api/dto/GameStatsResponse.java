@@ -0,0 +1,34 @@
+package com.gamesync.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) com as estatísticas da biblioteca de um usuário,
+ * usado pelo painel (dashboard) do cliente.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class GameStatsResponse {
+
+	/** Quantidade total de jogos. */
+	private long total;
+	/** Soma de hoursPlayed de todos os jogos. */
+	private long hoursPlayed;
+	/** Quantidade de jogos marcados como favoritos. */
+	private long favorites;
+	/** Quantidade de jogos por status (todos os valores de GameStatus, inclusive os zerados). */
+	private Map<String, Long> byStatus;
+	/** Quantidade de jogos por gênero, do mais para o menos frequente. */
+	private Map<String, Long> byGenre;
+	/** Quantidade de jogos por plataforma, da mais para a menos frequente. */
+	private Map<String, Long> byPlatform;
+	/** Momento da última alteração da biblioteca, quando conhecido. */
+	private Date lastModified;
+}
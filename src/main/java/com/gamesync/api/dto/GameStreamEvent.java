@@ -0,0 +1,39 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.Game;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data Transfer Object (DTO) enviado como dado de cada evento de GET /games/stream.
+ * O nome do evento SSE é o {@code type} em minúsculas (ex: "created").
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class GameStreamEvent {
+
+	/** Tipo da alteração. */
+	public enum Type {
+		/** Um jogo foi criado; {@code game} traz o jogo. */
+		CREATED,
+		/** Um jogo foi alterado; {@code game} traz o estado atual. */
+		UPDATED,
+		/** Um jogo foi excluído; apenas {@code gameId} é informado. */
+		DELETED,
+		/**
+		 * A biblioteca foi alterada em massa, ou eventos deste dispositivo foram descartados:
+		 * o cliente deve sincronizar com GET /games/changes.
+		 */
+		RESET
+	}
+
+	private Type type;
+	/** O ID do jogo afetado (nulo em RESET). */
+	private String gameId;
+	/** O jogo criado ou alterado (nulo em DELETED e RESET). */
+	private Game game;
+}
@@ -2,6 +2,7 @@
 package com.gamesync.api.dto;
 
 import com.gamesync.api.model.GameStatus;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -63,4 +64,7 @@ public class GameUpdateDTO {
 	private Set<@Size(max = 50) String> platforms;
 
 	private GameStatus status;
+
+	@Pattern(regexp = "pt|en", message = "Language must be 'pt' or 'en'.")
+	private String language;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.gamesync.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) para o heartbeat de tempo de jogo, enviado periodicamente
+ * pelo cliente enquanto o jogo está em execução.
+ * 
+ * Utilizando Lombok para reduzir código boilerplate.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayTimeHeartbeatDTO {
+
+	@NotNull(message = "Seconds is required.")
+	@Min(value = 1, message = "Seconds must be at least 1.")
+	@Max(value = 3600, message = "Seconds must be at most 3600.")
+	private Integer seconds;
+}
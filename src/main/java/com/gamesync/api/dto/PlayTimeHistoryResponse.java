@@ -0,0 +1,38 @@
+package com.gamesync.api.dto;
+
+import com.gamesync.api.model.PlayTimePeriod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) retornado pelo histórico de tempo de jogo (GET /games/play-time).
+ * Contém apenas os períodos com tempo de jogo registrado, em ordem cronológica.
+ *
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class PlayTimeHistoryResponse {
+
+	private PlayTimePeriod period;
+	/** O jogo consultado, ou null para o total de todos os jogos. */
+	private String gameId;
+	private long totalSeconds;
+	private List<Point> points;
+
+	/**
+	 * Total de um período.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Point {
+		/** Primeiro dia do período (UTC). */
+		private LocalDate start;
+		private long seconds;
+	}
+}
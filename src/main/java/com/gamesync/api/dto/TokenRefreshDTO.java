@@ -0,0 +1,23 @@
+package com.gamesync.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) para trocar um token de renovação por um novo par de tokens
+ * no endpoint "/auth/refresh".
+ * 
+ * Utilizando Lombok para reduzir código boilerplate.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRefreshDTO {
+
+	@NotBlank(message = "Refresh token is required.")
+	private String refreshToken;
+}
@@ -0,0 +1,27 @@
+package com.gamesync.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) com as credenciais usadas para obter um par de tokens
+ * no endpoint "/auth/token".
+ * A senha é verificada uma única vez; as requisições seguintes usam o token de acesso.
+ * 
+ * Utilizando Lombok para reduzir código boilerplate.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRequestDTO {
+
+	@NotBlank(message = "Username is required.")
+	private String username;
+
+	@NotBlank(message = "Password is required.")
+	private String password;
+}
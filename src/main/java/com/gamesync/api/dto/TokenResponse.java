@@ -0,0 +1,23 @@
+package com.gamesync.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data Transfer Object (DTO) retornado pelos endpoints de emissão e renovação de tokens.
+ * O token de acesso deve ser enviado no cabeçalho {@code Authorization: Bearer <token>}.
+ * 
+ * Utilizando Lombok:
+ * - @Getter: Gera getters para todos os campos
+ * - @AllArgsConstructor: Gera construtor com todos os argumentos
+ */
+@Getter
+@AllArgsConstructor
+public class TokenResponse {
+
+	private String accessToken;
+	private String refreshToken;
+	private String tokenType;
+	/** Validade do token de acesso, em segundos. */
+	private long expiresIn;
+}
@@ -0,0 +1,46 @@
+package com.gamesync.api.event;
+
+import com.gamesync.api.model.Game;
+
+/**
+ * Evento publicado pelo GameService (via ApplicationEventPublisher) sempre que a
+ * biblioteca de um usuário é alterada. Componentes que mantêm dados derivados dos jogos
+ * (índices em memória, caches, resumos) escutam este evento com {@code @EventListener}
+ * para se manterem atualizados.
+ *
+ * <ul>
+ * <li>Criação: {@code before} nulo e {@code after} preenchido.</li>
+ * <li>Atualização: ambos preenchidos ({@code before} é uma cópia do estado anterior).</li>
+ * <li>Exclusão: {@code before} preenchido e {@code after} nulo.</li>
+ * <li>Alteração em massa: ambos nulos; os ouvintes devem descartar tudo o que sabem sobre o usuário.</li>
+ * </ul>
+ *
+ * @param userId O ID do usuário dono da biblioteca alterada.
+ * @param before O estado do jogo antes da alteração, se houver.
+ * @param after  O estado do jogo depois da alteração, se houver.
+ */
+public record GameChangedEvent(String userId, Game before, Game after) {
+
+	public static GameChangedEvent created(Game game) {
+		return new GameChangedEvent(game.getUserId(), null, game);
+	}
+
+	public static GameChangedEvent updated(Game before, Game after) {
+		return new GameChangedEvent(after.getUserId(), before, after);
+	}
+
+	public static GameChangedEvent deleted(Game game) {
+		return new GameChangedEvent(game.getUserId(), game, null);
+	}
+
+	public static GameChangedEvent libraryReset(String userId) {
+		return new GameChangedEvent(userId, null, null);
+	}
+
+	/**
+	 * @return true se o evento representa uma alteração em massa, sem detalhes por jogo.
+	 */
+	public boolean isLibraryReset() {
+		return before == null && after == null;
+	}
+}
@@ -0,0 +1,36 @@
+package com.gamesync.api.event;
+
+/**
+ * Evento publicado quando um jogo foi alterado no banco, por esta ou por outra instância da API
+ * (ver ChangeStreamService). Os caches locais derivados dos jogos devem descartar o que sabem
+ * sobre o jogo e a biblioteca do dono.
+ *
+ * <ul>
+ * <li>{@code userId} nulo: o dono não é conhecido; os caches devem descartar todas as bibliotecas.</li>
+ * <li>{@code userId} e {@code gameId} nulos: os caches devem ser esvaziados por completo
+ * (ex: eventos podem ter sido perdidos).</li>
+ * </ul>
+ *
+ * @param userId      O ID do dono do jogo, se conhecido.
+ * @param gameId      O ID do jogo alterado.
+ * @param nameChanged false quando se sabe que o nome do jogo não mudou (ex: apenas o tempo de jogo
+ *                    foi somado); índices derivados só do nome podem então ignorar o evento.
+ * @param created     true quando o jogo acabou de ser inserido.
+ */
+public record GameInvalidationEvent(String userId, String gameId, boolean nameChanged, boolean created) {
+
+	public GameInvalidationEvent(String userId, String gameId, boolean nameChanged) {
+		this(userId, gameId, nameChanged, false);
+	}
+
+	public static GameInvalidationEvent all() {
+		return new GameInvalidationEvent(null, null, true);
+	}
+
+	/**
+	 * @return true se os caches devem ser esvaziados por completo.
+	 */
+	public boolean isAll() {
+		return userId == null && gameId == null;
+	}
+}
@@ -0,0 +1,22 @@
+package com.gamesync.api.event;
+
+/**
+ * Evento publicado quando um usuário foi alterado no banco, por esta ou por outra instância da API
+ * (ver ChangeStreamService). Os caches locais de credenciais, principals e gerações de token
+ * devem descartar as entradas do usuário.
+ *
+ * @param userId O ID do usuário alterado, ou null para esvaziar os caches por completo.
+ */
+public record UserInvalidationEvent(String userId) {
+
+	public static UserInvalidationEvent all() {
+		return new UserInvalidationEvent(null);
+	}
+
+	/**
+	 * @return true se os caches devem ser esvaziados por completo.
+	 */
+	public boolean isAll() {
+		return userId == null;
+	}
+}
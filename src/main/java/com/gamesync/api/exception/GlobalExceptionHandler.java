@@ -1,9 +1,12 @@
 package com.gamesync.api.exception;
+import com.gamesync.api.config.MongoIndexConfig;
 import com.gamesync.api.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -56,6 +59,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handler para a exceção customizada {@link SyncTokenExpiredException}.
+     * Chamado quando um dispositivo sincroniza com um token anterior à retenção das exclusões.
+     * @param ex A instância da exceção SyncTokenExpiredException lançada.
+     * @return Um ResponseEntity contendo um ErrorResponse com status HTTP 410 (Gone).
+     */
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleSyncTokenExpiredException(SyncTokenExpiredException ex) {
+        logger.warn(ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.GONE.value(),
+                HttpStatus.GONE,
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.GONE);
+    }
+
     /**
      * Handler para a exceção customizada {@link DuplicateResourceException}.
      * Chamado quando uma tentativa de criar um recurso falha devido a um conflito (recurso já existe).
@@ -73,6 +93,38 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handler para {@link DuplicateKeyException}, lançada pelo MongoDB quando uma gravação viola
+     * um índice único (ex: dois jogos com o mesmo nome normalizado para o mesmo usuário).
+     * É traduzida em uma {@link DuplicateResourceException}, sem expor a chave duplicada ao cliente.
+     * @param ex A instância da exceção DuplicateKeyException lançada.
+     * @return Um ResponseEntity contendo um ErrorResponse com status HTTP 409 (Conflict).
+     */
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateKeyException(DuplicateKeyException ex) {
+        String message = ex.getMessage() != null && ex.getMessage().contains(MongoIndexConfig.GAME_NAME_INDEX)
+                ? "Já existe um jogo com este nome para este usuário."
+                : "O recurso já existe.";
+        return handleDuplicateResourceException(new DuplicateResourceException(message));
+    }
+
+    /**
+     * Handler para {@link AuthenticationException} do Spring Security.
+     * Chamado quando credenciais ou tokens enviados aos endpoints de autenticação ("/auth") são inválidos.
+     * @param ex A instância da exceção AuthenticationException lançada.
+     * @return Um ResponseEntity contendo um ErrorResponse com status HTTP 401 (Unauthorized).
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException ex) {
+        logger.warn("Authentication failed: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNAUTHORIZED.value(),
+                HttpStatus.UNAUTHORIZED,
+                "Credenciais inválidas."
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+    }
+
     /**
      * Handler para a exceção genérica {@link IllegalArgumentException}.
      * Pode ser lançada por várias partes da aplicação (incluindo serviços) para indicar um argumento inválido.
@@ -0,0 +1,17 @@
+package com.gamesync.api.exception;
+
+/**
+ * Exceção lançada quando um token de sincronização é mais antigo que a retenção dos registros
+ * de exclusão (HTTP 410 - Gone): as exclusões daquele período já foram compactadas e não podem
+ * mais ser informadas, então o dispositivo precisa refazer a sincronização completa.
+ */
+public class SyncTokenExpiredException extends RuntimeException {
+
+    /**
+     * Construtor que aceita uma mensagem detalhando a causa da exceção.
+     * @param message A mensagem de detalhe (que é salva para recuperação posterior pelo método {@link Throwable#getMessage()}).
+     */
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
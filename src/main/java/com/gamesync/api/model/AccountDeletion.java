@@ -0,0 +1,68 @@
+package com.gamesync.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * Andamento da exclusão de uma conta, mapeado para a coleção "account_deletions".
+ * Contas com bibliotecas muito grandes são excluídas em segundo plano, em lotes; este documento
+ * registra o progresso e permite retomar a exclusão após uma queda da instância que a executava.
+ *
+ * O ID é um UUID aleatório, devolvido ao cliente para consultar o andamento em
+ * GET /users/deletions/{id} (a conta já não pode se autenticar durante a exclusão).
+ *
+ * Usando Lombok para reduzir código boilerplate:
+ * - @Data: gera getters, setters, equals, hashCode e toString
+ * - @NoArgsConstructor: gera construtor sem argumentos
+ * - @AllArgsConstructor: gera construtor com todos os argumentos
+ * - @Builder: implementa o padrão Builder para criação de objetos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "account_deletions")
+public class AccountDeletion {
+
+	/**
+	 * Situação da exclusão.
+	 */
+	public enum Status {
+		/** Jogos ainda sendo removidos. */
+		RUNNING,
+		/** Conta e dados removidos. */
+		DONE
+	}
+
+	@Id
+	private String id;
+
+	@JsonIgnore
+	private String userId;
+
+	@Indexed
+	private Status status;
+
+	/** Quantidade de jogos da conta quando a exclusão começou. */
+	private long totalGames;
+	private long deletedGames;
+
+	private Date startedAt;
+	private Date updatedAt;
+	private Date finishedAt;
+
+	/** Instância que está executando a exclusão. */
+	@JsonIgnore
+	private String leaseOwner;
+
+	/** Até quando a instância atual detém a exclusão; depois disso outra instância pode retomá-la. */
+	@JsonIgnore
+	private Date leaseUntil;
+}
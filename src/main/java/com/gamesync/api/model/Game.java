@@ -1,10 +1,14 @@
 package com.gamesync.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import java.util.Date;
@@ -22,16 +26,46 @@ import java.util.Set;
  * - @NoArgsConstructor: gera construtor sem argumentos
  * - @AllArgsConstructor: gera construtor com todos os argumentos
  * - @Builder: implementa o padrão Builder para criação de objetos
+ * 
+ * Os índices compostos iniciados por userId sustentam a paginação por cursor
+ * (keyset) e os filtros/ordenações da listagem de jogos do usuário: um índice por
+ * campo de ordenação (added_at, hours_played, name) e um por filtro (status,
+ * favorite e os campos multivalorados genres, platforms e tags).
+ * 
+ * A unicidade do nome por usuário é garantida pelo índice único parcial sobre
+ * (userId, normalizedName), criado em {@link com.gamesync.api.config.MongoIndexConfig}
+ * depois do preenchimento dos documentos antigos.
+ * 
+ * O índice (userId, seq, _id) sustenta a sincronização incremental (GET /games/changes):
+ * cada gravação de um jogo recebe uma nova sequência ({@code seq}).
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "games")
+@CompoundIndexes({
+		@CompoundIndex(name = "user_added_at_id", def = "{'userId': 1, 'added_at': 1, '_id': 1}"),
+		@CompoundIndex(name = "user_hours_played_id", def = "{'userId': 1, 'hours_played': 1, '_id': 1}"),
+		@CompoundIndex(name = "user_name_id", def = "{'userId': 1, 'name': 1, '_id': 1}"),
+		@CompoundIndex(name = "user_status_added_at_id", def = "{'userId': 1, 'status': 1, 'added_at': 1, '_id': 1}"),
+		@CompoundIndex(name = "user_favorite_added_at_id", def = "{'userId': 1, 'favorite': 1, 'added_at': 1, '_id': 1}"),
+		@CompoundIndex(name = "user_genres_added_at", def = "{'userId': 1, 'genres': 1, 'added_at': 1}"),
+		@CompoundIndex(name = "user_platforms_added_at", def = "{'userId': 1, 'platforms': 1, 'added_at': 1}"),
+		@CompoundIndex(name = "user_tags_added_at", def = "{'userId': 1, 'tags': 1, 'added_at': 1}"),
+		@CompoundIndex(name = "user_seq_id", def = "{'userId': 1, 'seq': 1, '_id': 1}")
+})
 public class Game {
 	@Id
 	private String id;
 	private String name;
+
+	/**
+	 * Nome normalizado (sem acentos, minúsculo e sem espaços nas extremidades), mantido
+	 * junto com {@code name} pelo GameService e usado apenas pelo índice único de nomes.
+	 */
+	@JsonIgnore
+	private String normalizedName;
 	private String description;
 	private String developer;
 	private String userId;
@@ -39,6 +73,13 @@ public class Game {
 
 		@Field("hours_played")
 		private Integer hoursPlayed;
+
+		/**
+		 * Segundos jogados além das horas inteiras de {@code hoursPlayed} (0 a 3599), acumulados
+		 * pelos heartbeats de tempo de jogo; a cada 3600 segundos uma hora é somada a hoursPlayed.
+		 */
+		@Field("play_seconds")
+		private Integer playSeconds;
 		private boolean favorite;
 
 		@Builder.Default
@@ -55,4 +96,25 @@ public class Game {
 
 		@Field("added_at")
 		private Date addedAt;
+
+		/**
+		 * Idioma do texto do jogo ("pt" ou "en"), usado pelo índice de texto para
+		 * escolher o stemmer de name, description e developer. Ausente equivale a "pt".
+		 */
+		private String language;
+
+		/**
+		 * Sequência da última gravação do jogo (ver {@link com.gamesync.api.service.SyncSequence}),
+		 * usada pela sincronização incremental. Muda a cada gravação, inclusive de tempo de jogo.
+		 */
+		@JsonIgnore
+		private Long seq;
+
+		/**
+		 * Versão de edição: a sequência da última alteração feita pelo usuário (criação, edição ou
+		 * alteração em massa). Não muda com o tempo de jogo dos heartbeats, então é ela que o envio
+		 * de alterações (POST /games/changes) compara com a {@code baseVersion}. Somente leitura.
+		 */
+		@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+		private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.gamesync.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * Registro da exclusão de um jogo, mantido para que a sincronização incremental
+ * (GET /games/changes) informe aos dispositivos quais jogos deixaram de existir.
+ * Esta classe é mapeada para a coleção "game_tombstones" no banco de dados MongoDB.
+ *
+ * <p>
+ * O ID é o do jogo excluído. Os registros são removidos pelo índice TTL sobre {@code deletedAt}
+ * após {@code gamesync.sync.tombstone-retention} (criado em
+ * {@link com.gamesync.api.config.MongoIndexConfig}); tokens mais antigos que isso exigem uma
+ * sincronização completa.
+ * </p>
+ *
+ * Usando Lombok para reduzir código boilerplate:
+ * - @Data: gera getters, setters, equals, hashCode e toString
+ * - @NoArgsConstructor: gera construtor sem argumentos
+ * - @AllArgsConstructor: gera construtor com todos os argumentos
+ * - @Builder: implementa o padrão Builder para criação de objetos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "game_tombstones")
+@CompoundIndex(name = "user_seq_id", def = "{'userId': 1, 'seq': 1, '_id': 1}")
+public class GameTombstone {
+	@Id
+	private String id;
+	private String userId;
+	/** Sequência da exclusão (ver {@link com.gamesync.api.service.SyncSequence}). */
+	private long seq;
+	private Date deletedAt;
+}
@@ -0,0 +1,57 @@
+package com.gamesync.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resumo pré-calculado da biblioteca de um usuário, mapeado para a coleção "library_summaries".
+ * O ID do documento é o próprio ID do usuário, então a leitura é uma busca pontual pela chave primária.
+ *
+ * O documento é mantido incrementalmente: cada alteração de jogo aplica apenas a diferença
+ * ({@code $inc}) entre o estado anterior e o novo. Um job de reconciliação o recalcula
+ * periodicamente a partir da coleção de jogos.
+ *
+ * As chaves dos mapas (status, gênero e plataforma) são gravadas com '.' e '$' substituídos,
+ * pois esses caracteres não são permitidos em nomes de campo do MongoDB (ver LibrarySummaryService).
+ *
+ * Usando Lombok para reduzir código boilerplate:
+ * - @Data: gera getters, setters, equals, hashCode e toString
+ * - @NoArgsConstructor: gera construtor sem argumentos
+ * - @AllArgsConstructor: gera construtor com todos os argumentos
+ * - @Builder: implementa o padrão Builder para criação de objetos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "library_summaries")
+public class LibrarySummary {
+	/** O ID do usuário dono da biblioteca. */
+	@Id
+	private String id;
+
+	private long total;
+	private long hoursPlayed;
+	private long favorites;
+
+	@Builder.Default
+	private Map<String, Long> byStatus = new HashMap<>();
+
+	@Builder.Default
+	private Map<String, Long> byGenre = new HashMap<>();
+
+	@Builder.Default
+	private Map<String, Long> byPlatform = new HashMap<>();
+
+	private Date lastModified;
+
+	/** Incrementado a cada alteração; usado pela reconciliação para não sobrescrever atualizações concorrentes. */
+	private long version;
+}
@@ -0,0 +1,56 @@
+package com.gamesync.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+import java.util.Date;
+
+/**
+ * Trecho de tempo de jogo gravado junto com cada gravação em lote dos heartbeats, mapeado para a
+ * coleção de séries temporais "play_sessions" (criada em {@link com.gamesync.api.config.MongoIndexConfig}).
+ * O MongoDB agrupa os documentos em buckets por {@code meta} (usuário e jogo) e por tempo, de modo que
+ * milhões de trechos ocupam poucos buckets e consultas por intervalo de tempo leem apenas os buckets do intervalo.
+ *
+ * Os trechos brutos não são consultados pela API: o histórico é lido de {@link PlayTimeRollup}.
+ *
+ * Usando Lombok para reduzir código boilerplate:
+ * - @Data: gera getters, setters, equals, hashCode e toString
+ * - @NoArgsConstructor: gera construtor sem argumentos
+ * - @AllArgsConstructor: gera construtor com todos os argumentos
+ * - @Builder: implementa o padrão Builder para criação de objetos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "play_sessions")
+@TimeSeries(collection = "play_sessions", timeField = "timestamp", metaField = "meta", granularity = Granularity.MINUTES)
+public class PlaySession {
+	@Id
+	private String id;
+
+	/** Instante em que o trecho foi gravado. */
+	private Date timestamp;
+
+	/** Metadados da série: o dono e o jogo. */
+	private Meta meta;
+
+	/** Segundos jogados no trecho. */
+	private long seconds;
+
+	/**
+	 * Metadados de um trecho de tempo de jogo.
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Meta {
+		private String userId;
+		private String gameId;
+	}
+}
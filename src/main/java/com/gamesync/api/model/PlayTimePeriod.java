@@ -0,0 +1,10 @@
+package com.gamesync.api.model;
+
+/**
+ * Períodos em que o tempo de jogo é consolidado ({@link PlayTimeRollup}).
+ * Os períodos são calculados em UTC; semanas começam na segunda-feira.
+ */
+public enum PlayTimePeriod {
+	DAY,
+	WEEK
+}
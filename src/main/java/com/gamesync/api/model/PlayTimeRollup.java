@@ -0,0 +1,47 @@
+package com.gamesync.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * Total de tempo de jogo de um usuário em um dia ou semana, mapeado para a coleção "play_time_rollups".
+ * Há um documento por (usuário, jogo, período, início do período) e outro com {@code gameId} nulo
+ * contendo o total de todos os jogos do usuário. Um ano de histórico diário ocupa, portanto, 365
+ * documentos por série, independentemente de quantos trechos brutos ({@link PlaySession}) existam.
+ *
+ * Os documentos são gerados pelo job de consolidação do PlayHistoryService; o ID é
+ * "userId:gameId:período:início" ("*" no lugar do gameId para o total do usuário).
+ *
+ * Usando Lombok para reduzir código boilerplate:
+ * - @Data: gera getters, setters, equals, hashCode e toString
+ * - @NoArgsConstructor: gera construtor sem argumentos
+ * - @AllArgsConstructor: gera construtor com todos os argumentos
+ * - @Builder: implementa o padrão Builder para criação de objetos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "play_time_rollups")
+@CompoundIndex(name = "user_game_period_start", def = "{'userId': 1, 'gameId': 1, 'period': 1, 'periodStart': 1}")
+public class PlayTimeRollup {
+	@Id
+	private String id;
+	private String userId;
+
+	/** O jogo, ou null para o total de todos os jogos do usuário. */
+	private String gameId;
+
+	private PlayTimePeriod period;
+
+	/** Início do período (meia-noite UTC; segunda-feira para semanas). */
+	private Date periodStart;
+
+	private long seconds;
+}
@@ -0,0 +1,59 @@
+package com.gamesync.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Contador das sequências de sincronização de um usuário, mapeado para a coleção "sync_sequences".
+ * O ID do documento é o próprio ID do usuário.
+ *
+ * Toda gravação na biblioteca reserva antes uma faixa de sequências ({@code seq} avança com a
+ * reserva) e registra a reserva em {@code pending} até terminar. Enquanto uma reserva estiver
+ * pendente, a sincronização incremental não entrega nada a partir dela: o valor "assentado" é
+ * {@code seq}, ou a primeira sequência pendente menos um (ver
+ * {@link com.gamesync.api.service.SyncSequence}).
+ *
+ * Usando Lombok para reduzir código boilerplate:
+ * - @Data: gera getters, setters, equals, hashCode e toString
+ * - @NoArgsConstructor: gera construtor sem argumentos
+ * - @AllArgsConstructor: gera construtor com todos os argumentos
+ * - @Builder: implementa o padrão Builder para criação de objetos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "sync_sequences")
+public class SyncCounter {
+	/** O ID do usuário. */
+	@Id
+	private String id;
+
+	/** A última sequência reservada. */
+	private long seq;
+
+	/** As reservas cujas gravações ainda não terminaram. */
+	@Builder.Default
+	private List<Reservation> pending = new ArrayList<>();
+
+	/**
+	 * Uma faixa de sequências reservada por uma gravação em andamento.
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Reservation {
+		/** Identificador da gravação, usado para liberar a reserva. */
+		private String op;
+		private long first;
+		private long last;
+		private Date reservedAt;
+	}
+}
@@ -1,5 +1,6 @@
 package com.gamesync.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -44,6 +45,20 @@ public class User implements UserDetails {
 
 	private List<String> roles;
 
+	/**
+	 * Geração dos tokens emitidos para este usuário. É incrementada quando a senha
+	 * ou o username mudam, invalidando todos os tokens de acesso e de renovação anteriores.
+	 */
+	@JsonIgnore
+	private long tokenGeneration;
+
+	/**
+	 * Indica que a conta está sendo excluída em segundo plano (ver AccountDeletionService).
+	 * Enquanto isso o usuário não consegue se autenticar e o username continua reservado.
+	 */
+	@JsonIgnore
+	private boolean deleting;
+
 	// --- Implementação dos métodos da interface UserDetails ---
 
 	/**
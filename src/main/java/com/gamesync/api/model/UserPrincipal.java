@@ -0,0 +1,128 @@
+package com.gamesync.api.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal imutável do Spring Security que representa um usuário autenticado.
+ * Diferente da entidade {@link User}, esta classe não possui setters e calcula a
+ * lista de autoridades uma única vez, podendo ser compartilhada com segurança entre
+ * requisições e threads (ex: quando mantida em cache pelo CustomUserDetailsService).
+ *
+ * <p>
+ * Não implementa CredentialsContainer de propósito: o hash da senha de uma instância
+ * em cache não pode ser apagado pelo ProviderManager após a autenticação.
+ * </p>
+ */
+public final class UserPrincipal implements UserDetails {
+
+	private final String id;
+	private final String username;
+	private final String password;
+	private final String email;
+	private final List<String> roles;
+	private final List<GrantedAuthority> authorities;
+	private final long tokenGeneration;
+
+	/**
+	 * Construtor completo.
+	 *
+	 * @param id              ID do usuário.
+	 * @param username        Nome de usuário.
+	 * @param password        Hash da senha (pode ser null para principals montados a partir de tokens).
+	 * @param email           Email do usuário (pode ser null para principals montados a partir de tokens).
+	 * @param roles           Papéis do usuário.
+	 * @param tokenGeneration Geração de tokens vigente do usuário.
+	 */
+	public UserPrincipal(String id, String username, String password, String email,
+			List<String> roles, long tokenGeneration) {
+		this.id = id;
+		this.username = username;
+		this.password = password;
+		this.email = email;
+		this.roles = roles != null ? List.copyOf(roles) : List.of();
+		this.authorities = this.roles.stream()
+				.<GrantedAuthority>map(SimpleGrantedAuthority::new)
+				.toList();
+		this.tokenGeneration = tokenGeneration;
+	}
+
+	/**
+	 * Cria um principal imutável a partir da entidade persistida.
+	 *
+	 * @param user A entidade User carregada do banco de dados.
+	 * @return Um novo UserPrincipal com uma cópia dos dados do usuário.
+	 */
+	public static UserPrincipal from(User user) {
+		return new UserPrincipal(user.getId(), user.getUsername(), user.getPassword(), user.getEmail(),
+				user.getRoles(), user.getTokenGeneration());
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public List<String> getRoles() {
+		return roles;
+	}
+
+	public long getTokenGeneration() {
+		return tokenGeneration;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	@Override
+	public String getPassword() {
+		return password;
+	}
+
+	@Override
+	public String getUsername() {
+		return username;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Representação textual para logging e depuração. Exclui a senha por motivos de segurança.
+	 *
+	 * @return Uma String representando o principal.
+	 */
+	@Override
+	public String toString() {
+		return "UserPrincipal{" +
+				"id='" + id + '\'' +
+				", username='" + username + '\'' +
+				", roles=" + roles +
+				'}';
+	}
+}
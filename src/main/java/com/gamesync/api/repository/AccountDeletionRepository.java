@@ -0,0 +1,13 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.AccountDeletion;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Interface de repositório para a entidade AccountDeletion (coleção 'account_deletions').
+ * A reivindicação e o progresso das exclusões ficam no fragmento {@link AccountDeletionRepositoryCustom}.
+ */
+@Repository
+public interface AccountDeletionRepository extends MongoRepository<AccountDeletion, String>, AccountDeletionRepositoryCustom {
+}
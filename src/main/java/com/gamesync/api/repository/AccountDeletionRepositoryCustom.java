@@ -0,0 +1,33 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.AccountDeletion;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Fragmento de repositório com as operações atômicas das exclusões de conta em segundo plano.
+ */
+public interface AccountDeletionRepositoryCustom {
+
+	/**
+	 * Reivindica uma exclusão em andamento cuja instância responsável deixou de renovar a posse
+	 * (ex: caiu), com um único findAndModify.
+	 *
+	 * @param owner      O identificador da instância que assume a exclusão.
+	 * @param now        O instante atual.
+	 * @param leaseUntil Até quando a posse vale.
+	 * @return A exclusão reivindicada, ou Optional.empty() se não houver nenhuma abandonada.
+	 */
+	Optional<AccountDeletion> claimAbandoned(String owner, Date now, Date leaseUntil);
+
+	/**
+	 * Registra o progresso de um lote e renova a posse, apenas se a instância ainda for a responsável.
+	 *
+	 * @param id         O ID da exclusão.
+	 * @param owner      A instância responsável.
+	 * @param deleted    Quantidade de jogos removidos no lote.
+	 * @param leaseUntil Nova validade da posse.
+	 * @return true se o progresso foi registrado; false se outra instância assumiu a exclusão.
+	 */
+	boolean recordProgress(String id, String owner, long deleted, Date leaseUntil);
+}
@@ -0,0 +1,42 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.AccountDeletion;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Implementação do fragmento {@link AccountDeletionRepositoryCustom} baseada no MongoTemplate.
+ */
+public class AccountDeletionRepositoryCustomImpl implements AccountDeletionRepositoryCustom {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param mongoTemplate Template do Spring Data MongoDB usado nas atualizações.
+	 */
+	public AccountDeletionRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public Optional<AccountDeletion> claimAbandoned(String owner, Date now, Date leaseUntil) {
+		Query query = Query.query(Criteria.where("status").is(AccountDeletion.Status.RUNNING).and("leaseUntil").lt(now));
+		Update update = new Update().set("leaseOwner", owner).set("leaseUntil", leaseUntil);
+		return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+				FindAndModifyOptions.options().returnNew(true), AccountDeletion.class));
+	}
+
+	@Override
+	public boolean recordProgress(String id, String owner, long deleted, Date leaseUntil) {
+		Query query = Query.query(Criteria.where("id").is(id).and("leaseOwner").is(owner));
+		Update update = new Update().inc("deletedGames", deleted).set("leaseUntil", leaseUntil).set("updatedAt", new Date());
+		return mongoTemplate.updateFirst(query, update, AccountDeletion.class).getMatchedCount() > 0;
+	}
+}
@@ -2,8 +2,12 @@ package com.gamesync.api.repository;
 
 import com.gamesync.api.model.Game;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório para a entidade Game.
@@ -15,9 +19,10 @@ import java.util.List;
  * Data MongoDB
  * os implementará automaticamente com base em suas assinaturas (nomes dos
  * métodos).
+ * Consultas mais elaboradas ficam no fragmento {@link GameRepositoryCustom}.
  */
 @Repository
-public interface GameRepository extends MongoRepository<Game, String> {
+public interface GameRepository extends MongoRepository<Game, String>, GameRepositoryCustom {
 
 	/**
 	 * Busca e retorna uma lista de todos os jogos associados a um ID de usuário
@@ -32,18 +37,61 @@ public interface GameRepository extends MongoRepository<Game, String> {
 	List<Game> findByUserId(String userId);
 
 	/**
-	 * Verifica se existe um jogo com um nome específico associado a um ID de
-	 * usuário específico.
-	 * Útil para evitar nomes de jogos duplicados para o mesmo usuário.
-	 * O Spring Data MongoDB criará automaticamente a implementação deste método
-	 * com base no nome do método ("existsBy" seguido pelos nomes dos campos "Name"
-	 * e "UserId").
+	 * Busca um jogo pelo ID apenas se ele pertencer ao usuário, com o ID e o userId no mesmo filtro.
+	 * Jogos de outros usuários não são encontrados (nem trafegados).
+	 * 
+	 * @param id     O ID do jogo.
+	 * @param userId O ID do usuário dono do jogo.
+	 * @return Um Optional contendo o Game, ou Optional.empty() se não existir ou não pertencer ao usuário.
+	 */
+	Optional<Game> findByIdAndUserId(String id, String userId);
+
+	/**
+	 * Busca vários jogos do usuário pelos IDs com uma única consulta ({@code $in}),
+	 * restrita ao userId. A ordem do resultado não é garantida.
+	 * 
+	 * @param userId O ID do usuário dono dos jogos.
+	 * @param ids    Os IDs dos jogos.
+	 * @return Os jogos encontrados entre os IDs informados.
+	 */
+	List<Game> findByUserIdAndIdIn(String userId, Collection<String> ids);
+
+	/**
+	 * Conta os jogos de um usuário, usando apenas o índice iniciado por userId.
 	 * 
-	 * @param name   O nome do jogo a ser verificado.
-	 * @param userId O ID do usuário ao qual o jogo estaria associado.
-	 * @return true se um jogo com o nome e userId fornecidos existir, false caso
-	 *         contrário.
+	 * @param userId O ID do usuário.
+	 * @return A quantidade de jogos do usuário.
+	 */
+	long countByUserId(String userId);
+
+	/**
+	 * Exclui todos os jogos de um usuário com uma única operação no servidor
+	 * ({@code deleteMany}), sem carregar os documentos.
+	 * 
+	 * @param userId O ID do usuário.
+	 * @return A quantidade de jogos excluídos.
+	 */
+	long deleteByUserId(String userId);
+
+
+	/**
+	 * Abre um cursor sobre todos os jogos de um usuário, na ordem de adição.
+	 * Os documentos são lidos sob demanda, em lotes, sem materializar a lista inteira em memória.
+	 * O Stream retornado deve ser fechado (ex: try-with-resources) para liberar o cursor.
+	 * 
+	 * @param userId O ID do usuário cujos jogos devem ser percorridos.
+	 * @return Um Stream de objetos Game apoiado em um cursor do MongoDB.
+	 */
+	Stream<Game> streamByUserIdOrderByAddedAtAsc(String userId);
+
+	/**
+	 * Busca apenas o ID e o nome de todos os jogos de um usuário.
+	 * Usado para montar o índice de autocompletar sem trafegar os documentos completos.
+	 * 
+	 * @param userId O ID do usuário cujos jogos devem ser recuperados.
+	 * @return Uma lista de objetos Game com apenas os campos id e name preenchidos.
 	 */
-	boolean existsByNameAndUserId(String name, String userId);
+	@Query(value = "{ 'userId': ?0 }", fields = "{ 'name': 1 }")
+	List<Game> findNamesByUserId(String userId);
 
 }
\ No newline at end of file
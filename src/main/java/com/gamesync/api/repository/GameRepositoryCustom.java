@@ -0,0 +1,235 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.dto.GameBulkResponse;
+import com.gamesync.api.dto.GameBulkUpdateDTO;
+import com.gamesync.api.dto.GameFilterDTO;
+import com.gamesync.api.dto.GameSelectionDTO;
+import com.gamesync.api.dto.GameStatsResponse;
+import com.gamesync.api.model.Game;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Update;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fragmento de repositório com consultas customizadas para a entidade Game que não
+ * podem ser expressas apenas pelo nome do método (ex: filtros dinâmicos e paginação por cursor).
+ * A implementação ({@link GameRepositoryCustomImpl}) utiliza o MongoTemplate e é
+ * combinada automaticamente pelo Spring Data ao {@link GameRepository}.
+ */
+public interface GameRepositoryCustom {
+
+	/**
+	 * Busca todos os jogos de um usuário que atendem aos filtros, na ordenação pedida.
+	 *
+	 * @param userId    O ID do usuário dono dos jogos.
+	 * @param filter    Os filtros (status, favorite, genres, platforms, tags).
+	 * @param sort      O campo de ordenação.
+	 * @param direction A direção da ordenação.
+	 * @return Os jogos encontrados.
+	 */
+	List<Game> findAllByFilter(String userId, GameFilterDTO filter, GameSortField sort, Sort.Direction direction);
+
+	/**
+	 * Busca uma página de jogos de um usuário usando paginação por cursor (keyset),
+	 * ordenada por (campo de ordenação, id) na direção pedida.
+	 * Cada página é resolvida por uma busca em um índice composto iniciado por userId,
+	 * com custo constante independentemente da profundidade da página.
+	 *
+	 * @param userId     O ID do usuário dono dos jogos.
+	 * @param filter     Os filtros (status, favorite, genres, platforms, tags).
+	 * @param sort       O campo de ordenação.
+	 * @param direction  A direção da ordenação.
+	 * @param afterValue Valor do campo de ordenação no último jogo da página anterior (null se o jogo não o tinha).
+	 * @param afterId    ID do último jogo da página anterior, ou null para a primeira página.
+	 * @param limit      Quantidade máxima de jogos retornados.
+	 * @return Os jogos da página, na ordem do cursor.
+	 */
+	List<Game> findPageByFilter(String userId, GameFilterDTO filter, GameSortField sort, Sort.Direction direction,
+			Object afterValue, String afterId, int limit);
+
+	/**
+	 * Busca textual nos campos name, description e developer dos jogos de um usuário,
+	 * ordenada por relevância (text score). Usa o índice de texto com prefixo userId.
+	 *
+	 * @param userId   O ID do usuário dono dos jogos.
+	 * @param text     Os termos buscados.
+	 * @param language O idioma usado para o stemming dos termos ("pt" ou "en").
+	 * @param skip     Quantidade de resultados a pular.
+	 * @param limit    Quantidade máxima de resultados.
+	 * @return Os jogos encontrados, do mais para o menos relevante.
+	 */
+	List<Game> searchByText(String userId, String text, String language, int skip, int limit);
+
+	/**
+	 * Calcula as estatísticas da biblioteca de um usuário em um único pipeline de agregação
+	 * ({@code $match} por userId seguido de {@code $facet}), de modo que apenas o resultado
+	 * agregado trafegue do banco para a aplicação.
+	 *
+	 * @param userId O ID do usuário dono dos jogos.
+	 * @return Totais, favoritos e contagens por status, gênero e plataforma.
+	 */
+	GameStatsResponse aggregateStats(String userId);
+
+	/**
+	 * Insere os jogos com um único bulkWrite não ordenado: uma falha em um documento não
+	 * impede a gravação dos demais. Os jogos devem chegar com o ID já definido.
+	 *
+	 * @param games Os jogos a inserir.
+	 * @return As falhas, indexadas pela posição do jogo em {@code games} (vazio se todos foram gravados).
+	 *         Violações do índice único de nomes têm o código {@link ErrorCategory#DUPLICATE_KEY}.
+	 */
+	Map<Integer, BulkWriteError> insertUnordered(List<Game> games);
+
+	/**
+	 * Soma tempo de jogo a vários jogos com um único bulkWrite não ordenado. Os segundos são
+	 * acumulados em {@code play_seconds} e cada 3600 segundos viram uma hora em {@code hours_played},
+	 * de forma atômica em cada documento. Os donos dos jogos são lidos antes com uma única busca
+	 * ({@code $in}): incrementos para jogos inexistentes ou de outro usuário são descartados sem
+	 * gravação, e o filtro de cada atualização ainda inclui o userId.
+	 *
+	 * @param increments Os incrementos a aplicar.
+	 * @param seqs       A sequência de sincronização de cada usuário, gravada nos seus jogos alterados.
+	 * @return As posições, em {@code increments}, dos incrementos gravados e dos que falharam;
+	 *         as demais são de jogos inexistentes ou de outro usuário.
+	 */
+	PlayTimeWriteResult addPlaySeconds(List<PlayTimeIncrement> increments, Map<String, Long> seqs);
+
+	/**
+	 * Exclui um lote de jogos de um usuário: busca até {@code batchSize} IDs pelo índice e os remove
+	 * com um único {@code deleteMany} por {@code $in}. Usado pela exclusão de contas em segundo plano.
+	 *
+	 * @param userId    O ID do usuário.
+	 * @param batchSize Quantidade máxima de jogos excluídos.
+	 * @return A quantidade de jogos excluídos (0 quando não restar nenhum).
+	 */
+	long deleteBatchByUserId(String userId, int batchSize);
+
+	/**
+	 * Aplica a mesma alteração a todos os jogos selecionados de um usuário com um único
+	 * {@code updateMany} (pipeline com o equivalente a {@code $set}, {@code $addToSet} e
+	 * {@code $pullAll}). Jogos que já estão no estado pedido não são alterados: não recebem nova
+	 * sequência nem versão e não contam como alterados.
+	 *
+	 * @param userId    O ID do usuário dono dos jogos.
+	 * @param selection Os critérios de seleção.
+	 * @param changes   A alteração a aplicar.
+	 * @param seq       A sequência de sincronização gravada nos jogos alterados, também como versão de edição.
+	 * @return Quantos jogos foram selecionados e quantos foram efetivamente alterados.
+	 */
+	GameBulkResponse updateBySelection(String userId, GameSelectionDTO selection, GameBulkUpdateDTO changes, long seq);
+
+	/**
+	 * Busca os IDs de até {@code limit} jogos selecionados de um usuário, sem trafegar os documentos.
+	 *
+	 * @param userId    O ID do usuário dono dos jogos.
+	 * @param selection Os critérios de seleção.
+	 * @param limit     Quantidade máxima de IDs.
+	 * @return Os IDs encontrados.
+	 */
+	List<String> findIdsBySelection(String userId, GameSelectionDTO selection, int limit);
+
+	/**
+	 * Exclui vários jogos de um usuário pelos IDs com um único {@code deleteMany}, com o userId no filtro.
+	 *
+	 * @param userId O ID do usuário dono dos jogos.
+	 * @param ids    Os IDs dos jogos.
+	 * @return A quantidade de jogos excluídos.
+	 */
+	long deleteOwnedByIds(String userId, Collection<String> ids);
+
+	/**
+	 * Busca os jogos de um usuário gravados depois da posição (seq, id) e com sequência até
+	 * {@code untilSeq}, ordenados por (seq, _id) e resolvidos pelo índice {@code user_seq_id}.
+	 *
+	 * @param userId   O ID do usuário.
+	 * @param afterSeq A sequência da última posição entregue.
+	 * @param afterId  O ID da última posição entregue, ou null para todos os jogos com sequência maior que {@code afterSeq}.
+	 * @param untilSeq A maior sequência a incluir.
+	 * @param limit    Quantidade máxima de jogos.
+	 * @return Os jogos encontrados.
+	 */
+	List<Game> findChangedAfter(String userId, long afterSeq, String afterId, long untilSeq, int limit);
+
+	/**
+	 * Aplica uma atualização a um jogo do usuário em uma única operação atômica (findAndModify),
+	 * com o ID e o userId no filtro.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @param userId O ID do usuário dono do jogo.
+	 * @param update Os operadores a aplicar ($set, $addToSet, $pull).
+	 * @return O jogo no estado anterior à atualização, ou Optional.empty() se ele não existir
+	 *         ou não pertencer ao usuário.
+	 */
+	Optional<Game> findAndModifyOwned(String gameId, String userId, Update update);
+
+	/**
+	 * Exclui um jogo do usuário em uma única operação atômica (findAndModify com remove),
+	 * com o ID e o userId no filtro.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @param userId O ID do usuário dono do jogo.
+	 * @return O jogo excluído, ou Optional.empty() se ele não existir ou não pertencer ao usuário.
+	 */
+	Optional<Game> findAndRemoveOwned(String gameId, String userId);
+
+	/**
+	 * Aplica gravações de jogos de um usuário na ordem da lista, com bulkWrites ordenados.
+	 * Quando uma gravação falha (ex: nome duplicado), as seguintes são reenviadas em um novo
+	 * bulkWrite a partir dela, então uma falha não impede as demais. Atualizações e exclusões têm
+	 * o userId no filtro e, se {@code expectedSeq} for informado, só encontram o jogo nessa sequência.
+	 *
+	 * @param userId O ID do usuário dono dos jogos.
+	 * @param writes As gravações, na ordem em que devem ser aplicadas.
+	 * @return As falhas, indexadas pela posição da gravação em {@code writes} (vazio se todas foram aceitas).
+	 *         Uma atualização ou exclusão que não encontrou o jogo não é uma falha.
+	 */
+	Map<Integer, BulkWriteError> applyOrdered(String userId, List<GameWrite> writes);
+
+	/**
+	 * Uma gravação de {@link #applyOrdered(String, List)}: inserção, atualização ou exclusão.
+	 *
+	 * @param insert          O jogo a inserir, com o ID já definido (apenas inserções).
+	 * @param gameId          O ID do jogo (atualizações e exclusões).
+	 * @param expectedVersion A versão de edição que o jogo deve ter para ser alterado, ou null para não verificar.
+	 * @param update          Os operadores a aplicar (apenas atualizações).
+	 */
+	record GameWrite(Game insert, String gameId, Long expectedVersion, Update update) {
+
+		public static GameWrite insert(Game game) {
+			return new GameWrite(game, game.getId(), null, null);
+		}
+
+		public static GameWrite update(String gameId, Long expectedVersion, Update update) {
+			return new GameWrite(null, gameId, expectedVersion, update);
+		}
+
+		public static GameWrite delete(String gameId, Long expectedVersion) {
+			return new GameWrite(null, gameId, expectedVersion, null);
+		}
+	}
+
+	/**
+	 * Resultado de {@link #addPlaySeconds(List, Map)}.
+	 *
+	 * @param applied As posições dos incrementos que encontraram um jogo do dono e foram gravados.
+	 * @param failed  As posições dos incrementos cuja gravação falhou e pode ser repetida.
+	 */
+	record PlayTimeWriteResult(Set<Integer> applied, Set<Integer> failed) {
+	}
+
+	/**
+	 * Tempo de jogo a somar a um jogo de um usuário.
+	 *
+	 * @param userId  O ID do dono do jogo.
+	 * @param gameId  O ID do jogo.
+	 * @param seconds Os segundos jogados.
+	 */
+	record PlayTimeIncrement(String userId, String gameId, long seconds) {
+	}
+}
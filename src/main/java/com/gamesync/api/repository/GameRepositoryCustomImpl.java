@@ -0,0 +1,467 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.dto.GameBulkResponse;
+import com.gamesync.api.dto.GameBulkUpdateDTO;
+import com.gamesync.api.dto.GameFilterDTO;
+import com.gamesync.api.dto.GameSelectionDTO;
+import com.gamesync.api.dto.GameStatsResponse;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameStatus;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementação do fragmento {@link GameRepositoryCustom} baseada no MongoTemplate.
+ * O sufixo "Impl" permite que o Spring Data a detecte e a combine ao GameRepository.
+ *
+ * <p>
+ * Toda consulta começa por userId e termina ordenada por (campo, _id), casando com os
+ * índices compostos declarados em {@link Game}.
+ * </p>
+ */
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+	private static final int SECONDS_PER_HOUR = 3600;
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param mongoTemplate Template do Spring Data MongoDB usado para montar as consultas.
+	 */
+	public GameRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public List<Game> findAllByFilter(String userId, GameFilterDTO filter, GameSortField sort, Sort.Direction direction) {
+		return mongoTemplate.find(buildQuery(userId, filter, sort, direction, null, null), Game.class);
+	}
+
+	@Override
+	public List<Game> findPageByFilter(String userId, GameFilterDTO filter, GameSortField sort, Sort.Direction direction,
+			Object afterValue, String afterId, int limit) {
+		Query query = buildQuery(userId, filter, sort, direction, afterValue, afterId).limit(limit);
+		return mongoTemplate.find(query, Game.class);
+	}
+
+	@Override
+	public List<Game> searchByText(String userId, String text, String language, int skip, int limit) {
+		Query query = TextQuery.queryText(TextCriteria.forLanguage(language).matching(text))
+				.sortByScore()
+				.addCriteria(Criteria.where("userId").is(userId))
+				.skip(skip)
+				.limit(limit);
+		return mongoTemplate.find(query, Game.class);
+	}
+
+	@Override
+	public GameStatsResponse aggregateStats(String userId) {
+		TypedAggregation<Game> aggregation = Aggregation.newAggregation(Game.class,
+				Aggregation.match(Criteria.where("userId").is(userId)),
+				Aggregation.facet(
+						Aggregation.group()
+								.count().as("total")
+								.sum("hoursPlayed").as("hoursPlayed")
+								.sum(ConditionalOperators.when(Criteria.where("favorite").is(true)).then(1).otherwise(0))
+								.as("favorites"))
+						.as("totals")
+						.and(Aggregation.group("status").count().as("count"))
+						.as("byStatus")
+						.and(Aggregation.unwind("genres"),
+								Aggregation.group("genres").count().as("count"),
+								Aggregation.sort(Sort.by(Sort.Order.desc("count"), Sort.Order.asc("_id"))))
+						.as("byGenre")
+						.and(Aggregation.unwind("platforms"),
+								Aggregation.group("platforms").count().as("count"),
+								Aggregation.sort(Sort.by(Sort.Order.desc("count"), Sort.Order.asc("_id"))))
+						.as("byPlatform"));
+
+		Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+
+		Map<String, Long> byStatus = new LinkedHashMap<>();
+		for (GameStatus status : GameStatus.values()) {
+			byStatus.put(status.name(), 0L);
+		}
+		long total = 0;
+		long hoursPlayed = 0;
+		long favorites = 0;
+		Map<String, Long> byGenre = new LinkedHashMap<>();
+		Map<String, Long> byPlatform = new LinkedHashMap<>();
+		if (result != null) {
+			List<Document> totals = result.getList("totals", Document.class);
+			if (!totals.isEmpty()) {
+				total = asLong(totals.get(0).get("total"));
+				hoursPlayed = asLong(totals.get(0).get("hoursPlayed"));
+				favorites = asLong(totals.get(0).get("favorites"));
+			}
+			byStatus.putAll(toCounts(result.getList("byStatus", Document.class)));
+			byGenre = toCounts(result.getList("byGenre", Document.class));
+			byPlatform = toCounts(result.getList("byPlatform", Document.class));
+		}
+		return new GameStatsResponse(total, hoursPlayed, favorites, byStatus, byGenre, byPlatform, null);
+	}
+
+	@Override
+	public Map<Integer, BulkWriteError> insertUnordered(List<Game> games) {
+		Map<Integer, BulkWriteError> failures = new HashMap<>();
+		if (games.isEmpty()) {
+			return failures;
+		}
+		try {
+			mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Game.class).insert(games).execute();
+		} catch (BulkOperationException e) {
+			e.getErrors().forEach(error -> failures.put(error.getIndex(), error));
+		}
+		return failures;
+	}
+
+	@Override
+	public PlayTimeWriteResult addPlaySeconds(List<PlayTimeIncrement> increments, Map<String, Long> seqs) {
+		Set<Integer> applied = new HashSet<>();
+		Set<Integer> failed = new HashSet<>();
+		if (increments.isEmpty()) {
+			return new PlayTimeWriteResult(applied, failed);
+		}
+		Query ownersQuery = Query.query(Criteria.where("_id").in(increments.stream().map(PlayTimeIncrement::gameId).distinct().toList()));
+		ownersQuery.fields().include("userId");
+		Map<String, String> owners = new HashMap<>();
+		mongoTemplate.find(ownersQuery, Game.class).forEach(game -> owners.put(game.getId(), game.getUserId()));
+		List<Integer> owned = new ArrayList<>();
+		for (int i = 0; i < increments.size(); i++) {
+			if (increments.get(i).userId().equals(owners.get(increments.get(i).gameId()))) {
+				owned.add(i);
+			}
+		}
+		if (owned.isEmpty()) {
+			return new PlayTimeWriteResult(applied, failed);
+		}
+
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Game.class);
+		for (int i : owned) {
+			PlayTimeIncrement increment = increments.get(i);
+			bulk.updateOne(
+					Query.query(Criteria.where("_id").is(increment.gameId()).and("userId").is(increment.userId())),
+					playSecondsUpdate(increment.seconds(), seqs.get(increment.userId())));
+		}
+		BulkWriteResult result;
+		try {
+			result = bulk.execute();
+		} catch (BulkOperationException e) {
+			e.getErrors().forEach(error -> failed.add(owned.get(error.getIndex())));
+			result = e.getResult();
+		}
+		for (int i : owned) {
+			if (!failed.contains(i)) {
+				applied.add(i);
+			}
+		}
+		if (result.getMatchedCount() < applied.size()) {
+			// Algum jogo foi excluído entre a leitura e a gravação: mantém só os que ainda existem.
+			Query existing = Query.query(Criteria.where("_id").in(applied.stream().map(i -> increments.get(i).gameId()).toList()));
+			existing.fields().include("_id");
+			Set<String> existingIds = new HashSet<>();
+			mongoTemplate.find(existing, Game.class).forEach(game -> existingIds.add(game.getId()));
+			applied.removeIf(i -> !existingIds.contains(increments.get(i).gameId()));
+		}
+		return new PlayTimeWriteResult(applied, failed);
+	}
+
+	@Override
+	public long deleteBatchByUserId(String userId, int batchSize) {
+		Query query = Query.query(Criteria.where("userId").is(userId)).limit(batchSize);
+		query.fields().include("_id");
+		List<String> ids = mongoTemplate.find(query, Game.class).stream().map(Game::getId).toList();
+		return ids.isEmpty() ? 0 : deleteOwnedByIds(userId, ids);
+	}
+
+	/**
+	 * Equivale a um {@code $inc} de segundos com "vai um" para as horas: os dois campos são
+	 * calculados a partir dos valores anteriores no mesmo estágio, então a atualização é atômica.
+	 * A sequência de sincronização é gravada no mesmo estágio.
+	 */
+	private static AggregationUpdate playSecondsUpdate(long seconds, long seq) {
+		Document total = new Document("$add", List.of(new Document("$ifNull", List.of("$play_seconds", 0)), seconds));
+		Document set = new Document("hours_played", new Document("$add", List.of(
+						new Document("$ifNull", List.of("$hours_played", 0)),
+						new Document("$toInt", new Document("$floor", new Document("$divide", List.of(total, SECONDS_PER_HOUR)))))))
+				.append("play_seconds", new Document("$toInt", new Document("$mod", List.of(total, SECONDS_PER_HOUR))))
+				.append("seq", seq);
+		return AggregationUpdate.from(List.of(context -> new Document("$set", set)));
+	}
+
+	@Override
+	public GameBulkResponse updateBySelection(String userId, GameSelectionDTO selection, GameBulkUpdateDTO changes,
+			long seq) {
+		// Pipeline de atualização: cada campo só recebe o novo valor se ele mudar, e a sequência e a
+		// versão só avançam nos jogos efetivamente alterados (os demais não contam em modifiedCount,
+		// não voltam pela sincronização incremental e mantêm o ETag).
+		Document set = new Document();
+		List<Object> changed = new ArrayList<>();
+		if (changes.getStatus() != null) {
+			setIfDifferent(set, changed, "status", changes.getStatus().name());
+		}
+		if (changes.getFavorite() != null) {
+			setIfDifferent(set, changed, "favorite", changes.getFavorite());
+		}
+		if (changes.getLanguage() != null) {
+			setIfDifferent(set, changed, "language", changes.getLanguage());
+		}
+		addToSet(set, changed, "genres", changes.getAddGenres());
+		pullAll(set, changed, "genres", changes.getRemoveGenres());
+		addToSet(set, changed, "tags", changes.getAddTags());
+		pullAll(set, changed, "tags", changes.getRemoveTags());
+		addToSet(set, changed, "platforms", changes.getAddPlatforms());
+		pullAll(set, changed, "platforms", changes.getRemovePlatforms());
+		Document anyChanged = new Document("$or", changed);
+		set.append("seq", new Document("$cond", List.of(anyChanged, seq, "$seq")))
+				.append("version", new Document("$cond", List.of(anyChanged, seq, "$version")));
+
+		UpdateResult result = mongoTemplate.updateMulti(Query.query(selectionCriteria(userId, selection)),
+				AggregationUpdate.from(List.of(context -> new Document("$set", set))), Game.class);
+		return new GameBulkResponse(result.getMatchedCount(), result.getModifiedCount());
+	}
+
+	@Override
+	public List<String> findIdsBySelection(String userId, GameSelectionDTO selection, int limit) {
+		Query query = Query.query(selectionCriteria(userId, selection)).limit(limit);
+		query.fields().include("_id");
+		return mongoTemplate.find(query, Game.class).stream().map(Game::getId).toList();
+	}
+
+	@Override
+	public long deleteOwnedByIds(String userId, Collection<String> ids) {
+		return mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids).and("userId").is(userId)), Game.class)
+				.getDeletedCount();
+	}
+
+	@Override
+	public List<Game> findChangedAfter(String userId, long afterSeq, String afterId, long untilSeq, int limit) {
+		Criteria criteria = Criteria.where("userId").is(userId);
+		if (afterId != null) {
+			criteria = criteria.and("seq").lte(untilSeq).orOperator(
+					Criteria.where("seq").gt(afterSeq),
+					Criteria.where("seq").is(afterSeq).and("id").gt(afterId));
+		} else {
+			criteria = criteria.and("seq").gt(afterSeq).lte(untilSeq);
+		}
+		Query query = Query.query(criteria)
+				.with(Sort.by(Sort.Order.asc("seq"), Sort.Order.asc("id")))
+				.limit(limit);
+		return mongoTemplate.find(query, Game.class);
+	}
+
+	@Override
+	public Optional<Game> findAndModifyOwned(String gameId, String userId, Update update) {
+		return Optional.ofNullable(mongoTemplate.findAndModify(ownedQuery(gameId, userId), update,
+				FindAndModifyOptions.options().returnNew(false), Game.class));
+	}
+
+	@Override
+	public Optional<Game> findAndRemoveOwned(String gameId, String userId) {
+		return Optional.ofNullable(mongoTemplate.findAndRemove(ownedQuery(gameId, userId), Game.class));
+	}
+
+	@Override
+	public Map<Integer, BulkWriteError> applyOrdered(String userId, List<GameWrite> writes) {
+		Map<Integer, BulkWriteError> failures = new HashMap<>();
+		int start = 0;
+		while (start < writes.size()) {
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Game.class);
+			for (GameWrite write : writes.subList(start, writes.size())) {
+				if (write.insert() != null) {
+					bulk.insert(write.insert());
+					continue;
+				}
+				Query query = ownedQuery(write.gameId(), userId);
+				if (write.expectedVersion() != null) {
+					query.addCriteria(Criteria.where("version").is(write.expectedVersion()));
+				}
+				if (write.update() != null) {
+					bulk.updateOne(query, write.update());
+				} else {
+					bulk.remove(query);
+				}
+			}
+			try {
+				bulk.execute();
+				return failures;
+			} catch (BulkOperationException e) {
+				// Um bulkWrite ordenado para na primeira falha: registra-a e continua a partir da seguinte.
+				BulkWriteError error = e.getErrors().get(0);
+				failures.put(start + error.getIndex(), error);
+				start += error.getIndex() + 1;
+			}
+		}
+		return failures;
+	}
+
+	private static Query ownedQuery(String gameId, String userId) {
+		return Query.query(Criteria.where("id").is(gameId).and("userId").is(userId));
+	}
+
+	/**
+	 * Monta o filtro de uma operação em massa: sempre restrito ao dono, combinado com os critérios informados.
+	 */
+	private static Criteria selectionCriteria(String userId, GameSelectionDTO selection) {
+		Criteria criteria = Criteria.where("userId").is(userId);
+		if (selection.getIds() != null && !selection.getIds().isEmpty()) {
+			criteria = criteria.and("id").in(selection.getIds());
+		}
+		if (selection.getStatus() != null) {
+			criteria = criteria.and("status").is(selection.getStatus());
+		}
+		if (selection.getFavorite() != null) {
+			criteria = criteria.and("favorite").is(selection.getFavorite());
+		}
+		if (selection.getGenres() != null && !selection.getGenres().isEmpty()) {
+			criteria = criteria.and("genres").in(selection.getGenres());
+		}
+		if (selection.getPlatforms() != null && !selection.getPlatforms().isEmpty()) {
+			criteria = criteria.and("platforms").in(selection.getPlatforms());
+		}
+		if (selection.getTags() != null && !selection.getTags().isEmpty()) {
+			criteria = criteria.and("tags").in(selection.getTags());
+		}
+		return criteria;
+	}
+
+	private static void setIfDifferent(Document set, List<Object> changed, String field, Object value) {
+		Document different = new Document("$ne", List.of("$" + field, value));
+		changed.add(different);
+		set.append(field, new Document("$cond", List.of(different, value, "$" + field)));
+	}
+
+	/**
+	 * Equivale a {@code $addToSet} com {@code $each}: acrescenta, na ordem, os valores ausentes.
+	 */
+	private static void addToSet(Document set, List<Object> changed, String field, Set<String> values) {
+		if (values == null || values.isEmpty()) {
+			return;
+		}
+		Document current = new Document("$ifNull", List.of("$" + field, List.of()));
+		List<String> added = List.copyOf(values);
+		Document different = new Document("$not", List.of(new Document("$setIsSubset", List.of(added, current))));
+		changed.add(different);
+		Document missing = new Document("$filter", new Document("input", added)
+				.append("cond", new Document("$not", List.of(new Document("$in", List.of("$$this", current))))));
+		set.append(field, new Document("$cond", List.of(different,
+				new Document("$concatArrays", List.of(current, missing)), "$" + field)));
+	}
+
+	/**
+	 * Equivale a {@code $pullAll}: remove os valores informados, sem criar o campo se ele não existir.
+	 */
+	private static void pullAll(Document set, List<Object> changed, String field, Set<String> values) {
+		if (values == null || values.isEmpty()) {
+			return;
+		}
+		Document current = new Document("$ifNull", List.of("$" + field, List.of()));
+		List<String> removed = List.copyOf(values);
+		Document different = new Document("$gt", List.of(
+				new Document("$size", new Document("$setIntersection", List.of(current, removed))), 0));
+		changed.add(different);
+		Document kept = new Document("$filter", new Document("input", current)
+				.append("cond", new Document("$not", List.of(new Document("$in", List.of("$$this", removed))))));
+		set.append(field, new Document("$cond", List.of(different, kept, "$" + field)));
+	}
+
+	/**
+	 * Converte os grupos {_id, count} de uma faceta em um mapa, preservando a ordem e
+	 * ignorando documentos sem valor no campo agrupado.
+	 */
+	private static Map<String, Long> toCounts(List<Document> groups) {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (Document group : groups) {
+			Object key = group.get("_id");
+			if (key != null) {
+				counts.put(key.toString(), asLong(group.get("count")));
+			}
+		}
+		return counts;
+	}
+
+	private static long asLong(Object value) {
+		return value instanceof Number number ? number.longValue() : 0L;
+	}
+
+	/**
+	 * Condição "depois do cursor": (campo além do último) OU (campo igual E id além do último).
+	 * O MongoDB ordena nulos (e campos ausentes) antes de qualquer valor, e {@code $gt}/{@code $lt}
+	 * não comparam valores com nulo: em ordem crescente os nulos já ficaram para trás quando o cursor
+	 * tem valor, e em ordem decrescente eles ainda estão por vir.
+	 */
+	private static Criteria[] keysetAfter(String property, Sort.Direction direction, Object afterValue, String afterId) {
+		boolean ascending = direction == Sort.Direction.ASC;
+		Criteria sameValue = afterValue != null ? Criteria.where(property).is(afterValue) : Criteria.where(property).isNull();
+		sameValue = ascending ? sameValue.and("id").gt(afterId) : sameValue.and("id").lt(afterId);
+		if (afterValue == null) {
+			return ascending
+					? new Criteria[] { sameValue, Criteria.where(property).ne(null) }
+					: new Criteria[] { sameValue };
+		}
+		return ascending
+				? new Criteria[] { Criteria.where(property).gt(afterValue), sameValue }
+				: new Criteria[] { Criteria.where(property).lt(afterValue), sameValue, Criteria.where(property).isNull() };
+	}
+
+	/**
+	 * Monta a consulta de listagem: filtro por dono, filtros opcionais, condição do cursor e ordenação.
+	 * Visível no pacote para que os testes possam inspecionar o plano de execução de cada formato de consulta.
+	 */
+	static Query buildQuery(String userId, GameFilterDTO filter, GameSortField sort, Sort.Direction direction,
+			Object afterValue, String afterId) {
+		Criteria criteria = Criteria.where("userId").is(userId);
+		if (filter != null) {
+			if (filter.getStatus() != null) {
+				criteria = criteria.and("status").is(filter.getStatus());
+			}
+			if (filter.getFavorite() != null) {
+				criteria = criteria.and("favorite").is(filter.getFavorite());
+			}
+			if (filter.getGenres() != null && !filter.getGenres().isEmpty()) {
+				criteria = criteria.and("genres").in(filter.getGenres());
+			}
+			if (filter.getPlatforms() != null && !filter.getPlatforms().isEmpty()) {
+				criteria = criteria.and("platforms").in(filter.getPlatforms());
+			}
+			if (filter.getTags() != null && !filter.getTags().isEmpty()) {
+				criteria = criteria.and("tags").in(filter.getTags());
+			}
+		}
+
+		String property = sort.getProperty();
+		if (afterId != null) {
+			criteria = criteria.orOperator(keysetAfter(property, direction, afterValue, afterId));
+		}
+
+		return Query.query(criteria)
+				.with(Sort.by(new Sort.Order(direction, property), new Sort.Order(direction, "id")));
+	}
+}
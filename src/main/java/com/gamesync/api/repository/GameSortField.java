@@ -0,0 +1,108 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.Game;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Campos pelos quais a listagem de jogos pode ser ordenada.
+ * Cada campo conhece o nome da propriedade na entidade {@link Game} e sabe converter
+ * seu valor de/para texto, o que permite guardá-lo em um cursor de paginação (keyset).
+ */
+public enum GameSortField {
+	ADDED_AT("addedAt", Game::getAddedAt) {
+		@Override
+		public String format(Object value) {
+			return Long.toString(((Date) value).getTime());
+		}
+
+		@Override
+		public Object parse(String value) {
+			return new Date(Long.parseLong(value));
+		}
+	},
+	HOURS_PLAYED("hoursPlayed", Game::getHoursPlayed) {
+		@Override
+		public String format(Object value) {
+			return value.toString();
+		}
+
+		@Override
+		public Object parse(String value) {
+			return Integer.valueOf(value);
+		}
+	},
+	NAME("name", Game::getName) {
+		@Override
+		public String format(Object value) {
+			return (String) value;
+		}
+
+		@Override
+		public Object parse(String value) {
+			return value;
+		}
+	};
+
+	private final String property;
+	private final Function<Game, Object> accessor;
+
+	GameSortField(String property, Function<Game, Object> accessor) {
+		this.property = property;
+		this.accessor = accessor;
+	}
+
+	/**
+	 * @return O nome da propriedade na entidade Game (também usado como valor do parâmetro "sort").
+	 */
+	public String getProperty() {
+		return property;
+	}
+
+	/**
+	 * Lê o valor deste campo em um jogo.
+	 *
+	 * @param game O jogo.
+	 * @return O valor do campo.
+	 */
+	public Object valueOf(Game game) {
+		return accessor.apply(game);
+	}
+
+	/**
+	 * Converte um valor deste campo em texto.
+	 *
+	 * @param value O valor (não nulo).
+	 * @return A representação textual.
+	 */
+	public abstract String format(Object value);
+
+	/**
+	 * Converte o texto produzido por {@link #format(Object)} de volta ao valor.
+	 *
+	 * @param value A representação textual.
+	 * @return O valor do campo.
+	 * @throws IllegalArgumentException Se o texto for inválido.
+	 */
+	public abstract Object parse(String value);
+
+	/**
+	 * Resolve o campo a partir do valor do parâmetro "sort" (ex: "hoursPlayed").
+	 *
+	 * @param property O nome da propriedade, ou null para o padrão (addedAt).
+	 * @return O campo correspondente.
+	 * @throws IllegalArgumentException Se o campo não for suportado.
+	 */
+	public static GameSortField fromProperty(String property) {
+		if (property == null || property.isBlank()) {
+			return ADDED_AT;
+		}
+		for (GameSortField field : values()) {
+			if (field.property.equals(property)) {
+				return field;
+			}
+		}
+		throw new IllegalArgumentException("Campo de ordenação não suportado: '" + property
+				+ "'. Use addedAt, hoursPlayed ou name.");
+	}
+}
@@ -0,0 +1,53 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.GameTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Interface de repositório para a entidade GameTombstone (coleção 'game_tombstones').
+ * A gravação em lote dos registros fica no fragmento {@link GameTombstoneRepositoryCustom}.
+ */
+@Repository
+public interface GameTombstoneRepository extends MongoRepository<GameTombstone, String>, GameTombstoneRepositoryCustom {
+
+	/**
+	 * Busca as exclusões de um usuário com sequência maior que {@code seq} e até {@code untilSeq},
+	 * ordenadas por (seq, _id) e resolvidas pelo índice {@code user_seq_id}.
+	 *
+	 * @param userId   O ID do usuário.
+	 * @param seq      A sequência a partir da qual buscar (exclusiva).
+	 * @param untilSeq A maior sequência a incluir.
+	 * @param limit    Quantidade máxima de registros.
+	 * @return As exclusões encontradas.
+	 */
+	@Query(value = "{ 'userId': ?0, 'seq': { $gt: ?1, $lte: ?2 } }", sort = "{ 'seq': 1, '_id': 1 }")
+	List<GameTombstone> findByUserIdAfter(String userId, long seq, long untilSeq, Limit limit);
+
+	/**
+	 * Busca as exclusões de um usuário posteriores à posição (seq, id) e com sequência até
+	 * {@code untilSeq}, ordenadas por (seq, _id).
+	 *
+	 * @param userId   O ID do usuário.
+	 * @param seq      A sequência da última posição entregue.
+	 * @param id       O ID da última posição entregue.
+	 * @param untilSeq A maior sequência a incluir.
+	 * @param limit    Quantidade máxima de registros.
+	 * @return As exclusões encontradas.
+	 */
+	@Query(value = "{ 'userId': ?0, 'seq': { $lte: ?3 }, $or: [ { 'seq': { $gt: ?1 } }, { 'seq': ?1, '_id': { $gt: ?2 } } ] }",
+			sort = "{ 'seq': 1, '_id': 1 }")
+	List<GameTombstone> findByUserIdAfter(String userId, long seq, String id, long untilSeq, Limit limit);
+
+	/**
+	 * Exclui todos os registros de exclusão de um usuário (ex: na exclusão da conta).
+	 *
+	 * @param userId O ID do usuário.
+	 * @return A quantidade de registros excluídos.
+	 */
+	long deleteByUserId(String userId);
+}
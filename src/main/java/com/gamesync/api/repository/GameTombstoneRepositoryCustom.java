@@ -0,0 +1,22 @@
+package com.gamesync.api.repository;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Fragmento de repositório com a gravação dos registros de exclusão.
+ * A implementação ({@link GameTombstoneRepositoryCustomImpl}) utiliza o MongoTemplate.
+ */
+public interface GameTombstoneRepositoryCustom {
+
+	/**
+	 * Registra a exclusão de vários jogos de um usuário com um único bulkWrite. O registro de um
+	 * jogo já excluído antes (ex: duas requisições concorrentes) é apenas atualizado.
+	 *
+	 * @param userId    O ID do usuário dono dos jogos.
+	 * @param gameIds   Os IDs dos jogos excluídos.
+	 * @param seq       A sequência da exclusão.
+	 * @param deletedAt O instante da exclusão, usado pelo índice TTL.
+	 */
+	void recordDeletions(String userId, Collection<String> gameIds, long seq, Date deletedAt);
+}
@@ -0,0 +1,40 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.GameTombstone;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Implementação do fragmento {@link GameTombstoneRepositoryCustom} baseada no MongoTemplate.
+ */
+public class GameTombstoneRepositoryCustomImpl implements GameTombstoneRepositoryCustom {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param mongoTemplate Template do Spring Data MongoDB usado na gravação em lote.
+	 */
+	public GameTombstoneRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public void recordDeletions(String userId, Collection<String> gameIds, long seq, Date deletedAt) {
+		if (gameIds.isEmpty()) {
+			return;
+		}
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GameTombstone.class);
+		for (String gameId : gameIds) {
+			bulk.upsert(Query.query(Criteria.where("id").is(gameId)),
+					new Update().set("userId", userId).set("seq", seq).set("deletedAt", deletedAt));
+		}
+		bulk.execute();
+	}
+}
@@ -0,0 +1,24 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.LibrarySummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.stream.Stream;
+
+/**
+ * Interface de repositório para a entidade LibrarySummary (coleção 'library_summaries').
+ * As atualizações incrementais ficam no fragmento {@link LibrarySummaryRepositoryCustom}.
+ */
+@Repository
+public interface LibrarySummaryRepository extends MongoRepository<LibrarySummary, String>, LibrarySummaryRepositoryCustom {
+
+	/**
+	 * Percorre os IDs de todos os resumos existentes, sob demanda, sem carregar os documentos completos.
+	 * O Stream retornado deve ser fechado (ex: try-with-resources) para liberar o cursor.
+	 *
+	 * @return Um Stream de resumos com apenas o campo id preenchido.
+	 */
+	@Query(value = "{}", fields = "{ '_id': 1 }")
+	Stream<LibrarySummary> streamAllIdsBy();
+}
@@ -0,0 +1,34 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.LibrarySummary;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Fragmento de repositório com as atualizações atômicas do resumo da biblioteca.
+ * A implementação ({@link LibrarySummaryRepositoryCustomImpl}) utiliza o MongoTemplate.
+ */
+public interface LibrarySummaryRepositoryCustom {
+
+	/**
+	 * Aplica incrementos ao resumo de um usuário em uma única operação atômica
+	 * ({@code $inc} nos contadores e na versão, {@code $set} em lastModified).
+	 * Não cria o documento se ele não existir.
+	 *
+	 * @param userId     O ID do usuário (ID do resumo).
+	 * @param increments Caminho do campo (ex: "byGenre.RPG") e valor a somar.
+	 * @param modifiedAt Momento da alteração.
+	 * @return true se o resumo existia e foi atualizado.
+	 */
+	boolean applyIncrements(String userId, Map<String, Long> increments, Date modifiedAt);
+
+	/**
+	 * Substitui o resumo somente se ele ainda estiver na versão esperada, ou seja,
+	 * se nenhum incremento tiver sido aplicado desde a leitura.
+	 *
+	 * @param summary         O novo conteúdo do resumo.
+	 * @param expectedVersion A versão lida antes do recálculo.
+	 * @return true se o resumo foi substituído.
+	 */
+	boolean replaceIfVersion(LibrarySummary summary, long expectedVersion);
+}
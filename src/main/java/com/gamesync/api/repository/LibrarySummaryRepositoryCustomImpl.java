@@ -0,0 +1,41 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.LibrarySummary;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Implementação do fragmento {@link LibrarySummaryRepositoryCustom} baseada no MongoTemplate.
+ */
+public class LibrarySummaryRepositoryCustomImpl implements LibrarySummaryRepositoryCustom {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param mongoTemplate Template do Spring Data MongoDB usado nas atualizações.
+	 */
+	public LibrarySummaryRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public boolean applyIncrements(String userId, Map<String, Long> increments, Date modifiedAt) {
+		Update update = new Update().inc("version", 1).set("lastModified", modifiedAt);
+		increments.forEach(update::inc);
+		return mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(userId)), update, LibrarySummary.class)
+				.getMatchedCount() > 0;
+	}
+
+	@Override
+	public boolean replaceIfVersion(LibrarySummary summary, long expectedVersion) {
+		Query query = Query.query(Criteria.where("id").is(summary.getId()).and("version").is(expectedVersion));
+		summary.setVersion(expectedVersion + 1);
+		return mongoTemplate.findAndReplace(query, summary) != null;
+	}
+}
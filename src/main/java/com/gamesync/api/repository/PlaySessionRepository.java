@@ -0,0 +1,21 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.PlaySession;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Interface de repositório para a entidade PlaySession (coleção de séries temporais 'play_sessions').
+ * A consolidação dos trechos em totais fica no fragmento {@link PlaySessionRepositoryCustom}.
+ */
+@Repository
+public interface PlaySessionRepository extends MongoRepository<PlaySession, String>, PlaySessionRepositoryCustom {
+
+	/**
+	 * Exclui, com um único deleteMany sobre o campo de metadados, todos os trechos de um usuário.
+	 *
+	 * @param userId O ID do usuário.
+	 * @return A quantidade de trechos excluídos.
+	 */
+	long deleteByMetaUserId(String userId);
+}
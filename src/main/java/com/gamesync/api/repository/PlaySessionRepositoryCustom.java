@@ -0,0 +1,57 @@
+package com.gamesync.api.repository;
+
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Fragmento de repositório com a consolidação dos trechos de tempo de jogo em totais
+ * diários e semanais, e com a marca d'água que torna essa consolidação incremental.
+ */
+public interface PlaySessionRepositoryCustom {
+
+	/**
+	 * Recalcula, a partir dos trechos brutos, os totais diários e semanais (por jogo e do usuário)
+	 * que têm algum trecho gravado em {@code [from, to)}. Cada total é recalculado por inteiro
+	 * (todos os trechos do seu dia ou semana até {@code to}) e substitui o existente, então repetir a
+	 * consolidação de um intervalo não soma nada duas vezes. Todo o cálculo acontece no servidor, em
+	 * uma única agregação que termina em {@code $merge} sobre a coleção de totais.
+	 *
+	 * @param from Início do intervalo (inclusivo).
+	 * @param to   Fim do intervalo (exclusivo).
+	 */
+	void rollUp(Date from, Date to);
+
+	/**
+	 * Retorna até onde os trechos já foram consolidados.
+	 *
+	 * @return A marca d'água, ou Optional.empty() se nenhuma consolidação foi feita.
+	 */
+	Optional<Date> findRollupWatermark();
+
+	/**
+	 * Reserva a consolidação para uma instância até {@code lockedUntil}, se nenhuma outra a tiver
+	 * reservado (ou se a reserva anterior já tiver expirado).
+	 *
+	 * @param owner       Identificador desta execução.
+	 * @param now         O instante atual.
+	 * @param lockedUntil Até quando a reserva vale, caso a instância pare sem liberá-la.
+	 * @return true se a consolidação foi reservada por esta chamada.
+	 */
+	boolean lockRollup(String owner, Date now, Date lockedUntil);
+
+	/**
+	 * Avança a marca d'água e libera a reserva, se ela ainda pertencer a {@code owner}.
+	 *
+	 * @param owner     Identificador da execução que reservou a consolidação.
+	 * @param watermark A nova marca d'água (fim do intervalo consolidado).
+	 * @return true se a marca foi avançada.
+	 */
+	boolean completeRollup(String owner, Date watermark);
+
+	/**
+	 * Libera a reserva sem avançar a marca d'água, para que o intervalo seja repetido.
+	 *
+	 * @param owner Identificador da execução que reservou a consolidação.
+	 */
+	void releaseRollup(String owner);
+}
@@ -0,0 +1,143 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.PlaySession;
+import com.gamesync.api.model.PlayTimePeriod;
+import com.gamesync.api.model.PlayTimeRollup;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementação do fragmento {@link PlaySessionRepositoryCustom} baseada no MongoTemplate.
+ */
+public class PlaySessionRepositoryCustomImpl implements PlaySessionRepositoryCustom {
+
+	private static final String WATERMARK_COLLECTION = "rollup_watermarks";
+	private static final String WATERMARK_ID = "play-time";
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param mongoTemplate Template do Spring Data MongoDB usado na agregação e na marca d'água.
+	 */
+	public PlaySessionRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	/**
+	 * Lê os trechos desde o início da semana de {@code from}, suficiente para recalcular por inteiro
+	 * qualquer dia ou semana tocado pelo intervalo. Os trechos são agrupados uma única vez por
+	 * (usuário, jogo, dia), marcando os grupos com algum trecho a partir de {@code from}. Cada grupo
+	 * gera quatro linhas (dia e semana, do jogo e do usuário), que são somadas por chave; só os totais
+	 * tocados pelo intervalo seguem para o {@code $merge}, que substitui o documento existente.
+	 */
+	@Override
+	public void rollUp(Date from, Date to) {
+		Document day = new Document("$dateTrunc", new Document("date", "$timestamp").append("unit", "day").append("timezone", "UTC"));
+		Document week = new Document("$dateTrunc", new Document("date", "$_id.day").append("unit", "week")
+				.append("startOfWeek", "monday").append("timezone", "UTC"));
+		List<Document> pipeline = List.of(
+				new Document("$match", new Document("timestamp", new Document("$gte", startOfWeek(from)).append("$lt", to))),
+				new Document("$group", new Document("_id", new Document("userId", "$meta.userId")
+						.append("gameId", "$meta.gameId").append("day", day))
+						.append("seconds", new Document("$sum", "$seconds"))
+						.append("touched", new Document("$max", new Document("$gte", List.of("$timestamp", from))))),
+				new Document("$project", new Document("_id", 0).append("rows", List.of(
+						row("$_id.gameId", PlayTimePeriod.DAY, "$_id.day"),
+						row(null, PlayTimePeriod.DAY, "$_id.day"),
+						row("$_id.gameId", PlayTimePeriod.WEEK, week),
+						row(null, PlayTimePeriod.WEEK, week)))),
+				new Document("$unwind", "$rows"),
+				new Document("$group", new Document("_id", "$rows.key")
+						.append("seconds", new Document("$sum", "$rows.seconds"))
+						.append("touched", new Document("$max", "$rows.touched"))),
+				new Document("$match", new Document("touched", true)),
+				new Document("$project", new Document("_id", new Document("$concat", List.of(
+								"$_id.userId", ":", new Document("$ifNull", List.of("$_id.gameId", "*")), ":", "$_id.period", ":",
+								new Document("$dateToString", new Document("date", "$_id.periodStart").append("format", "%Y-%m-%d")))))
+						.append("userId", "$_id.userId")
+						.append("gameId", "$_id.gameId")
+						.append("period", "$_id.period")
+						.append("periodStart", "$_id.periodStart")
+						.append("seconds", 1)),
+				new Document("$merge", new Document("into", mongoTemplate.getCollectionName(PlayTimeRollup.class))
+						.append("on", "_id")
+						.append("whenMatched", "replace")
+						.append("whenNotMatched", "insert")));
+		mongoTemplate.getCollection(mongoTemplate.getCollectionName(PlaySession.class))
+				.aggregate(pipeline)
+				.allowDiskUse(true)
+				.toCollection();
+	}
+
+	private static Document row(String gameId, PlayTimePeriod period, Object periodStart) {
+		return new Document("key", new Document("userId", "$_id.userId")
+				.append("gameId", gameId != null ? gameId : new Document("$literal", null))
+				.append("period", period.name())
+				.append("periodStart", periodStart))
+				.append("seconds", "$seconds")
+				.append("touched", "$touched");
+	}
+
+	private static Date startOfWeek(Date date) {
+		LocalDate monday = LocalDate.ofInstant(date.toInstant(), ZoneOffset.UTC)
+				.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		return Date.from(monday.atStartOfDay(ZoneOffset.UTC).toInstant());
+	}
+
+	@Override
+	public Optional<Date> findRollupWatermark() {
+		Document state = mongoTemplate.getCollection(WATERMARK_COLLECTION).find(Filters.eq("_id", WATERMARK_ID)).first();
+		return Optional.ofNullable(state).map(document -> document.getDate("watermark"));
+	}
+
+	/**
+	 * Um único updateOne com upsert: se o documento existe e está reservado, o filtro não o encontra
+	 * e o upsert falha com chave duplicada.
+	 */
+	@Override
+	public boolean lockRollup(String owner, Date now, Date lockedUntil) {
+		try {
+			mongoTemplate.getCollection(WATERMARK_COLLECTION).updateOne(
+					Filters.and(Filters.eq("_id", WATERMARK_ID),
+							Filters.or(Filters.eq("lockedUntil", null), Filters.lt("lockedUntil", now))),
+					Updates.combine(Updates.set("lockedBy", owner), Updates.set("lockedUntil", lockedUntil)),
+					new UpdateOptions().upsert(true));
+			return true;
+		} catch (MongoWriteException e) {
+			if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+				return false;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean completeRollup(String owner, Date watermark) {
+		return mongoTemplate.getCollection(WATERMARK_COLLECTION)
+				.updateOne(Filters.and(Filters.eq("_id", WATERMARK_ID), Filters.eq("lockedBy", owner)),
+						Updates.combine(Updates.set("watermark", watermark),
+								Updates.unset("lockedBy"), Updates.unset("lockedUntil")))
+				.getModifiedCount() > 0;
+	}
+
+	@Override
+	public void releaseRollup(String owner) {
+		mongoTemplate.getCollection(WATERMARK_COLLECTION)
+				.updateOne(Filters.and(Filters.eq("_id", WATERMARK_ID), Filters.eq("lockedBy", owner)),
+						Updates.combine(Updates.unset("lockedBy"), Updates.unset("lockedUntil")));
+	}
+}
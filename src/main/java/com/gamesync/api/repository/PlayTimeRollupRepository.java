@@ -0,0 +1,40 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.PlayTimePeriod;
+import com.gamesync.api.model.PlayTimeRollup;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Interface de repositório para a entidade PlayTimeRollup (coleção 'play_time_rollups').
+ * Os documentos são gravados pela consolidação em {@link PlaySessionRepositoryCustom#rollUp(Date, Date)}.
+ */
+@Repository
+public interface PlayTimeRollupRepository extends MongoRepository<PlayTimeRollup, String> {
+
+	/**
+	 * Busca a série de totais de um usuário em um intervalo, em ordem cronológica.
+	 * A consulta é resolvida pelo índice (userId, gameId, period, periodStart).
+	 *
+	 * @param userId O ID do usuário.
+	 * @param gameId O ID do jogo, ou null para o total de todos os jogos.
+	 * @param period O período da série.
+	 * @param from   Início do intervalo (inclusivo).
+	 * @param to     Fim do intervalo (exclusivo).
+	 * @return Os totais dos períodos com tempo de jogo; períodos sem jogo não têm documento.
+	 */
+	@Query(value = "{ 'userId': ?0, 'gameId': ?1, 'period': ?2, 'periodStart': { '$gte': ?3, '$lt': ?4 } }",
+			sort = "{ 'periodStart': 1 }")
+	List<PlayTimeRollup> findSeries(String userId, String gameId, PlayTimePeriod period, Date from, Date to);
+
+	/**
+	 * Exclui, com um único deleteMany, todos os totais de um usuário.
+	 *
+	 * @param userId O ID do usuário.
+	 * @return A quantidade de documentos excluídos.
+	 */
+	long deleteByUserId(String userId);
+}
@@ -0,0 +1,13 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.SyncCounter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Interface de repositório para a entidade SyncCounter (coleção 'sync_sequences').
+ * A reserva e a liberação das sequências ficam no fragmento {@link SyncCounterRepositoryCustom}.
+ */
+@Repository
+public interface SyncCounterRepository extends MongoRepository<SyncCounter, String>, SyncCounterRepositoryCustom {
+}
@@ -0,0 +1,47 @@
+package com.gamesync.api.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Fragmento de repositório com a reserva atômica das sequências de sincronização.
+ * A implementação ({@link SyncCounterRepositoryCustomImpl}) utiliza o MongoTemplate.
+ */
+public interface SyncCounterRepositoryCustom {
+
+	/**
+	 * Reserva {@code count} sequências consecutivas de um usuário com um único findAndModify,
+	 * registrando a reserva como pendente e descartando as reservas abandonadas. Cria o contador
+	 * se ele ainda não existir, a partir de {@code initialSeq}.
+	 *
+	 * @param userId         O ID do usuário.
+	 * @param op             O identificador da gravação.
+	 * @param count          Quantas sequências reservar.
+	 * @param initialSeq     O valor inicial de um contador novo.
+	 * @param now            O instante da reserva.
+	 * @param abandonedBefore Reservas feitas antes deste instante são descartadas.
+	 * @return A primeira sequência reservada.
+	 */
+	long reserve(String userId, String op, int count, long initialSeq, Date now, Date abandonedBefore);
+
+	/**
+	 * Reserva uma sequência de cada usuário com uma única atualização e uma única leitura.
+	 * Usuários sem contador não são incluídos no resultado.
+	 *
+	 * @param userIds         Os IDs dos usuários.
+	 * @param op              O identificador da gravação.
+	 * @param now             O instante da reserva.
+	 * @param abandonedBefore Reservas feitas antes deste instante são descartadas.
+	 * @return A sequência reservada de cada usuário.
+	 */
+	Map<String, Long> reserveEach(Collection<String> userIds, String op, Date now, Date abandonedBefore);
+
+	/**
+	 * Libera as reservas de uma gravação.
+	 *
+	 * @param userIds Os IDs dos usuários.
+	 * @param op      O identificador da gravação.
+	 */
+	void release(Collection<String> userIds, String op);
+}
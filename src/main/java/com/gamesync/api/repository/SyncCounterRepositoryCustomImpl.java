@@ -0,0 +1,84 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.SyncCounter;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação do fragmento {@link SyncCounterRepositoryCustom} baseada no MongoTemplate.
+ */
+public class SyncCounterRepositoryCustomImpl implements SyncCounterRepositoryCustom {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param mongoTemplate Template do Spring Data MongoDB usado nas reservas.
+	 */
+	public SyncCounterRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public long reserve(String userId, String op, int count, long initialSeq, Date now, Date abandonedBefore) {
+		SyncCounter counter = mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(userId)),
+				reservation(op, count, initialSeq, now, abandonedBefore),
+				FindAndModifyOptions.options().upsert(true).returnNew(true), SyncCounter.class);
+		return counter.getSeq() - count + 1;
+	}
+
+	@Override
+	public Map<String, Long> reserveEach(Collection<String> userIds, String op, Date now, Date abandonedBefore) {
+		Map<String, Long> reserved = new HashMap<>();
+		if (userIds.isEmpty()) {
+			return reserved;
+		}
+		Query query = Query.query(Criteria.where("id").in(userIds));
+		mongoTemplate.updateMulti(query, reservation(op, 1, 0, now, abandonedBefore), SyncCounter.class);
+		for (SyncCounter counter : mongoTemplate.find(query, SyncCounter.class)) {
+			counter.getPending().stream()
+					.filter(reservation -> op.equals(reservation.getOp()))
+					.findFirst()
+					.ifPresent(reservation -> reserved.put(counter.getId(), reservation.getFirst()));
+		}
+		return reserved;
+	}
+
+	@Override
+	public void release(Collection<String> userIds, String op) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		mongoTemplate.updateMulti(Query.query(Criteria.where("id").in(userIds)),
+				new Update().pull("pending", new Document("op", op)), SyncCounter.class);
+	}
+
+	/**
+	 * Avança o contador em {@code count} e acrescenta a reserva às pendentes, no mesmo estágio:
+	 * as duas expressões partem do valor anterior de {@code seq}.
+	 */
+	private static AggregationUpdate reservation(String op, int count, long initialSeq, Date now, Date abandonedBefore) {
+		Document previous = new Document("$ifNull", List.of("$seq", initialSeq));
+		Document last = new Document("$add", List.of(previous, count));
+		Document kept = new Document("$filter", new Document("input", new Document("$ifNull", List.of("$pending", List.of())))
+				.append("cond", new Document("$gte", List.of("$$this.reservedAt", abandonedBefore))));
+		Document reservation = new Document("op", op)
+				.append("first", new Document("$add", List.of(previous, 1)))
+				.append("last", last)
+				.append("reservedAt", now);
+		Document set = new Document("seq", last)
+				.append("pending", new Document("$concatArrays", List.of(kept, List.of(reservation))));
+		return AggregationUpdate.from(List.of(context -> new Document("$set", set)));
+	}
+}
@@ -0,0 +1,250 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.event.GameChangedEvent;
+import com.gamesync.api.model.AccountDeletion;
+import com.gamesync.api.repository.AccountDeletionRepository;
+import com.gamesync.api.repository.GameRepository;
+import com.gamesync.api.repository.GameTombstoneRepository;
+import com.gamesync.api.repository.LibrarySummaryRepository;
+import com.gamesync.api.repository.PlaySessionRepository;
+import com.gamesync.api.repository.PlayTimeRollupRepository;
+import com.gamesync.api.repository.SyncCounterRepository;
+import com.gamesync.api.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Classe de serviço responsável por excluir uma conta e todos os dados associados a ela.
+ *
+ * <p>
+ * Contas com até {@code async-threshold} jogos são excluídas na própria requisição, com uma
+ * única operação {@code deleteMany} por coleção. Contas maiores são marcadas como "em exclusão"
+ * (deixam de se autenticar) e excluídas em segundo plano: os jogos são removidos em lotes de
+ * {@code batch-size}, com uma pausa de {@code batch-pause} entre eles para não saturar o banco,
+ * e o progresso fica registrado em {@link AccountDeletion}.
+ * </p>
+ *
+ * <p>
+ * A instância que executa a exclusão renova sua posse (lease) a cada lote. Se ela cair, a posse
+ * expira e qualquer instância retoma a exclusão do ponto em que parou; como cada lote apenas remove
+ * os jogos que ainda existem, repetir um lote interrompido é inofensivo.
+ * </p>
+ */
+@Service
+public class AccountDeletionService {
+	private static final Logger logger = LoggerFactory.getLogger(AccountDeletionService.class);
+
+	private final GameRepository gameRepository;
+	private final GameService gameService;
+	private final UserRepository userRepository;
+	private final LibrarySummaryRepository summaryRepository;
+	private final PlaySessionRepository playSessionRepository;
+	private final PlayTimeRollupRepository rollupRepository;
+	private final GameTombstoneRepository tombstoneRepository;
+	private final SyncCounterRepository syncCounterRepository;
+	private final AccountDeletionRepository deletionRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final long asyncThreshold;
+	private final int batchSize;
+	private final Duration batchPause;
+	private final Duration lease;
+	/** Identificador desta instância como responsável pelas exclusões em andamento. */
+	private final String owner = UUID.randomUUID().toString();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "account-deletion");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param gameRepository        Repositório de jogos, usado na exclusão em lotes.
+	 * @param gameService           Serviço de jogos, usado na exclusão imediata.
+	 * @param userRepository        Repositório de usuários.
+	 * @param summaryRepository     Repositório dos resumos de biblioteca.
+	 * @param playSessionRepository Repositório dos trechos de tempo de jogo.
+	 * @param rollupRepository      Repositório do histórico consolidado de tempo de jogo.
+	 * @param tombstoneRepository   Repositório dos registros de exclusão da sincronização incremental.
+	 * @param syncCounterRepository Repositório dos contadores de sequência da sincronização incremental.
+	 * @param deletionRepository    Repositório do andamento das exclusões em segundo plano.
+	 * @param eventPublisher        Publicador do evento que descarta os caches da biblioteca excluída.
+	 * @param asyncThreshold        Quantidade de jogos acima da qual a exclusão é feita em segundo plano.
+	 * @param batchSize             Quantidade de jogos removidos por lote.
+	 * @param batchPause            Pausa entre lotes.
+	 * @param lease                 Validade da posse de uma exclusão; após isso outra instância pode retomá-la.
+	 */
+	public AccountDeletionService(GameRepository gameRepository, GameService gameService, UserRepository userRepository,
+			LibrarySummaryRepository summaryRepository, PlaySessionRepository playSessionRepository,
+			PlayTimeRollupRepository rollupRepository, GameTombstoneRepository tombstoneRepository,
+			SyncCounterRepository syncCounterRepository, AccountDeletionRepository deletionRepository,
+			ApplicationEventPublisher eventPublisher,
+			@Value("${gamesync.users.deletion.async-threshold:10000}") long asyncThreshold,
+			@Value("${gamesync.users.deletion.batch-size:1000}") int batchSize,
+			@Value("${gamesync.users.deletion.batch-pause:200ms}") Duration batchPause,
+			@Value("${gamesync.users.deletion.lease:2m}") Duration lease) {
+		this.gameRepository = gameRepository;
+		this.gameService = gameService;
+		this.userRepository = userRepository;
+		this.summaryRepository = summaryRepository;
+		this.playSessionRepository = playSessionRepository;
+		this.rollupRepository = rollupRepository;
+		this.tombstoneRepository = tombstoneRepository;
+		this.syncCounterRepository = syncCounterRepository;
+		this.deletionRepository = deletionRepository;
+		this.eventPublisher = eventPublisher;
+		this.asyncThreshold = asyncThreshold;
+		this.batchSize = batchSize;
+		this.batchPause = batchPause;
+		this.lease = lease;
+	}
+
+	/**
+	 * Exclui uma conta existente: na hora, se a biblioteca for pequena, ou em segundo plano.
+	 *
+	 * @param userId O ID do usuário a excluir.
+	 * @return O andamento da exclusão: {@code DONE} se já foi concluída, ou {@code RUNNING}
+	 *         com o ID para consulta do progresso.
+	 */
+	public AccountDeletion deleteAccount(String userId) {
+		long totalGames = gameRepository.countByUserId(userId);
+		Date now = new Date();
+		if (totalGames <= asyncThreshold) {
+			long deleted = gameService.deleteAllGamesByUserId(userId);
+			deleteDerivedData(userId);
+			userRepository.deleteById(userId);
+			return AccountDeletion.builder()
+					.status(AccountDeletion.Status.DONE)
+					.totalGames(totalGames)
+					.deletedGames(deleted)
+					.startedAt(now)
+					.updatedAt(now)
+					.finishedAt(now)
+					.build();
+		}
+
+		userRepository.findById(userId).ifPresent(user -> {
+			user.setDeleting(true);
+			userRepository.save(user);
+		});
+		AccountDeletion deletion = deletionRepository.insert(AccountDeletion.builder()
+				.id(UUID.randomUUID().toString())
+				.userId(userId)
+				.status(AccountDeletion.Status.RUNNING)
+				.totalGames(totalGames)
+				.startedAt(now)
+				.updatedAt(now)
+				.leaseOwner(owner)
+				.leaseUntil(leaseUntil())
+				.build());
+		submit(deletion);
+		logger.info("Exclusão da conta {} ({} jogos) iniciada em segundo plano: {}", userId, totalGames, deletion.getId());
+		return deletion;
+	}
+
+	/**
+	 * Retorna o andamento de uma exclusão em segundo plano.
+	 *
+	 * @param deletionId O ID devolvido por {@link #deleteAccount(String)}.
+	 * @return O andamento, ou Optional.empty() se não existir.
+	 */
+	public Optional<AccountDeletion> getStatus(String deletionId) {
+		return deletionRepository.findById(deletionId);
+	}
+
+	/**
+	 * Retoma as exclusões cuja instância responsável deixou de renovar a posse (ex: caiu).
+	 * Também roda logo após a inicialização, retomando o que foi interrompido por um reinício.
+	 */
+	@Scheduled(fixedDelayString = "${gamesync.users.deletion.lease:2m}")
+	public void resumeAbandoned() {
+		Optional<AccountDeletion> claimed;
+		while ((claimed = deletionRepository.claimAbandoned(owner, new Date(), leaseUntil())).isPresent()) {
+			logger.info("Retomando a exclusão {} da conta {} ({} de {} jogos já removidos).", claimed.get().getId(),
+					claimed.get().getUserId(), claimed.get().getDeletedGames(), claimed.get().getTotalGames());
+			submit(claimed.get());
+		}
+	}
+
+	/**
+	 * Interrompe as exclusões em andamento; a posse expira e elas são retomadas depois.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void submit(AccountDeletion deletion) {
+		try {
+			executor.execute(() -> run(deletion));
+		} catch (RejectedExecutionException e) {
+			// Aplicação encerrando: a exclusão será retomada quando a posse expirar.
+		}
+	}
+
+	private void run(AccountDeletion deletion) {
+		String userId = deletion.getUserId();
+		try {
+			long deleted;
+			while ((deleted = gameRepository.deleteBatchByUserId(userId, batchSize)) > 0) {
+				if (!deletionRepository.recordProgress(deletion.getId(), owner, deleted, leaseUntil())) {
+					logger.warn("A exclusão {} foi assumida por outra instância.", deletion.getId());
+					return;
+				}
+				Thread.sleep(batchPause.toMillis());
+			}
+			deleteDerivedData(userId);
+			userRepository.deleteById(userId);
+			deletionRepository.findById(deletion.getId()).ifPresent(current -> {
+				Date now = new Date();
+				current.setStatus(AccountDeletion.Status.DONE);
+				current.setUpdatedAt(now);
+				current.setFinishedAt(now);
+				current.setLeaseUntil(null);
+				deletionRepository.save(current);
+			});
+			eventPublisher.publishEvent(GameChangedEvent.libraryReset(userId));
+			logger.info("Exclusão {} da conta {} concluída.", deletion.getId(), userId);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			logger.error("Falha na exclusão {} da conta {}; será retomada quando a posse expirar.",
+					deletion.getId(), userId, e);
+		}
+	}
+
+	/**
+	 * Remove os dados derivados da biblioteca do usuário: o resumo, os registros de exclusão, o
+	 * contador de sequências e o histórico de tempo de jogo.
+	 */
+	private void deleteDerivedData(String userId) {
+		summaryRepository.deleteById(userId);
+		tombstoneRepository.deleteByUserId(userId);
+		syncCounterRepository.deleteById(userId);
+		rollupRepository.deleteByUserId(userId);
+		try {
+			playSessionRepository.deleteByMetaUserId(userId);
+		} catch (DataAccessException e) {
+			// Exclusões em coleções de séries temporais exigem MongoDB 5.1+; os trechos expiram sozinhos.
+			logger.warn("Não foi possível excluir os trechos de tempo de jogo do usuário {}: {}", userId, e.getMessage());
+		}
+	}
+
+	private Date leaseUntil() {
+		return new Date(System.currentTimeMillis() + lease.toMillis());
+	}
+}
@@ -0,0 +1,422 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.event.GameInvalidationEvent;
+import com.gamesync.api.event.UserInvalidationEvent;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameTombstone;
+import com.gamesync.api.model.User;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Mantém os caches locais coerentes entre as várias instâncias da API.
+ *
+ * <p>
+ * Cada instância abre um change stream do MongoDB sobre as coleções "games", "game_tombstones" e
+ * "users" e, para cada alteração (inclusive as feitas por ela mesma), publica um
+ * {@link GameInvalidationEvent} ou um {@link UserInvalidationEvent} para os caches em memória e para
+ * o stream de alterações (GameEventHub).
+ * Change streams exigem um replica set; para desenvolvimento local basta um replica set de um único
+ * nó (ver README).
+ * </p>
+ *
+ * <p>
+ * Cada stream projeta ({@code $project}) apenas os campos lidos aqui: o tipo da operação, a chave do
+ * documento, o instante e, nos jogos, o userId e se o nome mudou. Documentos completos (e os hashes
+ * de senha dos usuários) não trafegam até as instâncias. Não são usadas imagens anteriores
+ * (pre-images), que fariam o MongoDB guardar uma cópia de cada jogo a cada gravação de tempo de
+ * jogo: o dono de um jogo excluído vem do registro de exclusão ({@code game_tombstones}) gravado pelo
+ * GameService, e a exclusão de uma conta descarta a biblioteca pelo evento do próprio usuário.
+ * </p>
+ *
+ * <p>
+ * O token de retomada (resume token) de cada stream é gravado periodicamente na coleção
+ * "change_stream_tokens", identificado pela instância e pela coleção, de modo que após um reinício
+ * ou uma queda de conexão a leitura continue do ponto em que parou. Se o histórico necessário já não
+ * existir no oplog, o stream recomeça do momento atual e todos os caches locais são esvaziados.
+ * </p>
+ *
+ * <p>
+ * O atraso entre a gravação no banco e o processamento do evento é publicado em
+ * {@code gamesync.changestream.lag} (timer) e {@code gamesync.changestream.lag.current} (gauge,
+ * em segundos). Se o atraso ultrapassar {@code gamesync.change-stream.max-lag}, os caches locais são
+ * esvaziados para que o tempo de desatualização continue limitado.
+ * </p>
+ */
+@Service
+public class ChangeStreamService {
+	private static final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+	private static final String TOKEN_COLLECTION = "change_stream_tokens";
+	/** O servidor não é um replica set (change streams indisponíveis). */
+	private static final int NOT_A_REPLICA_SET = 40573;
+	/** O ponto de retomada não existe mais no oplog. */
+	private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+	private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+	private static final Duration TOKEN_SAVE_INTERVAL = Duration.ofSeconds(1);
+	private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+	private final MongoTemplate mongoTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final String nodeId;
+	private final Duration maxLag;
+	private final List<Watcher> watchers = new ArrayList<>();
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param mongoTemplate  Template usado para abrir os change streams e gravar os tokens de retomada.
+	 * @param eventPublisher Publicador dos eventos de invalidação.
+	 * @param meterRegistry  Registro de métricas de atraso e volume de eventos.
+	 * @param enabled        Liga/desliga os change streams (gamesync.change-stream.enabled).
+	 * @param nodeId         Identificador estável desta instância, usado como chave dos tokens de retomada.
+	 * @param maxLag         Atraso máximo tolerado antes de esvaziar os caches locais.
+	 */
+	public ChangeStreamService(MongoTemplate mongoTemplate, ApplicationEventPublisher eventPublisher,
+			MeterRegistry meterRegistry,
+			@Value("${gamesync.change-stream.enabled:true}") boolean enabled,
+			@Value("${gamesync.change-stream.node-id:${HOSTNAME:local}}") String nodeId,
+			@Value("${gamesync.change-stream.max-lag:30s}") Duration maxLag) {
+		this.mongoTemplate = mongoTemplate;
+		this.eventPublisher = eventPublisher;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.nodeId = nodeId;
+		this.maxLag = maxLag;
+	}
+
+	/**
+	 * Inicia a leitura dos change streams ao final da inicialização, uma thread por coleção.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			logger.info("Change streams desabilitados; os caches locais não serão invalidados por outras instâncias.");
+			return;
+		}
+		String games = mongoTemplate.getCollectionName(Game.class);
+		disablePreImages(games);
+		watchers.add(new Watcher(games, List.of("insert", "update", "replace"), FullDocument.UPDATE_LOOKUP,
+				List.of("fullDocument.userId", "updateDescription.updatedFields.name", "updateDescription.removedFields"),
+				this::onGameChange));
+		watchers.add(new Watcher(mongoTemplate.getCollectionName(GameTombstone.class), List.of("insert", "update", "replace"),
+				FullDocument.UPDATE_LOOKUP, List.of("fullDocument.userId"), this::onGameDeleted));
+		watchers.add(new Watcher(mongoTemplate.getCollectionName(User.class), List.of("insert", "update", "replace", "delete"),
+				FullDocument.DEFAULT, List.of(), this::onUserChange));
+		watchers.forEach(Watcher::start);
+	}
+
+	/**
+	 * Interrompe as threads e grava o último token de retomada de cada coleção.
+	 */
+	@PreDestroy
+	public void stop() {
+		watchers.forEach(Watcher::stop);
+	}
+
+	private void onGameChange(ChangeStreamDocument<Document> change) {
+		String userId = userIdOf(change.getFullDocument());
+		if (userId == null) {
+			// O jogo foi excluído antes da busca do documento: a exclusão chega pelo registro de exclusão.
+			return;
+		}
+		eventPublisher.publishEvent(new GameInvalidationEvent(userId, idOf(change.getDocumentKey()),
+				nameMayHaveChanged(change), change.getOperationType() == OperationType.INSERT));
+	}
+
+	/**
+	 * O ID de um registro de exclusão é o ID do jogo excluído.
+	 */
+	private void onGameDeleted(ChangeStreamDocument<Document> change) {
+		String userId = userIdOf(change.getFullDocument());
+		if (userId != null) {
+			eventPublisher.publishEvent(new GameInvalidationEvent(userId, idOf(change.getDocumentKey()), true));
+		}
+	}
+
+	/**
+	 * Inserções, substituições e exclusões sempre afetam o nome; atualizações só quando o alteram.
+	 */
+	private static boolean nameMayHaveChanged(ChangeStreamDocument<Document> change) {
+		UpdateDescription description = change.getUpdateDescription();
+		if (change.getOperationType() != OperationType.UPDATE || description == null) {
+			return true;
+		}
+		return description.getUpdatedFields() != null && description.getUpdatedFields().containsKey("name")
+				|| description.getRemovedFields() != null && description.getRemovedFields().contains("name");
+	}
+
+	private void onUserChange(ChangeStreamDocument<Document> change) {
+		String userId = idOf(change.getDocumentKey());
+		if (userId == null) {
+			return;
+		}
+		eventPublisher.publishEvent(new UserInvalidationEvent(userId));
+		if (change.getOperationType() == OperationType.DELETE) {
+			// Conta excluída: os jogos são removidos sem registros de exclusão, então a biblioteca é descartada aqui.
+			eventPublisher.publishEvent(new GameInvalidationEvent(userId, null, true));
+		}
+	}
+
+	private void invalidateAll() {
+		eventPublisher.publishEvent(GameInvalidationEvent.all());
+		eventPublisher.publishEvent(UserInvalidationEvent.all());
+	}
+
+	/**
+	 * Desliga as imagens anteriores (pre-images) habilitadas por versões anteriores, que faziam o
+	 * MongoDB guardar uma cópia do jogo a cada atualização (MongoDB 6.0+).
+	 */
+	private void disablePreImages(String collection) {
+		try {
+			mongoTemplate.executeCommand(new Document("collMod", collection)
+					.append("changeStreamPreAndPostImages", new Document("enabled", false)));
+		} catch (RuntimeException e) {
+			logger.debug("Não foi possível desligar pre-images em '{}': {}", collection, e.getMessage());
+		}
+	}
+
+	private static String idOf(BsonDocument documentKey) {
+		if (documentKey == null || !documentKey.containsKey("_id")) {
+			return null;
+		}
+		BsonValue id = documentKey.get("_id");
+		if (id.isObjectId()) {
+			return id.asObjectId().getValue().toHexString();
+		}
+		return id.isString() ? id.asString().getValue() : id.toString();
+	}
+
+	private static String userIdOf(Document document) {
+		return document != null ? document.getString("userId") : null;
+	}
+
+	private BsonDocument loadToken(String collection) {
+		Document stored = mongoTemplate.getCollection(TOKEN_COLLECTION)
+				.find(Filters.eq("_id", tokenId(collection))).first();
+		if (stored == null || stored.get("token") == null) {
+			return null;
+		}
+		return BsonDocument.parse(((Document) stored.get("token")).toJson());
+	}
+
+	private void saveToken(String collection, BsonDocument token) {
+		mongoTemplate.getCollection(TOKEN_COLLECTION).replaceOne(
+				Filters.eq("_id", tokenId(collection)),
+				new Document("_id", tokenId(collection))
+						.append("token", Document.parse(token.toJson()))
+						.append("updatedAt", new Date()),
+				new ReplaceOptions().upsert(true));
+	}
+
+	private void deleteToken(String collection) {
+		mongoTemplate.getCollection(TOKEN_COLLECTION).deleteOne(Filters.eq("_id", tokenId(collection)));
+	}
+
+	private String tokenId(String collection) {
+		return nodeId + ":" + collection;
+	}
+
+	/**
+	 * Lê o change stream de uma coleção em uma thread dedicada, reabrindo-o após falhas.
+	 */
+	private final class Watcher implements Runnable {
+		private final String collection;
+		private final List<Bson> pipeline;
+		private final FullDocument fullDocument;
+		private final Consumer<ChangeStreamDocument<Document>> handler;
+		private final Timer lagTimer;
+		private final Counter eventCounter;
+		private final AtomicLong currentLagSeconds = new AtomicLong();
+		private volatile boolean running;
+		private volatile boolean lagging;
+		private boolean opened;
+		private Thread thread;
+		private BsonDocument lastToken;
+		private long lastSavedAt;
+
+		/**
+		 * @param collection     A coleção observada.
+		 * @param operations     Os tipos de operação de interesse.
+		 * @param fullDocument   Se o documento atual deve ser buscado nas atualizações.
+		 * @param documentFields Os campos do documento (ou da descrição da atualização) mantidos pela projeção,
+		 *                       além do tipo da operação, da chave e do instante.
+		 * @param handler        O tratamento de cada evento.
+		 */
+		Watcher(String collection, List<String> operations, FullDocument fullDocument, List<String> documentFields,
+				Consumer<ChangeStreamDocument<Document>> handler) {
+			this.collection = collection;
+			this.fullDocument = fullDocument;
+			this.handler = handler;
+			Document projection = new Document("operationType", 1).append("documentKey", 1).append("clusterTime", 1);
+			documentFields.forEach(field -> projection.append(field, 1));
+			this.pipeline = List.of(Aggregates.match(Filters.in("operationType", operations)), Aggregates.project(projection));
+			this.lagTimer = Timer.builder("gamesync.changestream.lag")
+					.description("Atraso entre a gravação no banco e o processamento do evento")
+					.tag("collection", collection)
+					.maximumExpectedValue(Duration.ofMinutes(5))
+					.publishPercentileHistogram()
+					.register(meterRegistry);
+			this.eventCounter = Counter.builder("gamesync.changestream.events")
+					.tag("collection", collection)
+					.register(meterRegistry);
+			Gauge.builder("gamesync.changestream.lag.current", currentLagSeconds, AtomicLong::get)
+					.description("Atraso, em segundos, do último evento processado")
+					.tag("collection", collection)
+					.register(meterRegistry);
+		}
+
+		void start() {
+			running = true;
+			thread = new Thread(this, "change-stream-" + collection);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		void stop() {
+			running = false;
+			if (thread != null) {
+				thread.interrupt();
+				try {
+					thread.join(TimeUnit.SECONDS.toMillis(5));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (lastToken != null) {
+				saveToken(collection, lastToken);
+			}
+		}
+
+		@Override
+		public void run() {
+			while (running) {
+				try {
+					watch();
+				} catch (MongoCommandException e) {
+					if (e.getErrorCode() == NOT_A_REPLICA_SET) {
+						logger.warn("Change streams indisponíveis (o MongoDB não é um replica set); "
+								+ "a coleção '{}' não será observada.", collection);
+						return;
+					}
+					if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST || e.getErrorCode() == CHANGE_STREAM_FATAL_ERROR) {
+						logger.warn("Ponto de retomada de '{}' perdido; recomeçando do momento atual e esvaziando os caches.",
+								collection);
+						deleteToken(collection);
+						lastToken = null;
+						invalidateAll();
+						continue;
+					}
+					retryAfterFailure(e);
+				} catch (MongoException | IllegalStateException e) {
+					retryAfterFailure(e);
+				}
+			}
+		}
+
+		private void watch() {
+			MongoCollection<Document> source = mongoTemplate.getCollection(collection);
+			var stream = source.watch(pipeline)
+					.fullDocument(fullDocument)
+					.maxAwaitTime(1, TimeUnit.SECONDS);
+			BsonDocument token = lastToken != null ? lastToken : loadToken(collection);
+			if (token != null) {
+				stream = stream.resumeAfter(token);
+			} else if (opened) {
+				// Reaberto sem ponto de retomada: eventos do intervalo podem ter sido perdidos.
+				invalidateAll();
+			}
+			opened = true;
+			try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+				while (running) {
+					ChangeStreamDocument<Document> change = cursor.tryNext();
+					if (change != null && change.getOperationType() == OperationType.INVALIDATE) {
+						// A coleção foi removida ou renomeada: o stream termina e não pode ser retomado.
+						deleteToken(collection);
+						lastToken = null;
+						invalidateAll();
+						return;
+					}
+					if (change != null) {
+						process(change);
+					}
+					BsonDocument resumeToken = cursor.getResumeToken();
+					if (resumeToken != null) {
+						lastToken = resumeToken;
+					}
+					if (lastToken != null && System.currentTimeMillis() - lastSavedAt >= TOKEN_SAVE_INTERVAL.toMillis()) {
+						saveToken(collection, lastToken);
+						lastSavedAt = System.currentTimeMillis();
+					}
+				}
+			}
+		}
+
+		private void process(ChangeStreamDocument<Document> change) {
+			handler.accept(change);
+			eventCounter.increment();
+			if (change.getClusterTime() != null) {
+				long lagMillis = Math.max(0, System.currentTimeMillis() - change.getClusterTime().getTime() * 1000L);
+				lagTimer.record(lagMillis, TimeUnit.MILLISECONDS);
+				currentLagSeconds.set(lagMillis / 1000);
+				boolean overLimit = lagMillis > maxLag.toMillis();
+				if (overLimit && !lagging) {
+					logger.warn("Change stream de '{}' atrasado {} ms (limite {}); esvaziando os caches locais.",
+							collection, lagMillis, maxLag);
+					invalidateAll();
+				}
+				lagging = overLimit;
+			}
+		}
+
+		private void retryAfterFailure(RuntimeException e) {
+			if (!running) {
+				return;
+			}
+			logger.warn("Falha no change stream de '{}': {}. Nova tentativa em {}s.",
+					collection, e.getMessage(), RETRY_DELAY.toSeconds());
+			try {
+				Thread.sleep(RETRY_DELAY.toMillis());
+			} catch (InterruptedException interrupted) {
+				Thread.currentThread().interrupt();
+				running = false;
+			}
+		}
+	}
+}
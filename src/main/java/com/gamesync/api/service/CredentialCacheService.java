@@ -0,0 +1,187 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.event.UserInvalidationEvent;
+import com.gamesync.api.model.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache de autenticações bem-sucedidas via HTTP Basic.
+ * Evita repetir a verificação BCrypt (e a busca do usuário no banco) a cada requisição
+ * quando o mesmo par usuário/senha já foi validado recentemente.
+ *
+ * <p>
+ * A chave do cache nunca é a senha em texto puro: usa-se um HMAC-SHA256 de
+ * "username:senha" com uma chave aleatória gerada a cada inicialização da aplicação.
+ * As entradas expiram após um TTL configurável e o tamanho do cache é limitado.
+ * </p>
+ *
+ * <p>
+ * Toda alteração de credenciais (atualização ou exclusão de usuário) deve chamar
+ * {@link #evictUser(String)}. Um contador de "época" impede que uma autenticação
+ * iniciada antes da invalidação seja gravada no cache depois dela.
+ * </p>
+ */
+@Service
+public class CredentialCacheService {
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	private final boolean enabled;
+	private final Cache<String, CachedCredential> cache;
+	private final SecretKeySpec hashKey;
+	private final AtomicLong epoch = new AtomicLong();
+
+	/**
+	 * Construtor para injeção de dependências e configuração do cache.
+	 *
+	 * @param enabled       Liga/desliga o cache (gamesync.security.credential-cache.enabled).
+	 * @param maxSize       Número máximo de credenciais mantidas em memória.
+	 * @param ttl           Tempo de vida de cada entrada a partir da gravação.
+	 * @param meterRegistry Registro de métricas onde são publicados hits/misses/evictions.
+	 */
+	public CredentialCacheService(
+			@Value("${gamesync.security.credential-cache.enabled:true}") boolean enabled,
+			@Value("${gamesync.security.credential-cache.max-size:10000}") long maxSize,
+			@Value("${gamesync.security.credential-cache.ttl:5m}") Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+
+		byte[] keyBytes = new byte[32];
+		new SecureRandom().nextBytes(keyBytes);
+		this.hashKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "credentials");
+	}
+
+	/**
+	 * Indica se o cache está habilitado por configuração.
+	 *
+	 * @return true se o cache estiver ativo.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Retorna a época atual de invalidação. Deve ser lida antes de iniciar a
+	 * autenticação real e repassada para {@link #put(String, String, Authentication, long)}.
+	 *
+	 * @return O valor atual da época.
+	 */
+	public long currentEpoch() {
+		return epoch.get();
+	}
+
+	/**
+	 * Busca uma autenticação previamente validada para o par usuário/senha.
+	 *
+	 * @param username    O nome de usuário informado.
+	 * @param rawPassword A senha informada em texto puro (usada apenas para calcular a chave).
+	 * @return Uma nova Authentication autenticada, ou Optional.empty() se não houver entrada válida.
+	 */
+	public Optional<Authentication> get(String username, String rawPassword) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		CachedCredential cached = cache.getIfPresent(keyFor(username, rawPassword));
+		if (cached == null) {
+			return Optional.empty();
+		}
+		return Optional.of(UsernamePasswordAuthenticationToken.authenticated(
+				cached.principal(), null, cached.authorities()));
+	}
+
+	/**
+	 * Armazena uma autenticação bem-sucedida no cache.
+	 * A gravação é descartada se alguma invalidação ocorreu desde {@code epochAtStart}.
+	 *
+	 * @param username       O nome de usuário informado.
+	 * @param rawPassword    A senha informada em texto puro.
+	 * @param authentication O resultado autenticado retornado pelo provedor real.
+	 * @param epochAtStart   A época lida antes da autenticação real.
+	 */
+	public void put(String username, String rawPassword, Authentication authentication, long epochAtStart) {
+		if (!enabled || !authentication.isAuthenticated()
+				|| !(authentication.getPrincipal() instanceof UserPrincipal user)) {
+			return;
+		}
+		if (epoch.get() != epochAtStart) {
+			return;
+		}
+		cache.put(keyFor(username, rawPassword),
+				new CachedCredential(user.getId(), user, List.copyOf(authentication.getAuthorities())));
+	}
+
+	/**
+	 * Remove do cache todas as credenciais associadas a um usuário.
+	 * Deve ser chamado sempre que a senha ou o username mudarem e quando o usuário for excluído.
+	 *
+	 * @param userId O ID do usuário cujas credenciais devem ser invalidadas.
+	 */
+	public void evictUser(String userId) {
+		epoch.incrementAndGet();
+		cache.asMap().values().removeIf(cached -> cached.userId().equals(userId));
+	}
+
+	/**
+	 * Remove as credenciais de um usuário alterado no banco (inclusive por outra instância).
+	 *
+	 * @param event O evento de invalidação do usuário.
+	 */
+	@EventListener
+	public void onUserInvalidated(UserInvalidationEvent event) {
+		if (event.isAll()) {
+			epoch.incrementAndGet();
+			cache.invalidateAll();
+			return;
+		}
+		evictUser(event.userId());
+	}
+
+	/**
+	 * Calcula a chave do cache como HMAC-SHA256 de "username:senha".
+	 */
+	private String keyFor(String username, String rawPassword) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(hashKey);
+			byte[] digest = mac.doFinal((username + ":" + rawPassword).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Falha ao calcular o hash da credencial.", e);
+		}
+	}
+
+	/**
+	 * Entrada do cache: o principal autenticado e suas autoridades.
+	 */
+	private record CachedCredential(String userId, Object principal,
+			Collection<? extends GrantedAuthority> authorities) {
+	}
+}
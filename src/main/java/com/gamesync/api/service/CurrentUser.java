@@ -0,0 +1,41 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.model.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Acesso ao usuário autenticado da requisição atual, compartilhado pelos serviços.
+ * O principal vem do contexto do Spring Security (HTTP Basic ou token Bearer) e já traz o ID,
+ * então nenhuma consulta ao banco é feita.
+ */
+public final class CurrentUser {
+
+	private CurrentUser() {
+	}
+
+	/**
+	 * Retorna o principal do usuário autenticado.
+	 *
+	 * @return O UserPrincipal da requisição atual.
+	 * @throws IllegalStateException Se não houver usuário autenticado ou o principal for de outro tipo.
+	 */
+	public static UserPrincipal get() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()
+				|| !(authentication.getPrincipal() instanceof UserPrincipal)) {
+			throw new IllegalStateException("Nenhum usuário autenticado encontrado ou tipo de principal inválido.");
+		}
+		return (UserPrincipal) authentication.getPrincipal();
+	}
+
+	/**
+	 * Retorna o ID do usuário autenticado.
+	 *
+	 * @return O ID da requisição atual.
+	 * @throws IllegalStateException Se não houver usuário autenticado.
+	 */
+	public static String id() {
+		return get().getId();
+	}
+}
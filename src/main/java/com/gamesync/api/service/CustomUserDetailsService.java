@@ -1,39 +1,105 @@
 package com.gamesync.api.service;
 
+import com.gamesync.api.event.UserInvalidationEvent;
+import com.gamesync.api.model.User;
+import com.gamesync.api.model.UserPrincipal;
 import com.gamesync.api.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 /**
  * Implementação customizada da interface UserDetailsService do Spring Security.
  * Esta classe é responsável por carregar os detalhes de um usuário (como nome, senha e permissões)
  * a partir do banco de dados (via UserRepository) para que o Spring Security possa realizar a autenticação.
+ *
+ * <p>
+ * Os principals carregados são mantidos em um cache local limitado por tamanho e TTL.
+ * O UserService mantém o cache coerente em registerUser, updateUser e deleteUser.
+ * </p>
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService { //
     private final UserRepository userRepository; //
+    private final Cache<String, UserPrincipal> principals;
 
     /**
      * Construtor para injeção de dependência do UserRepository.
      * O Spring injetará uma instância de UserRepository aqui.
      * @param userRepository O repositório para acesso aos dados dos usuários.
+     * @param maxSize Número máximo de principals mantidos em cache.
+     * @param ttl Tempo de vida de cada principal em cache.
+     * @param meterRegistry Registro de métricas do cache.
      */
-    public CustomUserDetailsService(UserRepository userRepository) { //
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${gamesync.security.principal-cache.max-size:10000}") long maxSize,
+                                    @Value("${gamesync.security.principal-cache.ttl:10m}") Duration ttl,
+                                    MeterRegistry meterRegistry) { //
         this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
     }
 
     /**
      * Carrega os detalhes de um usuário específico pelo seu nome de usuário.
      * Este método é chamado pelo Spring Security durante o processo de autenticação.
+     * O banco de dados só é consultado quando o principal não está em cache.
      * @param username O nome de usuário (login) cujos detalhes são solicitados.
-     * @return Um objeto UserDetails contendo os dados do usuário. No nosso caso, a própria entidade User implementa UserDetails.
+     * @return Um {@link UserPrincipal} imutável contendo os dados do usuário.
      * @throws UsernameNotFoundException Se nenhum usuário for encontrado com o nome de usuário fornecido.
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException { //
-        return userRepository.findByUsername(username) //
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username)); //
+        UserPrincipal principal = principals.get(username, key -> userRepository.findByUsername(key)
+                .filter(user -> !user.isDeleting())
+                .map(UserPrincipal::from)
+                .orElse(null));
+        if (principal == null) {
+            throw new UsernameNotFoundException("Usuário não encontrado: " + username); //
+        }
+        return principal;
+    }
+
+    /**
+     * Grava (ou substitui) o principal de um usuário recém-persistido no cache.
+     * @param user A entidade User no estado salvo no banco.
+     */
+    public void cachePrincipal(User user) {
+        principals.put(user.getUsername(), UserPrincipal.from(user));
+    }
+
+    /**
+     * Remove o principal de um username do cache.
+     * @param username O nome de usuário a ser removido.
+     */
+    public void evictPrincipal(String username) {
+        principals.invalidate(username);
+    }
+
+    /**
+     * Remove do cache o principal de um usuário alterado no banco (inclusive por outra instância).
+     * O cache é indexado por username, então a busca pelo ID percorre as entradas.
+     * @param event O evento de invalidação do usuário.
+     */
+    @EventListener
+    public void onUserInvalidated(UserInvalidationEvent event) {
+        if (event.isAll()) {
+            principals.invalidateAll();
+            return;
+        }
+        principals.asMap().values().removeIf(principal -> event.userId().equals(principal.getId()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,220 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.event.GameChangedEvent;
+import com.gamesync.api.event.GameInvalidationEvent;
+import com.gamesync.api.exception.BadRequestException;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.GameRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Classe de serviço responsável pelo autocompletar de nomes de jogos.
+ *
+ * <p>
+ * Para cada usuário é mantido em memória um array ordenado com os nomes normalizados
+ * (minúsculas e sem acentos) da sua biblioteca. A busca por prefixo é uma busca binária
+ * seguida de uma varredura sequencial dos N primeiros resultados, sem acesso ao banco.
+ * </p>
+ *
+ * <p>
+ * O índice de um usuário é montado sob demanda na primeira consulta e mantido atualizado
+ * pelos eventos {@link GameChangedEvent} publicados pelo GameService. Usuários inativos
+ * saem da memória após um tempo configurável.
+ * </p>
+ */
+@Service
+public class GameAutocompleteService {
+
+	private static final int DEFAULT_LIMIT = 10;
+	/** Separa o nome normalizado do ID na chave, garantindo chaves únicas e a ordem por nome. */
+	private static final char KEY_SEPARATOR = '\u0000';
+
+	private final GameRepository gameRepository;
+	private final Cache<String, NameIndex> indexes;
+	private final int maxLimit;
+
+	/**
+	 * Construtor para injeção de dependências e configuração do cache de índices.
+	 *
+	 * @param gameRepository Repositório usado para montar o índice de um usuário.
+	 * @param maxUsers       Número máximo de usuários com índice em memória.
+	 * @param idleTtl        Tempo sem consultas após o qual o índice de um usuário é descartado.
+	 * @param maxLimit       Quantidade máxima de sugestões por consulta.
+	 * @param meterRegistry  Registro de métricas onde são publicados hits/misses/evictions.
+	 */
+	public GameAutocompleteService(GameRepository gameRepository,
+			@Value("${gamesync.games.autocomplete.max-users:1000}") long maxUsers,
+			@Value("${gamesync.games.autocomplete.idle-ttl:30m}") Duration idleTtl,
+			@Value("${gamesync.games.autocomplete.max-limit:50}") int maxLimit,
+			MeterRegistry meterRegistry) {
+		this.gameRepository = gameRepository;
+		this.maxLimit = maxLimit;
+		this.indexes = Caffeine.newBuilder()
+				.maximumSize(maxUsers)
+				.expireAfterAccess(idleTtl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, indexes, "autocomplete");
+	}
+
+	/**
+	 * Retorna os nomes dos jogos do usuário autenticado que começam com o prefixo informado,
+	 * ignorando maiúsculas/minúsculas e acentos, em ordem alfabética.
+	 *
+	 * @param prefix O prefixo digitado.
+	 * @param limit  Quantidade máxima de sugestões (padrão 10).
+	 * @return Os nomes originais dos jogos encontrados.
+	 * @throws BadRequestException Se o limite estiver fora do intervalo permitido.
+	 */
+	public List<String> suggest(String prefix, Integer limit) {
+		UserPrincipal currentUser = CurrentUser.get();
+		int suggestionLimit = limit != null ? limit : DEFAULT_LIMIT;
+		if (suggestionLimit < 1 || suggestionLimit > maxLimit) {
+			throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + maxLimit + ".");
+		}
+		String normalizedPrefix = prefix != null ? NameNormalizer.normalize(prefix) : "";
+		NameIndex index = indexes.get(currentUser.getId(), this::loadIndex);
+		return index.startingWith(normalizedPrefix, suggestionLimit);
+	}
+
+	/**
+	 * Mantém o índice do usuário em sincronia com as alterações da biblioteca.
+	 * Se o índice ainda não estiver em memória nada é feito (ele será montado na próxima consulta);
+	 * a invalidação nesse caso descarta um índice que esteja sendo montado concorrentemente
+	 * a partir de uma leitura anterior à alteração.
+	 *
+	 * @param event O evento publicado pelo GameService.
+	 */
+	@EventListener
+	public void onGameChanged(GameChangedEvent event) {
+		NameIndex index = event.isLibraryReset() ? null : indexes.getIfPresent(event.userId());
+		if (index == null) {
+			indexes.invalidate(event.userId());
+			return;
+		}
+		index.replace(event.before(), event.after());
+	}
+
+	/**
+	 * Descarta o índice do dono de um jogo cujo nome pode ter mudado no banco (inclusive por outra
+	 * instância); ele é remontado na próxima consulta. Sem o dono, todos os índices são descartados.
+	 * Alterações que não tocam o nome (ex: tempo de jogo) são ignoradas: o índice mantido por
+	 * {@link #onGameChanged(GameChangedEvent)} continua válido.
+	 *
+	 * @param event O evento de invalidação publicado pelo ChangeStreamService.
+	 */
+	@EventListener
+	public void onGameInvalidated(GameInvalidationEvent event) {
+		if (!event.nameChanged()) {
+			return;
+		}
+		if (event.userId() == null) {
+			indexes.invalidateAll();
+		} else {
+			indexes.invalidate(event.userId());
+		}
+	}
+
+	private NameIndex loadIndex(String userId) {
+		List<Game> games = gameRepository.findNamesByUserId(userId);
+		List<String[]> entries = new ArrayList<>(games.size());
+		for (Game game : games) {
+			if (game.getName() != null) {
+				entries.add(new String[] { keyOf(game), game.getName() });
+			}
+		}
+		entries.sort((a, b) -> a[0].compareTo(b[0]));
+		String[] keys = new String[entries.size()];
+		String[] names = new String[entries.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = entries.get(i)[0];
+			names[i] = entries.get(i)[1];
+		}
+		return new NameIndex(keys, names);
+	}
+
+	private static String keyOf(Game game) {
+		return NameNormalizer.normalize(game.getName()) + KEY_SEPARATOR + game.getId();
+	}
+
+	/**
+	 * Índice de nomes de um usuário: dois arrays paralelos ordenados pela chave
+	 * (nome normalizado + separador + ID). As leituras usam o snapshot atual sem bloqueio;
+	 * as escritas (raras) são serializadas e publicam um novo snapshot (copy-on-write).
+	 */
+	private static final class NameIndex {
+
+		private volatile Snapshot snapshot;
+
+		NameIndex(String[] keys, String[] names) {
+			this.snapshot = new Snapshot(keys, names);
+		}
+
+		List<String> startingWith(String prefix, int limit) {
+			Snapshot current = snapshot;
+			int position = Arrays.binarySearch(current.keys(), prefix);
+			int start = position >= 0 ? position : -position - 1;
+			List<String> result = new ArrayList<>(Math.min(limit, current.keys().length - start));
+			for (int i = start; i < current.keys().length && result.size() < limit; i++) {
+				if (!current.keys()[i].startsWith(prefix)) {
+					break;
+				}
+				result.add(current.names()[i]);
+			}
+			return result;
+		}
+
+		synchronized void replace(Game before, Game after) {
+			Snapshot current = snapshot;
+			String[] keys = current.keys();
+			String[] names = current.names();
+			if (before != null && before.getName() != null) {
+				int position = Arrays.binarySearch(keys, keyOf(before));
+				if (position >= 0) {
+					keys = remove(keys, position);
+					names = remove(names, position);
+				}
+			}
+			if (after != null && after.getName() != null) {
+				String key = keyOf(after);
+				int position = Arrays.binarySearch(keys, key);
+				if (position < 0) {
+					int insertAt = -position - 1;
+					keys = insert(keys, insertAt, key);
+					names = insert(names, insertAt, after.getName());
+				}
+			}
+			snapshot = new Snapshot(keys, names);
+		}
+
+		private static String[] remove(String[] source, int index) {
+			String[] target = new String[source.length - 1];
+			System.arraycopy(source, 0, target, 0, index);
+			System.arraycopy(source, index + 1, target, index, source.length - index - 1);
+			return target;
+		}
+
+		private static String[] insert(String[] source, int index, String value) {
+			String[] target = new String[source.length + 1];
+			System.arraycopy(source, 0, target, 0, index);
+			target[index] = value;
+			System.arraycopy(source, index, target, index + 1, source.length - index);
+			return target;
+		}
+
+		private record Snapshot(String[] keys, String[] names) {
+		}
+	}
+}
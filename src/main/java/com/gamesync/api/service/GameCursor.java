@@ -0,0 +1,75 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.exception.BadRequestException;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.repository.GameSortField;
+import org.springframework.data.domain.Sort;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco da paginação por keyset da listagem de jogos.
+ * Guarda a ordenação em uso e a posição (valor do campo de ordenação, id) do último jogo
+ * entregue, serializados em Base64 URL-safe, para que o cliente o trate apenas como um
+ * token a ser devolvido na próxima requisição.
+ *
+ * Jogos sem valor no campo de ordenação (ex: hoursPlayed ausente em registros antigos) também
+ * podem encerrar uma página: o valor nulo é codificado pela ausência da última parte do token.
+ *
+ * @param sort      O campo de ordenação da listagem que gerou o cursor.
+ * @param direction A direção da ordenação.
+ * @param value     O valor do campo de ordenação no último jogo da página (nulo se o jogo não o tinha).
+ * @param id        O ID do último jogo da página.
+ */
+record GameCursor(GameSortField sort, Sort.Direction direction, Object value, String id) {
+
+	/**
+	 * Cria o cursor que aponta para logo após o jogo informado.
+	 *
+	 * @param game      O último jogo da página atual.
+	 * @param sort      O campo de ordenação em uso.
+	 * @param direction A direção da ordenação em uso.
+	 * @return O cursor correspondente.
+	 */
+	static GameCursor after(Game game, GameSortField sort, Sort.Direction direction) {
+		return new GameCursor(sort, direction, sort.valueOf(game), game.getId());
+	}
+
+	/**
+	 * Serializa o cursor em um token opaco no formato "CAMPO:DIREÇÃO:id:valor", ou
+	 * "CAMPO:DIREÇÃO:id" quando o valor é nulo.
+	 * O valor fica por último porque pode conter ':' (ex: nomes de jogos).
+	 *
+	 * @return O token Base64 URL-safe.
+	 */
+	String encode() {
+		String raw = sort.name() + ":" + direction.name() + ":" + id
+				+ (value != null ? ":" + sort.format(value) : "");
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodifica um token recebido do cliente e confere se ele pertence à mesma ordenação.
+	 *
+	 * @param token     O token opaco.
+	 * @param sort      O campo de ordenação da requisição atual.
+	 * @param direction A direção da ordenação da requisição atual.
+	 * @return O cursor decodificado.
+	 * @throws BadRequestException Se o token estiver malformado ou tiver sido gerado para outra ordenação.
+	 */
+	static GameCursor decode(String token, GameSortField sort, Sort.Direction direction) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(":", 4);
+			if (parts.length < 3 || parts[2].isEmpty()) {
+				throw new BadRequestException("Cursor de paginação inválido.");
+			}
+			if (!sort.name().equals(parts[0]) || !direction.name().equals(parts[1])) {
+				throw new BadRequestException("O cursor informado pertence a outra ordenação.");
+			}
+			return new GameCursor(sort, direction, parts.length == 4 ? sort.parse(parts[3]) : null, parts[2]);
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException("Cursor de paginação inválido.", e);
+		}
+	}
+}
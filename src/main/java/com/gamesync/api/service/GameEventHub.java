@@ -0,0 +1,459 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.dto.GameStreamEvent;
+import com.gamesync.api.event.GameChangedEvent;
+import com.gamesync.api.event.GameInvalidationEvent;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.GameRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Distribui as alterações da biblioteca aos dispositivos conectados em GET /games/stream
+ * (Server-Sent Events).
+ *
+ * <p>
+ * Cada conexão é um {@link SseEmitter}: a requisição entra em modo assíncrono e a thread do
+ * servidor é devolvida ao pool, então milhares de conexões ociosas não ocupam nenhuma thread.
+ * As alterações são apenas enfileiradas, sem bloquear quem as publicou, na fila limitada
+ * ({@code buffer-size}) de cada conexão do dono. Um pool pequeno ({@code sender-threads}) esvazia
+ * as filas; cada fila é esvaziada por no máximo uma thread por vez, preservando a ordem.
+ * </p>
+ *
+ * <p>
+ * As alterações chegam por dois caminhos. O {@link GameChangedEvent}, publicado pelo GameService da
+ * própria instância, já traz o jogo e é entregue imediatamente. O {@link GameInvalidationEvent},
+ * publicado pelo ChangeStreamService para as gravações de todas as instâncias e pelo PlayTimeService
+ * para o tempo de jogo gravado, traz apenas o ID: os IDs pendentes de cada usuário são agrupados e
+ * lidos com uma única consulta no pool de envio. A sequência de cada jogo já entregue é guardada por
+ * alguns minutos, então a mesma gravação vinda pelos dois caminhos é enviada uma única vez. Se um
+ * usuário acumular mais IDs pendentes que {@code buffer-size} (ex: uma alteração em massa feita em
+ * outra instância), os dispositivos recebem um único {@code reset}.
+ * </p>
+ *
+ * <p>
+ * Um dispositivo que não consome os eventos no ritmo em que são produzidos (fila cheia) é
+ * desconectado: ele reconecta e sincroniza com GET /games/changes, em vez de fazer a memória crescer
+ * sem limite. Conexões ociosas recebem um comentário a cada {@code heartbeat} para que proxies não as
+ * encerrem e para que conexões mortas sejam detectadas.
+ * </p>
+ *
+ * <p>
+ * Um envio que não termina em {@code send-timeout} (cliente que parou de ler com o buffer TCP cheio)
+ * encerra a conexão. A thread presa na escrita só é liberada quando o servidor desiste da escrita,
+ * então o pool ganha uma thread enquanto ela estiver presa: um cliente lento nunca reduz as threads
+ * disponíveis para os demais. Métricas: {@code gamesync.stream.subscribers},
+ * {@code gamesync.stream.events} e {@code gamesync.stream.evictions}.
+ * </p>
+ */
+@Service
+public class GameEventHub {
+	private static final Logger logger = LoggerFactory.getLogger(GameEventHub.class);
+
+	/** Sequência registrada para um jogo excluído: nenhuma gravação posterior é esperada. */
+	private static final long DELETED = Long.MAX_VALUE;
+
+	private static final int IDLE = 0;
+	private static final int SENDING = 1;
+	private static final int STALLED = 2;
+
+	private final GameRepository gameRepository;
+	private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	/** IDs invalidados ainda não lidos, por usuário (ID do jogo -> se foi uma inserção). */
+	private final Map<String, Map<String, Boolean>> pendingIds = new ConcurrentHashMap<>();
+	/** Sequência da última versão entregue de cada jogo. */
+	private final Cache<String, Long> deliveredSeqs = Caffeine.newBuilder()
+			.maximumSize(100_000)
+			.expireAfterWrite(Duration.ofMinutes(5))
+			.build();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final int bufferSize;
+	private final int maxConnectionsPerUser;
+	private final Duration timeout;
+	private final Duration sendTimeout;
+	private final ThreadPoolExecutor senders;
+	private final Counter eventCounter;
+	private final Counter evictionCounter;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param gameRepository        Repositório usado para ler os jogos invalidados.
+	 * @param meterRegistry         Registro de métricas.
+	 * @param bufferSize            Quantidade máxima de eventos pendentes por conexão antes da desconexão.
+	 * @param maxConnectionsPerUser Quantidade máxima de conexões simultâneas por usuário; a mais antiga é encerrada.
+	 * @param senderThreads         Threads que enviam os eventos enfileirados.
+	 * @param timeout               Duração máxima de uma conexão; depois dela o cliente reconecta.
+	 * @param sendTimeout           Duração máxima de um envio; depois dela a conexão é encerrada.
+	 */
+	public GameEventHub(GameRepository gameRepository, MeterRegistry meterRegistry,
+			@Value("${gamesync.games.stream.buffer-size:256}") int bufferSize,
+			@Value("${gamesync.games.stream.max-connections-per-user:10}") int maxConnectionsPerUser,
+			@Value("${gamesync.games.stream.sender-threads:4}") int senderThreads,
+			@Value("${gamesync.games.stream.timeout:30m}") Duration timeout,
+			@Value("${gamesync.games.stream.send-timeout:10s}") Duration sendTimeout) {
+		this.gameRepository = gameRepository;
+		this.bufferSize = bufferSize;
+		this.maxConnectionsPerUser = maxConnectionsPerUser;
+		this.timeout = timeout;
+		this.sendTimeout = sendTimeout;
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "game-stream-sender-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.eventCounter = Counter.builder("gamesync.stream.events")
+				.description("Eventos enfileirados para dispositivos conectados")
+				.register(meterRegistry);
+		this.evictionCounter = Counter.builder("gamesync.stream.evictions")
+				.description("Conexões encerradas por não consumirem os eventos a tempo")
+				.register(meterRegistry);
+		Gauge.builder("gamesync.stream.subscribers", subscriberCount, AtomicInteger::get)
+				.description("Dispositivos conectados ao stream de alterações")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Abre uma conexão de eventos para o usuário autenticado.
+	 *
+	 * @return O emitter a ser devolvido pelo controller.
+	 */
+	public SseEmitter subscribeCurrentUser() {
+		String userId = CurrentUser.get().getId();
+		Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeout.toMillis()));
+		subscriber.emitter.onCompletion(() -> remove(subscriber));
+		subscriber.emitter.onTimeout(() -> remove(subscriber));
+		subscriber.emitter.onError(error -> remove(subscriber));
+
+		Set<Subscriber> userSubscribers = subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet());
+		userSubscribers.add(subscriber);
+		subscriberCount.incrementAndGet();
+		if (userSubscribers.size() > maxConnectionsPerUser) {
+			userSubscribers.stream()
+					.filter(other -> other != subscriber)
+					.min((a, b) -> Long.compare(a.connectedAt, b.connectedAt))
+					.ifPresent(oldest -> close(oldest, "limite de conexões por usuário"));
+		}
+		// Um primeiro comentário confirma a conexão e envia os cabeçalhos imediatamente.
+		subscriber.enqueue(SseEmitter.event().comment("connected"));
+		return subscriber.emitter;
+	}
+
+	/**
+	 * Enfileira a alteração para as conexões do dono da biblioteca.
+	 *
+	 * @param event O evento publicado pelo GameService.
+	 */
+	@EventListener
+	public void onGameChanged(GameChangedEvent event) {
+		if (!hasSubscribers(event.userId())) {
+			return;
+		}
+		if (event.isLibraryReset()) {
+			publish(event.userId(), new GameStreamEvent(GameStreamEvent.Type.RESET, null, null));
+		} else if (event.after() == null) {
+			if (markDelivered(event.before().getId(), DELETED)) {
+				publish(event.userId(), new GameStreamEvent(GameStreamEvent.Type.DELETED, event.before().getId(), null));
+			}
+		} else if (markDelivered(event.after().getId(), seqOf(event.after()))) {
+			GameStreamEvent.Type type = event.before() == null ? GameStreamEvent.Type.CREATED : GameStreamEvent.Type.UPDATED;
+			publish(event.userId(), new GameStreamEvent(type, event.after().getId(), event.after()));
+		}
+	}
+
+	/**
+	 * Agenda a leitura do jogo invalidado para as conexões do dono. Invalidações sem jogo (biblioteca
+	 * ou caches inteiros descartados) viram um {@code reset}.
+	 *
+	 * @param event O evento publicado pelo ChangeStreamService ou pelo PlayTimeService.
+	 */
+	@EventListener
+	public void onGameInvalidated(GameInvalidationEvent event) {
+		if (event.userId() == null) {
+			subscribers.keySet().forEach(userId ->
+					publish(userId, new GameStreamEvent(GameStreamEvent.Type.RESET, null, null)));
+			return;
+		}
+		if (!hasSubscribers(event.userId())) {
+			return;
+		}
+		if (event.gameId() == null) {
+			publish(event.userId(), new GameStreamEvent(GameStreamEvent.Type.RESET, null, null));
+			return;
+		}
+		AtomicBoolean schedule = new AtomicBoolean();
+		pendingIds.compute(event.userId(), (userId, ids) -> {
+			if (ids == null) {
+				ids = new LinkedHashMap<>();
+				schedule.set(true);
+			}
+			ids.merge(event.gameId(), event.created(), Boolean::logicalOr);
+			return ids;
+		});
+		if (schedule.get()) {
+			try {
+				senders.execute(() -> resolvePending(event.userId()));
+			} catch (RejectedExecutionException e) {
+				pendingIds.remove(event.userId());
+			}
+		}
+	}
+
+	/**
+	 * Envia um comentário a todas as conexões, mantendo-as abertas em proxies e detectando as que caíram.
+	 */
+	@Scheduled(fixedDelayString = "${gamesync.games.stream.heartbeat:15s}")
+	public void sendHeartbeats() {
+		for (Set<Subscriber> userSubscribers : subscribers.values()) {
+			for (Subscriber subscriber : userSubscribers) {
+				subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+			}
+		}
+	}
+
+	/**
+	 * Encerra as conexões cujo envio atual passou de {@code send-timeout} e repõe, no pool, a thread
+	 * que ficou presa na escrita.
+	 */
+	@Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+	public void evictStalledSenders() {
+		long now = System.nanoTime();
+		for (Set<Subscriber> userSubscribers : subscribers.values()) {
+			for (Subscriber subscriber : userSubscribers) {
+				if (subscriber.sendState.get() == SENDING && now - subscriber.sendStartedAt > sendTimeout.toNanos()
+						&& subscriber.sendState.compareAndSet(SENDING, STALLED)) {
+					resizeSenders(1);
+					evictionCounter.increment();
+					close(subscriber, "envio excedeu " + sendTimeout);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Encerra as conexões abertas; os clientes reconectam em outra instância.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		senders.shutdownNow();
+		for (Set<Subscriber> userSubscribers : subscribers.values()) {
+			for (Subscriber subscriber : userSubscribers) {
+				subscriber.emitter.complete();
+			}
+		}
+	}
+
+	private boolean hasSubscribers(String userId) {
+		Set<Subscriber> userSubscribers = subscribers.get(userId);
+		return userSubscribers != null && !userSubscribers.isEmpty();
+	}
+
+	private void publish(String userId, GameStreamEvent payload) {
+		Set<Subscriber> userSubscribers = subscribers.get(userId);
+		if (userSubscribers == null) {
+			return;
+		}
+		for (Subscriber subscriber : userSubscribers) {
+			subscriber.enqueue(SseEmitter.event()
+					.name(payload.getType().name().toLowerCase(Locale.ROOT))
+					.data(payload, MediaType.APPLICATION_JSON));
+			eventCounter.increment();
+		}
+	}
+
+	/**
+	 * Lê, com uma única consulta, os jogos invalidados de um usuário e enfileira os que ainda não
+	 * foram entregues nessa versão. Um ID que não é mais encontrado foi excluído.
+	 */
+	private void resolvePending(String userId) {
+		Map<String, Boolean> ids = pendingIds.remove(userId);
+		if (ids == null || !hasSubscribers(userId)) {
+			return;
+		}
+		if (ids.size() > bufferSize) {
+			publish(userId, new GameStreamEvent(GameStreamEvent.Type.RESET, null, null));
+			return;
+		}
+		try {
+			Map<String, Game> games = gameRepository.findByUserIdAndIdIn(userId, List.copyOf(ids.keySet())).stream()
+					.collect(Collectors.toMap(Game::getId, Function.identity()));
+			ids.forEach((gameId, created) -> {
+				Game game = games.get(gameId);
+				if (game == null) {
+					if (markDelivered(gameId, DELETED)) {
+						publish(userId, new GameStreamEvent(GameStreamEvent.Type.DELETED, gameId, null));
+					}
+				} else if (markDelivered(gameId, seqOf(game))) {
+					GameStreamEvent.Type type = created ? GameStreamEvent.Type.CREATED : GameStreamEvent.Type.UPDATED;
+					publish(userId, new GameStreamEvent(type, gameId, game));
+				}
+			});
+		} catch (RuntimeException e) {
+			logger.warn("Falha ao ler jogos alterados do usuário {}; enviando reset: {}", userId, e.getMessage());
+			publish(userId, new GameStreamEvent(GameStreamEvent.Type.RESET, null, null));
+		}
+	}
+
+	/**
+	 * Registra a sequência entregue de um jogo.
+	 *
+	 * @return false se esta versão (ou uma posterior) já foi entregue.
+	 */
+	private boolean markDelivered(String gameId, long seq) {
+		AtomicBoolean newer = new AtomicBoolean();
+		deliveredSeqs.asMap().compute(gameId, (id, delivered) -> {
+			if (delivered != null && delivered >= seq) {
+				return delivered;
+			}
+			newer.set(true);
+			return seq;
+		});
+		return newer.get();
+	}
+
+	private static long seqOf(Game game) {
+		return game.getSeq() != null ? game.getSeq() : 0;
+	}
+
+	/**
+	 * Aumenta (ou reduz) o pool de envio. Reduções esperam as threads excedentes ficarem ociosas.
+	 */
+	private synchronized void resizeSenders(int delta) {
+		int size = senders.getCorePoolSize() + delta;
+		if (delta > 0) {
+			senders.setMaximumPoolSize(size);
+			senders.setCorePoolSize(size);
+		} else {
+			senders.setCorePoolSize(size);
+			senders.setMaximumPoolSize(size);
+		}
+	}
+
+	private void close(Subscriber subscriber, String reason) {
+		if (subscriber.closed.compareAndSet(false, true)) {
+			logger.debug("Encerrando conexão de eventos do usuário {}: {}", subscriber.userId, reason);
+			remove(subscriber);
+			subscriber.queue.clear();
+			subscriber.emitter.complete();
+		}
+	}
+
+	private void remove(Subscriber subscriber) {
+		subscriber.closed.set(true);
+		Set<Subscriber> userSubscribers = subscribers.get(subscriber.userId);
+		if (userSubscribers != null && userSubscribers.remove(subscriber)) {
+			subscriberCount.decrementAndGet();
+			subscribers.computeIfPresent(subscriber.userId, (id, current) -> current.isEmpty() ? null : current);
+		}
+	}
+
+	/**
+	 * Uma conexão: o emitter, a fila limitada de eventos pendentes e o indicador de que uma thread
+	 * do pool já está esvaziando a fila.
+	 */
+	private final class Subscriber {
+		private final String userId;
+		private final SseEmitter emitter;
+		private final long connectedAt = System.nanoTime();
+		private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+		/** IDLE, SENDING ou STALLED (envio abandonado por {@link #evictStalledSenders()}). */
+		private final AtomicInteger sendState = new AtomicInteger(IDLE);
+		private volatile long sendStartedAt;
+
+		private Subscriber(String userId, SseEmitter emitter) {
+			this.userId = userId;
+			this.emitter = emitter;
+		}
+
+		private void enqueue(SseEmitter.SseEventBuilder event) {
+			if (closed.get()) {
+				return;
+			}
+			if (!queue.offer(event)) {
+				evictionCounter.increment();
+				close(this, "fila de eventos cheia (consumidor lento)");
+				return;
+			}
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (draining.compareAndSet(false, true)) {
+				try {
+					senders.execute(this::drain);
+				} catch (RejectedExecutionException e) {
+					draining.set(false);
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				SseEmitter.SseEventBuilder event;
+				while (!closed.get() && (event = queue.poll()) != null) {
+					send(event);
+				}
+			} catch (IOException | IllegalStateException e) {
+				// Cliente desconectado: o emitter já foi (ou será) concluído pelo servidor.
+				remove(this);
+				queue.clear();
+				return;
+			} finally {
+				draining.set(false);
+			}
+			// Um evento pode ter chegado entre o último poll e a liberação do indicador.
+			if (!closed.get() && !queue.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+
+		private void send(SseEmitter.SseEventBuilder event) throws IOException {
+			sendStartedAt = System.nanoTime();
+			sendState.set(SENDING);
+			try {
+				emitter.send(event);
+			} finally {
+				if (!sendState.compareAndSet(SENDING, IDLE)) {
+					// O envio foi abandonado e o pool ganhou uma thread no lugar desta.
+					resizeSenders(-1);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.gamesync.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Classe de serviço responsável pela exportação da biblioteca de jogos do usuário.
+ * Os documentos são lidos por um cursor do MongoDB e escritos diretamente no corpo da
+ * resposta, um registro por linha, de modo que o uso de memória permaneça constante
+ * independentemente do tamanho da biblioteca.
+ */
+@Service
+public class GameExportService {
+	private static final Logger logger = LoggerFactory.getLogger(GameExportService.class);
+
+	private static final String CSV_HEADER =
+			"id,name,description,developer,imageUrl,hoursPlayed,favorite,genres,tags,platforms,status,source,addedAt\n";
+
+	/**
+	 * Formatos de exportação suportados.
+	 */
+	public enum Format {
+		/** Um objeto JSON por linha (application/x-ndjson). */
+		NDJSON,
+		/** Valores separados por vírgula, com cabeçalho (text/csv). */
+		CSV
+	}
+
+	private final GameRepository gameRepository;
+	private final ObjectWriter jsonWriter;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param gameRepository Repositório usado para abrir o cursor sobre os jogos do usuário.
+	 * @param objectMapper   Serializador JSON usado no formato NDJSON.
+	 */
+	public GameExportService(GameRepository gameRepository, ObjectMapper objectMapper) {
+		this.gameRepository = gameRepository;
+		this.jsonWriter = objectMapper.writerFor(Game.class);
+	}
+
+	/**
+	 * Prepara a exportação da biblioteca do usuário autenticado.
+	 * O usuário é resolvido na thread da requisição; a leitura do cursor e a escrita
+	 * acontecem depois, na thread assíncrona que consome o {@link StreamingResponseBody}.
+	 * Se o cliente desconectar, a escrita falha, o cursor é fechado e a exportação é interrompida.
+	 *
+	 * @param format O formato de saída.
+	 * @return O corpo da resposta a ser transmitido.
+	 */
+	public StreamingResponseBody exportCurrentUserLibrary(Format format) {
+		String userId = CurrentUser.get().getId();
+		return outputStream -> {
+			OutputStream out = new BufferedOutputStream(outputStream, 16 * 1024);
+			try (Stream<Game> games = gameRepository.streamByUserIdOrderByAddedAtAsc(userId)) {
+				if (format == Format.CSV) {
+					out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+				}
+				Iterator<Game> iterator = games.iterator();
+				while (iterator.hasNext()) {
+					Game game = iterator.next();
+					if (format == Format.CSV) {
+						out.write(toCsvLine(game).getBytes(StandardCharsets.UTF_8));
+					} else {
+						out.write(jsonWriter.writeValueAsBytes(game));
+						out.write('\n');
+					}
+				}
+				out.flush();
+			} catch (IOException e) {
+				// Normalmente indica que o cliente desconectou; o cursor já foi fechado pelo try-with-resources.
+				logger.debug("Exportação da biblioteca do usuário {} interrompida: {}", userId, e.getMessage());
+				throw e;
+			}
+		};
+	}
+
+	private static String toCsvLine(Game game) {
+		return String.join(",",
+				csv(game.getId()),
+				csv(game.getName()),
+				csv(game.getDescription()),
+				csv(game.getDeveloper()),
+				csv(game.getImageUrl()),
+				game.getHoursPlayed() != null ? game.getHoursPlayed().toString() : "",
+				Boolean.toString(game.isFavorite()),
+				csv(joinSet(game.getGenres())),
+				csv(joinSet(game.getTags())),
+				csv(joinSet(game.getPlatforms())),
+				game.getStatus() != null ? game.getStatus().name() : "",
+				game.getSource() != null ? game.getSource().name() : "",
+				game.getAddedAt() != null ? game.getAddedAt().toInstant().toString() : "") + "\n";
+	}
+
+	private static String joinSet(Set<String> values) {
+		return values != null ? String.join(";", values) : null;
+	}
+
+	/**
+	 * Escapa um valor conforme a RFC 4180: valores com vírgula, aspas ou quebra de linha
+	 * ficam entre aspas e as aspas internas são duplicadas.
+	 */
+	private static String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+		return value;
+	}
+}
@@ -0,0 +1,259 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.event.GameChangedEvent;
+import com.gamesync.api.event.GameInvalidationEvent;
+import com.gamesync.api.model.Game;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache de leitura (read-through) na frente do GameRepository para as consultas mais frequentes
+ * do GameService: a biblioteca completa de um usuário e um jogo por ID.
+ *
+ * <p>
+ * Os valores armazenados são cópias congeladas (coleções imutáveis) que nunca saem do cache:
+ * cada leitura devolve uma cópia nova, então o chamador pode alterar o objeto recebido sem
+ * corromper o que está em cache.
+ * </p>
+ *
+ * <p>
+ * A invalidação é feita pelos eventos {@link GameChangedEvent}: cada alteração remove apenas a
+ * biblioteca do usuário e o jogo afetado. A remoção aguarda um carregamento concorrente da mesma
+ * chave, então um valor lido antes da gravação nunca permanece no cache depois dela. Cada
+ * biblioteca guarda também a versão (ver {@link LibraryVersionService}) lida antes da sua carga:
+ * uma leitura que exige uma versão mais nova recarrega a biblioteca, mesmo que a invalidação vinda
+ * de outra instância ainda não tenha chegado.
+ * </p>
+ *
+ * <p>
+ * Uma alteração em massa não conhece os IDs dos jogos afetados, então os jogos do usuário são
+ * removidos percorrendo o cache, o que não alcança uma carga em andamento. Para que ela não grave
+ * um jogo anterior à alteração, cada descarte registra um número de geração para o usuário; uma
+ * carga que começou antes dele remove o jogo que acabou de gravar.
+ * As métricas (gets, hits, misses, evictions, tempo de carga e taxa de acerto) são publicadas
+ * com os nomes "game-libraries" e "games".
+ * </p>
+ */
+@Component
+public class GameReadCache {
+
+	private final boolean enabled;
+	private final Cache<String, CachedLibrary> libraries;
+	private final Cache<String, Game> games;
+	/** Geração do último descarte de cada usuário (e de todos, em {@code allResetAt}). */
+	private final Cache<String, Long> userResetAt;
+	private final AtomicLong resets = new AtomicLong();
+	private volatile long allResetAt;
+
+	/**
+	 * Construtor para injeção de dependências e configuração dos caches.
+	 *
+	 * @param enabled           Liga/desliga o cache (gamesync.games.cache.enabled).
+	 * @param maxLibraryEntries Soma máxima de jogos entre todas as bibliotecas em cache.
+	 * @param maxGames          Número máximo de jogos individuais em cache.
+	 * @param ttl               Tempo de vida de cada entrada a partir da carga.
+	 * @param meterRegistry     Registro de métricas.
+	 */
+	public GameReadCache(
+			@Value("${gamesync.games.cache.enabled:true}") boolean enabled,
+			@Value("${gamesync.games.cache.max-library-entries:200000}") long maxLibraryEntries,
+			@Value("${gamesync.games.cache.max-games:10000}") long maxGames,
+			@Value("${gamesync.games.cache.ttl:5m}") Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.enabled = enabled;
+		this.libraries = Caffeine.newBuilder()
+				.maximumWeight(maxLibraryEntries)
+				.<String, CachedLibrary>weigher((userId, library) -> Math.max(1, library.games().size()))
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		this.games = Caffeine.newBuilder()
+				.maximumSize(maxGames)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		// Basta lembrar de um descarte enquanto uma carga iniciada antes dele puder estar em andamento.
+		this.userResetAt = Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.build();
+		monitor(meterRegistry, libraries, "game-libraries");
+		monitor(meterRegistry, games, "games");
+	}
+
+	/**
+	 * Retorna a biblioteca de um usuário, carregando-a com {@code loader} em caso de falta ou se a
+	 * versão em cache for anterior a {@code version}.
+	 *
+	 * @param userId  O ID do usuário.
+	 * @param version A versão da biblioteca lida antes desta chamada; o conteúdo devolvido é pelo menos dela.
+	 * @param loader  Consulta ao repositório executada quando a biblioteca não está em cache.
+	 * @return Uma cópia da biblioteca, que pode ser alterada livremente pelo chamador.
+	 */
+	public List<Game> getLibrary(String userId, long version, Function<String, List<Game>> loader) {
+		if (!enabled) {
+			return loader.apply(userId);
+		}
+		CachedLibrary cached = libraries.get(userId, id -> new CachedLibrary(version, freezeAll(loader.apply(id))));
+		if (cached.version() < version) {
+			cached = libraries.asMap().compute(userId, (id, current) -> current != null && current.version() >= version
+					? current
+					: new CachedLibrary(version, freezeAll(loader.apply(id))));
+		}
+		List<Game> copy = new ArrayList<>(cached.games().size());
+		for (Game game : cached.games()) {
+			copy.add(copyOf(game));
+		}
+		return copy;
+	}
+
+	/**
+	 * Retorna um jogo pelo ID, carregando-o com {@code loader} em caso de falta.
+	 * Jogos inexistentes não são armazenados.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @param loader Consulta ao repositório executada quando o jogo não está em cache.
+	 * @return Uma cópia do jogo, ou Optional.empty() se ele não existir.
+	 */
+	public Optional<Game> getGame(String gameId, Supplier<Optional<Game>> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+		long startedAt = resets.get();
+		Game cached = games.get(gameId, id -> loader.get().map(GameReadCache::freeze).orElse(null));
+		if (cached != null && resetSince(cached.getUserId(), startedAt)) {
+			// A biblioteca do dono foi descartada durante a carga: o jogo pode ser anterior à alteração.
+			games.asMap().remove(gameId, cached);
+		}
+		return Optional.ofNullable(cached).map(GameReadCache::copyOf);
+	}
+
+	/**
+	 * Remove do cache apenas o que foi afetado pela alteração: a biblioteca do usuário e o jogo
+	 * alterado. Uma alteração em massa remove também todos os jogos do usuário.
+	 *
+	 * @param event O evento publicado pelo GameService.
+	 */
+	@EventListener
+	public void onGameChanged(GameChangedEvent event) {
+		libraries.invalidate(event.userId());
+		if (event.isLibraryReset()) {
+			resetUser(event.userId());
+		} else if (event.before() != null) {
+			games.invalidate(event.before().getId());
+		}
+	}
+
+	/**
+	 * Remove do cache um jogo alterado no banco (inclusive por outra instância) e a biblioteca do dono.
+	 * Se o dono não for conhecido, ele é obtido do próprio cache; na falta dele, todas as bibliotecas
+	 * são descartadas.
+	 *
+	 * @param event O evento de invalidação publicado pelo ChangeStreamService.
+	 */
+	@EventListener
+	public void onGameInvalidated(GameInvalidationEvent event) {
+		if (event.isAll()) {
+			allResetAt = resets.incrementAndGet();
+			libraries.invalidateAll();
+			games.invalidateAll();
+			return;
+		}
+		if (event.gameId() == null && event.userId() != null) {
+			libraries.invalidate(event.userId());
+			resetUser(event.userId());
+			return;
+		}
+		Game cached = event.gameId() != null ? games.asMap().remove(event.gameId()) : null;
+		String userId = event.userId() != null ? event.userId() : cached != null ? cached.getUserId() : null;
+		if (userId != null) {
+			libraries.invalidate(userId);
+		} else {
+			libraries.invalidateAll();
+		}
+	}
+
+	/**
+	 * Descarta todos os jogos de um usuário. A geração é registrada antes da remoção: uma carga que
+	 * a remoção não alcança vê a nova geração ao terminar (ver {@link #getGame}).
+	 */
+	private void resetUser(String userId) {
+		userResetAt.put(userId, resets.incrementAndGet());
+		games.asMap().values().removeIf(game -> userId.equals(game.getUserId()));
+	}
+
+	private boolean resetSince(String userId, long startedAt) {
+		if (allResetAt > startedAt) {
+			return true;
+		}
+		Long resetAt = userId != null ? userResetAt.getIfPresent(userId) : null;
+		return resetAt != null && resetAt > startedAt;
+	}
+
+	/**
+	 * Uma biblioteca em cache e a versão lida antes da sua carga.
+	 */
+	private record CachedLibrary(long version, List<Game> games) {
+	}
+
+	private static void monitor(MeterRegistry meterRegistry, Cache<?, ?> cache, String name) {
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+		Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+				.tag("cache", name)
+				.description("Fração das leituras atendidas pelo cache")
+				.register(meterRegistry);
+	}
+
+	private static List<Game> freezeAll(List<Game> source) {
+		List<Game> frozen = new ArrayList<>(source.size());
+		for (Game game : source) {
+			frozen.add(freeze(game));
+		}
+		return Collections.unmodifiableList(frozen);
+	}
+
+	/**
+	 * Cópia mantida no cache: as coleções são imutáveis e o objeto nunca é entregue ao chamador.
+	 */
+	private static Game freeze(Game game) {
+		return game.toBuilder()
+				.genres(game.getGenres() != null ? Collections.unmodifiableSet(new HashSet<>(game.getGenres())) : null)
+				.tags(game.getTags() != null ? Collections.unmodifiableSet(new HashSet<>(game.getTags())) : null)
+				.platforms(game.getPlatforms() != null ? Collections.unmodifiableSet(new HashSet<>(game.getPlatforms())) : null)
+				.addedAt(game.getAddedAt() != null ? (Date) game.getAddedAt().clone() : null)
+				.build();
+	}
+
+	/**
+	 * Cópia entregue ao chamador, com coleções mutáveis como as de um objeto lido do banco.
+	 */
+	private static Game copyOf(Game game) {
+		return game.toBuilder()
+				.genres(mutableCopy(game.getGenres()))
+				.tags(mutableCopy(game.getTags()))
+				.platforms(mutableCopy(game.getPlatforms()))
+				.addedAt(game.getAddedAt() != null ? (Date) game.getAddedAt().clone() : null)
+				.build();
+	}
+
+	private static Set<String> mutableCopy(Set<String> values) {
+		return values != null ? new HashSet<>(values) : null;
+	}
+}
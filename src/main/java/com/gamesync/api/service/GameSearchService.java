@@ -0,0 +1,100 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.dto.CursorPageResponse;
+import com.gamesync.api.exception.BadRequestException;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.GameRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Classe de serviço responsável pela busca textual na biblioteca do usuário.
+ * A busca usa o índice de texto do MongoDB sobre name, description e developer
+ * (com stemming em português ou inglês) e ordena os resultados por relevância.
+ */
+@Service
+public class GameSearchService {
+
+	private static final int DEFAULT_PAGE_LIMIT = 20;
+	private static final String CURSOR_PREFIX = "search:";
+
+	private final GameRepository gameRepository;
+	private final int maxPageLimit;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param gameRepository Repositório de jogos.
+	 * @param maxPageLimit   Tamanho máximo de página aceito.
+	 */
+	public GameSearchService(GameRepository gameRepository,
+			@Value("${gamesync.games.page.max-limit:200}") int maxPageLimit) {
+		this.gameRepository = gameRepository;
+		this.maxPageLimit = maxPageLimit;
+	}
+
+	/**
+	 * Busca jogos do usuário autenticado cujos name, description ou developer contenham os termos.
+	 * Como a ordem é por relevância (e não por um campo estável), o cursor guarda a posição
+	 * (deslocamento) na lista de resultados.
+	 *
+	 * @param text     Os termos buscados.
+	 * @param language O idioma dos termos ("pt" ou "en"); padrão "pt".
+	 * @param limit    Quantidade máxima de resultados por página (padrão 20).
+	 * @param cursor   Cursor opaco da página anterior, ou null para a primeira página.
+	 * @return A página de resultados e o cursor da próxima página (null se for a última).
+	 * @throws BadRequestException Se a busca estiver vazia, o idioma não for suportado,
+	 *                             o limite estiver fora do intervalo ou o cursor for inválido.
+	 */
+	public CursorPageResponse<Game> searchGamesByCurrentUser(String text, String language, Integer limit, String cursor) {
+		UserPrincipal currentUser = CurrentUser.get();
+		if (text == null || text.isBlank()) {
+			throw new BadRequestException("O parâmetro 'q' é obrigatório.");
+		}
+		String searchLanguage = language != null ? language : "pt";
+		if (!searchLanguage.equals("pt") && !searchLanguage.equals("en")) {
+			throw new BadRequestException("O parâmetro 'lang' deve ser 'pt' ou 'en'.");
+		}
+		int pageLimit = limit != null ? limit : DEFAULT_PAGE_LIMIT;
+		if (pageLimit < 1 || pageLimit > maxPageLimit) {
+			throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + maxPageLimit + ".");
+		}
+		int offset = cursor != null && !cursor.isBlank() ? decodeOffset(cursor) : 0;
+
+		// Busca um item a mais para saber se existe próxima página sem uma segunda consulta.
+		List<Game> games = gameRepository.searchByText(currentUser.getId(), text, searchLanguage, offset, pageLimit + 1);
+		String next = null;
+		if (games.size() > pageLimit) {
+			games = games.subList(0, pageLimit);
+			next = encodeOffset(offset + pageLimit);
+		}
+		return new CursorPageResponse<>(games, next);
+	}
+
+	private static String encodeOffset(int offset) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((CURSOR_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static int decodeOffset(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!raw.startsWith(CURSOR_PREFIX)) {
+				throw new BadRequestException("Cursor de busca inválido.");
+			}
+			int offset = Integer.parseInt(raw.substring(CURSOR_PREFIX.length()));
+			if (offset < 0) {
+				throw new BadRequestException("Cursor de busca inválido.");
+			}
+			return offset;
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException("Cursor de busca inválido.", e);
+		}
+	}
+
+}
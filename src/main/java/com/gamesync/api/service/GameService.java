@@ -1,24 +1,53 @@
 // File: src/main/java/com/gamesync/api/service/GameService.java
 package com.gamesync.api.service;
 
+import com.gamesync.api.dto.CursorPageResponse;
+import com.gamesync.api.dto.GameBatchResponse;
+import com.gamesync.api.dto.GameBulkResponse;
+import com.gamesync.api.dto.GameBulkUpdateDTO;
+import com.gamesync.api.dto.GameChangeDTO;
+import com.gamesync.api.dto.GameChangeSetResponse;
 import com.gamesync.api.dto.GameCreateDTO;
+import com.gamesync.api.dto.GameFilterDTO;
+import com.gamesync.api.dto.GameLookupResponse;
+import com.gamesync.api.dto.GamePatchDTO;
+import com.gamesync.api.dto.GameSelectionDTO;
 import com.gamesync.api.dto.GameUpdateDTO;
+import com.gamesync.api.event.GameChangedEvent;
 import com.gamesync.api.exception.BadRequestException;
-import com.gamesync.api.exception.DuplicateResourceException;
-import com.gamesync.api.exception.ResourceNotFoundException;
 import com.gamesync.api.model.Game;
 import com.gamesync.api.model.GameSource;
+import com.gamesync.api.model.GameTombstone;
 import com.gamesync.api.model.GameStatus;
-import com.gamesync.api.model.User;
+import com.gamesync.api.model.UserPrincipal;
 import com.gamesync.api.repository.GameRepository;
+import com.gamesync.api.repository.GameRepositoryCustom.GameWrite;
+import com.gamesync.api.repository.GameSortField;
+import com.gamesync.api.repository.GameTombstoneRepository;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Classe de serviço que encapsula a lógica de negócios para operações
@@ -31,8 +60,22 @@ import java.util.Optional;
 @Service
 public class GameService {
 
+	/** Tamanho de página usado quando o cliente envia apenas o cursor. */
+	private static final int DEFAULT_PAGE_LIMIT = 50;
+
+	/** Quantidade de jogos lidos e excluídos por vez na exclusão em massa. */
+	private static final int DELETE_BATCH_SIZE = 1000;
+
 	private final GameRepository gameRepository;
 	private final UserService userService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final GameReadCache readCache;
+	private final SyncSequence syncSequence;
+	private final GameTombstoneRepository tombstoneRepository;
+	private final Validator validator;
+	private final int maxPageLimit;
+	private final int maxBatchSize;
+	private final int maxLookupSize;
 
 	/**
 	 * Construtor para injeção de dependências.
@@ -41,28 +84,31 @@ public class GameService {
 	 * @param userService    Serviço de usuários, injetado com @Lazy para quebrar
 	 *                       dependências circulares
 	 *                       potenciais durante a inicialização do Spring.
+	 * @param eventPublisher Publicador dos eventos {@link GameChangedEvent}.
+	 * @param readCache      Cache de leitura da biblioteca e dos jogos por ID.
+	 * @param syncSequence   Contadores das sequências gravadas em cada alteração (sincronização incremental).
+	 * @param tombstoneRepository Repositório dos registros de exclusão lidos pela sincronização incremental.
+	 * @param validator      Validador usado nos itens da criação em lote.
+	 * @param maxPageLimit   Tamanho máximo de página aceito na listagem paginada.
+	 * @param maxBatchSize   Quantidade máxima de jogos por criação em lote.
+	 * @param maxLookupSize  Quantidade máxima de IDs por busca de vários jogos.
 	 */
-	public GameService(GameRepository gameRepository, @Lazy UserService userService) {
+	public GameService(GameRepository gameRepository, @Lazy UserService userService,
+			ApplicationEventPublisher eventPublisher, GameReadCache readCache, SyncSequence syncSequence,
+			GameTombstoneRepository tombstoneRepository, Validator validator,
+			@Value("${gamesync.games.page.max-limit:200}") int maxPageLimit,
+			@Value("${gamesync.games.batch.max-size:500}") int maxBatchSize,
+			@Value("${gamesync.games.lookup.max-size:200}") int maxLookupSize) {
 		this.gameRepository = gameRepository;
 		this.userService = userService;
-	}
-
-	/**
-	 * Método privado auxiliar para obter o objeto User do usuário atualmente
-	 * autenticado
-	 * a partir do contexto de segurança do Spring.
-	 * 
-	 * @return O objeto User autenticado.
-	 * @throws IllegalStateException Se nenhum usuário estiver autenticado ou o tipo
-	 *                               do principal for inválido.
-	 */
-	private User getAuthenticatedUser() {
-		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-		if (authentication == null || !authentication.isAuthenticated()
-				|| !(authentication.getPrincipal() instanceof User)) {
-			throw new IllegalStateException("Nenhum usuário autenticado encontrado ou tipo de principal inválido.");
-		}
-		return (User) authentication.getPrincipal();
+		this.eventPublisher = eventPublisher;
+		this.readCache = readCache;
+		this.syncSequence = syncSequence;
+		this.tombstoneRepository = tombstoneRepository;
+		this.validator = validator;
+		this.maxPageLimit = maxPageLimit;
+		this.maxBatchSize = maxBatchSize;
+		this.maxLookupSize = maxLookupSize;
 	}
 
 	/**
@@ -70,23 +116,123 @@ public class GameService {
 	 * 
 	 * @param createDTO DTO contendo os dados para a criação do jogo.
 	 * @return O objeto Game recém-criado e salvo no banco de dados.
-	 * @throws DuplicateResourceException Se o usuário já possuir um jogo com o
-	 *                                    mesmo nome.
+	 * @throws DuplicateKeyException Se o usuário já possuir um jogo com o mesmo nome
+	 *                               (ignorando maiúsculas e acentos); traduzida para 409
+	 *                               pelo GlobalExceptionHandler.
 	 */
 	@Transactional
 	public Game createGame(GameCreateDTO createDTO) {
-		User currentUser = getAuthenticatedUser();
+		UserPrincipal currentUser = CurrentUser.get();
+
+		// Sem consulta prévia: o índice único (userId, normalizedName) rejeita duplicados, inclusive concorrentes.
+		Game savedGame = syncSequence.write(currentUser.getId(),
+				seq -> gameRepository.save(stamp(newGameFrom(createDTO, currentUser.getId()), seq)));
+		eventPublisher.publishEvent(GameChangedEvent.created(savedGame));
+		return savedGame;
+	}
+
+	/**
+	 * Cria vários jogos para o usuário autenticado com um único bulkWrite não ordenado.
+	 * Nomes repetidos dentro do lote são detectados em memória e nomes já existentes na biblioteca
+	 * são rejeitados pelo índice único, item a item. Cada item é validado individualmente, de modo
+	 * que itens inválidos ou duplicados não impedem a criação dos outros.
+	 * 
+	 * @param createDTOs Os jogos a criar, na ordem desejada.
+	 * @return O resultado de cada item, na ordem da requisição, e os totais.
+	 * @throws BadRequestException Se o lote estiver vazio ou exceder o tamanho máximo.
+	 */
+	public GameBatchResponse createGames(List<GameCreateDTO> createDTOs) {
+		UserPrincipal currentUser = CurrentUser.get();
+		if (createDTOs == null || createDTOs.isEmpty() || createDTOs.size() > maxBatchSize) {
+			throw new BadRequestException("O lote deve conter entre 1 e " + maxBatchSize + " jogos.");
+		}
+
+		GameBatchResponse.Item[] results = new GameBatchResponse.Item[createDTOs.size()];
+		Set<String> namesInBatch = new HashSet<>();
+
+		List<Game> toInsert = new ArrayList<>();
+		List<Integer> insertIndexes = new ArrayList<>();
+		for (int i = 0; i < createDTOs.size(); i++) {
+			GameCreateDTO createDTO = createDTOs.get(i);
+			String name = createDTO != null ? createDTO.getName() : null;
+			Set<ConstraintViolation<GameCreateDTO>> violations = createDTO != null
+					? validator.validate(createDTO)
+					: Set.of();
+			if (createDTO == null || !violations.isEmpty()) {
+				String message = createDTO == null ? "Item nulo." : violations.stream()
+						.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+						.sorted()
+						.collect(Collectors.joining("; "));
+				results[i] = new GameBatchResponse.Item(i, GameBatchResponse.ItemStatus.INVALID, name, null, message);
+			} else if (!namesInBatch.add(NameNormalizer.normalize(name))) {
+				results[i] = duplicateItem(i, name);
+			} else {
+				Game newGame = newGameFrom(createDTO, currentUser.getId());
+				newGame.setId(new ObjectId().toHexString());
+				toInsert.add(newGame);
+				insertIndexes.add(i);
+			}
+		}
 
-		if (gameRepository.existsByNameAndUserId(createDTO.getName(), currentUser.getId())) {
-			throw new DuplicateResourceException(
-					"Jogo com o nome '" + createDTO.getName() + "' já existe para este usuário.");
+		// Os jogos do lote compartilham a mesma sequência; o ID desempata a ordem da sincronização.
+		Map<Integer, BulkWriteError> failures = toInsert.isEmpty() ? Map.of()
+				: syncSequence.write(currentUser.getId(), seq -> {
+					toInsert.forEach(game -> stamp(game, seq));
+					return gameRepository.insertUnordered(toInsert);
+				});
+		int created = 0;
+		for (int j = 0; j < toInsert.size(); j++) {
+			int index = insertIndexes.get(j);
+			Game game = toInsert.get(j);
+			BulkWriteError failure = failures.get(j);
+			if (failure == null) {
+				results[index] = new GameBatchResponse.Item(index, GameBatchResponse.ItemStatus.CREATED,
+						game.getName(), game.getId(), null);
+				created++;
+			} else if (ErrorCategory.fromErrorCode(failure.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+				// O nome já existe na biblioteca.
+				results[index] = duplicateItem(index, game.getName());
+			} else {
+				results[index] = new GameBatchResponse.Item(index, GameBatchResponse.ItemStatus.FAILED,
+						game.getName(), null, failure.getMessage());
+			}
+		}
+		if (created > 0) {
+			// Um único evento de alteração em massa em vez de um por jogo.
+			eventPublisher.publishEvent(GameChangedEvent.libraryReset(currentUser.getId()));
 		}
 
+		List<GameBatchResponse.Item> items = List.of(results);
+		int duplicates = (int) items.stream()
+				.filter(item -> item.getStatus() == GameBatchResponse.ItemStatus.DUPLICATE).count();
+		return new GameBatchResponse(created, duplicates, items.size() - created - duplicates, items);
+	}
+
+	private static GameBatchResponse.Item duplicateItem(int index, String name) {
+		return new GameBatchResponse.Item(index, GameBatchResponse.ItemStatus.DUPLICATE, name, null,
+				"Jogo com o nome '" + name + "' já existe para este usuário.");
+	}
+
+	/**
+	 * Grava no jogo a sequência de sincronização reservada, também como versão de edição.
+	 */
+	private static Game stamp(Game game, long seq) {
+		game.setSeq(seq);
+		game.setVersion(seq);
+		return game;
+	}
+
+	/**
+	 * Monta um novo jogo a partir do DTO de criação, com os valores padrão aplicados.
+	 * A sequência é gravada por {@link #stamp(Game, long)} dentro da reserva.
+	 */
+	private Game newGameFrom(GameCreateDTO createDTO, String userId) {
 		Game newGame = new Game();
 		newGame.setName(createDTO.getName());
+		newGame.setNormalizedName(NameNormalizer.normalize(createDTO.getName()));
 		newGame.setDescription(createDTO.getDescription());
 		newGame.setDeveloper(createDTO.getDeveloper());
-		newGame.setUserId(currentUser.getId());
+		newGame.setUserId(userId);
 		newGame.setImageUrl(createDTO.getImageUrl());
 		newGame.setHoursPlayed(createDTO.getHoursPlayed() != null ? createDTO.getHoursPlayed() : 0);
 		newGame.setFavorite(createDTO.isFavorite());
@@ -104,139 +250,697 @@ public class GameService {
 		newGame.setStatus(createDTO.getStatus());
 		newGame.setSource(createDTO.getSource() != null ? createDTO.getSource() : GameSource.MANUAL);
 		newGame.setAddedAt(new Date());
+		newGame.setLanguage(createDTO.getLanguage() != null ? createDTO.getLanguage() : "pt");
 		newGame.setSource(GameSource.MANUAL);
-
-		return gameRepository.save(newGame);
+		return newGame;
 	}
 
 	/**
 	 * Busca todos os jogos pertencentes ao usuário atualmente autenticado.
+	 * A leitura passa pelo {@link GameReadCache}.
+	 * 
+	 * @param version A versão da biblioteca lida antes desta chamada; uma cópia em cache mais antiga é recarregada.
+	 * @return Uma lista de objetos Game.
+	 */
+	public List<Game> findAllGamesByCurrentUser(long version) {
+		UserPrincipal currentUser = CurrentUser.get();
+		return readCache.getLibrary(currentUser.getId(), version, gameRepository::findByUserId);
+	}
+
+	/**
+	 * Busca os jogos do usuário autenticado que atendem aos filtros, na ordenação pedida.
+	 * A consulta é resolvida no banco com os índices compostos de {@link Game}.
 	 * 
+	 * @param filter Filtros e ordenação informados na requisição.
 	 * @return Uma lista de objetos Game.
+	 * @throws IllegalArgumentException Se o campo ou a direção de ordenação forem inválidos.
 	 */
-	public List<Game> findAllGamesByCurrentUser() {
-		User currentUser = getAuthenticatedUser();
-		return gameRepository.findByUserId(currentUser.getId());
+	public List<Game> findAllGamesByCurrentUser(GameFilterDTO filter) {
+		UserPrincipal currentUser = CurrentUser.get();
+		return gameRepository.findAllByFilter(currentUser.getId(), filter,
+				GameSortField.fromProperty(filter.getSort()), parseDirection(filter.getOrder()));
+	}
+
+	/**
+	 * Busca uma página dos jogos do usuário autenticado usando paginação por cursor.
+	 * A ordenação é (campo de ordenação, id), estável mesmo com inserções concorrentes:
+	 * na ordenação padrão (addedAt crescente) jogos novos entram no fim da lista e
+	 * nunca deslocam páginas já entregues.
+	 * 
+	 * @param filter Filtros e ordenação informados na requisição.
+	 * @param limit  Quantidade máxima de jogos na página (padrão 50 se null).
+	 * @param cursor Cursor opaco recebido na página anterior, ou null para a primeira página.
+	 * @return A página de jogos e o cursor da próxima página (null se for a última).
+	 * @throws BadRequestException Se o limite estiver fora do intervalo permitido ou o
+	 *                             cursor for inválido.
+	 */
+	public CursorPageResponse<Game> findGamesPageByCurrentUser(GameFilterDTO filter, Integer limit, String cursor) {
+		UserPrincipal currentUser = CurrentUser.get();
+		int pageLimit = limit != null ? limit : DEFAULT_PAGE_LIMIT;
+		if (pageLimit < 1 || pageLimit > maxPageLimit) {
+			throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + maxPageLimit + ".");
+		}
+		GameSortField sort = GameSortField.fromProperty(filter.getSort());
+		Sort.Direction direction = parseDirection(filter.getOrder());
+
+		GameCursor after = cursor != null && !cursor.isBlank() ? GameCursor.decode(cursor, sort, direction) : null;
+		// Busca um item a mais para saber se existe próxima página sem uma segunda consulta.
+		List<Game> games = gameRepository.findPageByFilter(currentUser.getId(), filter, sort, direction,
+				after != null ? after.value() : null,
+				after != null ? after.id() : null,
+				pageLimit + 1);
+
+		String next = null;
+		if (games.size() > pageLimit) {
+			games = games.subList(0, pageLimit);
+			next = GameCursor.after(games.get(pageLimit - 1), sort, direction).encode();
+		}
+		return new CursorPageResponse<>(games, next);
+	}
+
+	/**
+	 * Converte o parâmetro "order" (asc/desc) em direção de ordenação.
+	 */
+	private static Sort.Direction parseDirection(String order) {
+		if (order == null || order.isBlank()) {
+			return Sort.Direction.ASC;
+		}
+		return Sort.Direction.fromOptionalString(order)
+				.orElseThrow(() -> new BadRequestException("O parâmetro 'order' deve ser 'asc' ou 'desc'."));
 	}
 
 	/**
 	 * Busca um jogo específico pelo seu ID, garantindo que ele pertença ao usuário
-	 * autenticado.
+	 * autenticado. A leitura passa pelo {@link GameReadCache}.
 	 * 
 	 * @param gameId O ID do jogo a ser buscado.
 	 * @return Um Optional contendo o Game, se encontrado e pertencente ao usuário,
 	 *         ou Optional.empty() caso contrário.
 	 */
 	public Optional<Game> findGameByIdAndCurrentUser(String gameId) {
-		User currentUser = getAuthenticatedUser();
-		Optional<Game> gameOpt = gameRepository.findById(gameId);
-		if (gameOpt.isPresent() && gameOpt.get().getUserId().equals(currentUser.getId())) {
-			return gameOpt;
+		UserPrincipal currentUser = CurrentUser.get();
+		// A consulta já filtra pelo dono; a comparação abaixo cobre jogos que outro usuário colocou no cache.
+		return readCache.getGame(gameId, () -> gameRepository.findByIdAndUserId(gameId, currentUser.getId()))
+				.filter(game -> game.getUserId().equals(currentUser.getId()));
+	}
+
+	/**
+	 * Busca vários jogos do usuário autenticado pelos IDs, com uma única consulta ({@code $in})
+	 * restrita ao userId, em vez de uma requisição por jogo.
+	 * 
+	 * @param ids Os IDs dos jogos, na ordem desejada. IDs repetidos são considerados uma única vez.
+	 * @return Os jogos na ordem da requisição e os IDs não encontrados (ou de outros usuários).
+	 * @throws BadRequestException Se a lista estiver vazia, exceder o tamanho máximo ou contiver IDs vazios.
+	 */
+	public GameLookupResponse findGamesByIdsAndCurrentUser(List<String> ids) {
+		UserPrincipal currentUser = CurrentUser.get();
+		if (ids == null || ids.isEmpty() || ids.size() > maxLookupSize) {
+			throw new BadRequestException("A busca deve conter entre 1 e " + maxLookupSize + " IDs.");
 		}
-		return Optional.empty();
+		Set<String> requested = new LinkedHashSet<>();
+		for (String id : ids) {
+			if (id == null || id.isBlank()) {
+				throw new BadRequestException("Os IDs não podem ser vazios.");
+			}
+			requested.add(id);
+		}
+
+		Map<String, Game> found = new HashMap<>();
+		for (Game game : gameRepository.findByUserIdAndIdIn(currentUser.getId(), requested)) {
+			found.put(game.getId(), game);
+		}
+		List<Game> games = new ArrayList<>(found.size());
+		List<String> missing = new ArrayList<>();
+		for (String id : requested) {
+			Game game = found.get(id);
+			if (game != null) {
+				games.add(game);
+			} else {
+				missing.add(id);
+			}
+		}
+		return new GameLookupResponse(games, missing);
 	}
 
 	/**
 	 * Atualiza os dados de um jogo existente.
 	 * Apenas o usuário que possui o jogo pode atualizá-lo.
+	 * Os campos informados são gravados com a mesma operação única do {@link #patchGame}
+	 * (findAndModify com o ID e o userId no filtro); as coleções informadas são substituídas.
 	 * 
 	 * @param gameId    O ID do jogo a ser atualizado.
 	 * @param updateDTO DTO contendo os dados a serem atualizados.
 	 * @return Um Optional contendo o Game atualizado, ou Optional.empty() se não
-	 *         for encontrado ou o acesso for negado.
-	 * @throws ResourceNotFoundException  Se o jogo não pertencer ao usuário
-	 *                                    autenticado.
-	 * @throws DuplicateResourceException Se a alteração do nome resultar em um nome
-	 *                                    duplicado para o usuário.
+	 *         for encontrado ou não pertencer ao usuário.
+	 * @throws DuplicateKeyException     Se a alteração do nome resultar em um nome
+	 *                                    duplicado para o usuário (índice único).
 	 */
-	@Transactional
 	public Optional<Game> updateGame(String gameId, GameUpdateDTO updateDTO) {
-		User currentUser = getAuthenticatedUser();
-		return gameRepository.findById(gameId)
-				.map(existingGame -> {
-					if (!existingGame.getUserId().equals(currentUser.getId())) {
-						throw new ResourceNotFoundException("Jogo não encontrado ou acesso negado.");
-					}
-
-					if (updateDTO.getName() != null && !updateDTO.getName().isBlank()) {
-						if (!existingGame.getName().equalsIgnoreCase(updateDTO.getName()) &&
-								gameRepository.existsByNameAndUserId(updateDTO.getName(), currentUser.getId())) {
-							throw new DuplicateResourceException(
-									"Outro jogo com o nome '" + updateDTO.getName() + "' já existe para este usuário.");
-						}
-						existingGame.setName(updateDTO.getName());
-					}
-					if (updateDTO.getDescription() != null) {
-						existingGame.setDescription(updateDTO.getDescription());
-					}
-					if (updateDTO.getDeveloper() != null && !updateDTO.getDeveloper().isBlank()) {
-						existingGame.setDeveloper(updateDTO.getDeveloper());
-					}
-					if (updateDTO.getImageUrl() != null) {
-						existingGame.setImageUrl(updateDTO.getImageUrl());
-					}
-					if (updateDTO.getHoursPlayed() != null) {
-						existingGame.setHoursPlayed(updateDTO.getHoursPlayed());
-					}
-					if (updateDTO.getFavorite() != null) {
-						existingGame.setFavorite(updateDTO.getFavorite());
-					}
-					if (updateDTO.getGenres() != null) {
-						existingGame.setGenres(updateDTO.getGenres());
-					}
-					if (updateDTO.getTags() != null) {
-						existingGame.setTags(updateDTO.getTags());
-					}
-					if (updateDTO.getPlatforms() != null) {
-						existingGame.setPlatforms(updateDTO.getPlatforms());
-					}
-					if (updateDTO.getStatus() != null) {
-						existingGame.setStatus(updateDTO.getStatus());
-					}
-
-					// Salva o jogo atualizado no banco de dados.
-					return gameRepository.save(existingGame);
-				});
+		return patchGame(gameId, GamePatchDTO.builder()
+				.name(updateDTO.getName())
+				.description(updateDTO.getDescription())
+				.developer(updateDTO.getDeveloper())
+				.imageUrl(updateDTO.getImageUrl())
+				.hoursPlayed(updateDTO.getHoursPlayed())
+				.favorite(updateDTO.getFavorite())
+				.genres(updateDTO.getGenres())
+				.tags(updateDTO.getTags())
+				.platforms(updateDTO.getPlatforms())
+				.status(updateDTO.getStatus())
+				.language(updateDTO.getLanguage())
+				.build());
+	}
+
+	/**
+	 * Atualiza parcialmente um jogo com uma única operação atômica no banco (findAndModify):
+	 * apenas os campos informados são gravados ($set), e as coleções podem ser alteradas com
+	 * $addToSet e $pull. Edições concorrentes de campos diferentes não se sobrescrevem.
+	 * O filtro inclui o userId, então jogos de outros usuários simplesmente não são encontrados.
+	 * 
+	 * @param gameId   O ID do jogo a ser atualizado.
+	 * @param patchDTO DTO contendo apenas os campos a alterar.
+	 * @return Um Optional contendo o Game atualizado, ou Optional.empty() se não
+	 *         for encontrado ou não pertencer ao usuário.
+	 * @throws BadRequestException        Se uma coleção for substituída e alterada, ou receber
+	 *                                    inclusões e remoções, na mesma requisição.
+	 * @throws DuplicateKeyException      Se o novo nome já existir em outro jogo do usuário (índice único).
+	 */
+	public Optional<Game> patchGame(String gameId, GamePatchDTO patchDTO) {
+		UserPrincipal currentUser = CurrentUser.get();
+		requireSingleOperations(patchDTO);
+		String newName = patchedName(patchDTO);
+		Update update = patchUpdate(patchDTO, newName);
+
+		if (update.getUpdateObject().isEmpty()) {
+			return findGameByIdAndCurrentUser(gameId);
+		}
+		// O banco devolve o estado anterior exato; o novo é obtido aplicando o mesmo patch em memória.
+		return syncSequence.write(currentUser.getId(), seq -> gameRepository
+				.findAndModifyOwned(gameId, currentUser.getId(), update.set("seq", seq).set("version", seq))
+				.map(previousState -> {
+					Game patched = stamp(applyPatch(previousState, newName, patchDTO), seq);
+					eventPublisher.publishEvent(GameChangedEvent.updated(previousState, patched));
+					return patched;
+				}));
+	}
+
+	private static void requireSingleOperations(GamePatchDTO patchDTO) {
+		requireSingleOperation("genres", patchDTO.getGenres(), patchDTO.getAddGenres(), patchDTO.getRemoveGenres());
+		requireSingleOperation("tags", patchDTO.getTags(), patchDTO.getAddTags(), patchDTO.getRemoveTags());
+		requireSingleOperation("platforms", patchDTO.getPlatforms(), patchDTO.getAddPlatforms(), patchDTO.getRemovePlatforms());
+	}
+
+	private static String patchedName(GamePatchDTO patchDTO) {
+		return patchDTO.getName() != null && !patchDTO.getName().isBlank() ? patchDTO.getName() : null;
+	}
+
+	/**
+	 * Monta os operadores ($set, $addToSet, $pull) que gravam apenas os campos informados no patch.
+	 */
+	private static Update patchUpdate(GamePatchDTO patchDTO, String newName) {
+		Update update = new Update();
+		if (newName != null) {
+			update.set("name", newName);
+			update.set("normalizedName", NameNormalizer.normalize(newName));
+		}
+		if (patchDTO.getDescription() != null) {
+			update.set("description", patchDTO.getDescription());
+		}
+		if (patchDTO.getDeveloper() != null && !patchDTO.getDeveloper().isBlank()) {
+			update.set("developer", patchDTO.getDeveloper());
+		}
+		if (patchDTO.getImageUrl() != null) {
+			update.set("imageUrl", patchDTO.getImageUrl());
+		}
+		if (patchDTO.getHoursPlayed() != null) {
+			// As horas informadas substituem o total: a sobra de segundos dos heartbeats é descartada.
+			update.set("hoursPlayed", patchDTO.getHoursPlayed());
+			update.unset("playSeconds");
+		}
+		if (patchDTO.getFavorite() != null) {
+			update.set("favorite", patchDTO.getFavorite());
+		}
+		if (patchDTO.getStatus() != null) {
+			update.set("status", patchDTO.getStatus());
+		}
+		if (patchDTO.getLanguage() != null) {
+			update.set("language", patchDTO.getLanguage());
+		}
+		applySetOperations(update, "genres", patchDTO.getGenres(), patchDTO.getAddGenres(), patchDTO.getRemoveGenres());
+		applySetOperations(update, "tags", patchDTO.getTags(), patchDTO.getAddTags(), patchDTO.getRemoveTags());
+		applySetOperations(update, "platforms", patchDTO.getPlatforms(), patchDTO.getAddPlatforms(), patchDTO.getRemovePlatforms());
+		return update;
+	}
+
+	private static void requireSingleOperation(String field, Set<String> replacement, Set<String> additions,
+			Set<String> removals) {
+		int operations = (replacement != null ? 1 : 0) + (isPresent(additions) ? 1 : 0) + (isPresent(removals) ? 1 : 0);
+		if (operations > 1) {
+			throw new BadRequestException("O campo '" + field
+					+ "' deve ser substituído, incluído ou removido, mas apenas uma dessas operações por requisição.");
+		}
+	}
+
+	private static void applySetOperations(Update update, String field, Set<String> replacement, Set<String> additions,
+			Set<String> removals) {
+		if (replacement != null) {
+			update.set(field, replacement);
+		} else if (isPresent(additions)) {
+			update.addToSet(field).each(additions.toArray());
+		} else if (isPresent(removals)) {
+			update.pullAll(field, removals.toArray());
+		}
+	}
+
+	/**
+	 * Reproduz em memória o efeito do patch sobre uma cópia do estado anterior.
+	 */
+	private static Game applyPatch(Game previousState, String newName, GamePatchDTO patchDTO) {
+		Game patched = previousState.toBuilder()
+				.genres(patchSet(previousState.getGenres(), patchDTO.getGenres(), patchDTO.getAddGenres(), patchDTO.getRemoveGenres()))
+				.tags(patchSet(previousState.getTags(), patchDTO.getTags(), patchDTO.getAddTags(), patchDTO.getRemoveTags()))
+				.platforms(patchSet(previousState.getPlatforms(), patchDTO.getPlatforms(), patchDTO.getAddPlatforms(),
+						patchDTO.getRemovePlatforms()))
+				.build();
+		if (newName != null) {
+			patched.setName(newName);
+			patched.setNormalizedName(NameNormalizer.normalize(newName));
+		}
+		if (patchDTO.getDescription() != null) {
+			patched.setDescription(patchDTO.getDescription());
+		}
+		if (patchDTO.getDeveloper() != null && !patchDTO.getDeveloper().isBlank()) {
+			patched.setDeveloper(patchDTO.getDeveloper());
+		}
+		if (patchDTO.getImageUrl() != null) {
+			patched.setImageUrl(patchDTO.getImageUrl());
+		}
+		if (patchDTO.getHoursPlayed() != null) {
+			patched.setHoursPlayed(patchDTO.getHoursPlayed());
+			patched.setPlaySeconds(null);
+		}
+		if (patchDTO.getFavorite() != null) {
+			patched.setFavorite(patchDTO.getFavorite());
+		}
+		if (patchDTO.getStatus() != null) {
+			patched.setStatus(patchDTO.getStatus());
+		}
+		if (patchDTO.getLanguage() != null) {
+			patched.setLanguage(patchDTO.getLanguage());
+		}
+		return patched;
+	}
+
+	private static Set<String> patchSet(Set<String> current, Set<String> replacement, Set<String> additions,
+			Set<String> removals) {
+		if (replacement != null) {
+			return new HashSet<>(replacement);
+		}
+		Set<String> result = current != null ? new HashSet<>(current) : new HashSet<>();
+		if (additions != null) {
+			result.addAll(additions);
+		}
+		if (removals != null) {
+			result.removeAll(removals);
+		}
+		return result;
 	}
 
 	/**
 	 * Exclui um jogo.
-	 * Apenas o usuário que possui o jogo pode excluí-lo.
+	 * Apenas o usuário que possui o jogo pode excluí-lo: a exclusão é uma única operação
+	 * (findAndModify com remove) com o ID e o userId no filtro, que devolve o jogo excluído
+	 * para a notificação dos caches. A exclusão é então registrada (tombstone) para a
+	 * sincronização incremental, em um segundo comando na coleção de tombstones, com a sequência
+	 * reservada no contador do usuário antes da remoção (e liberada depois).
 	 * 
 	 * @param gameId O ID do jogo a ser excluído.
 	 * @return true se o jogo foi excluído com sucesso, false se o jogo não foi
-	 *         encontrado.
-	 * @throws ResourceNotFoundException Se o jogo pertencer a outro usuário.
+	 *         encontrado ou não pertencer ao usuário.
 	 */
-	@Transactional
 	public boolean deleteGame(String gameId) {
-		User currentUser = getAuthenticatedUser();
-		Optional<Game> gameOpt = gameRepository.findById(gameId);
+		UserPrincipal currentUser = CurrentUser.get();
+		return syncSequence.write(currentUser.getId(), seq -> gameRepository.findAndRemoveOwned(gameId, currentUser.getId())
+				.map(deletedGame -> {
+					tombstoneRepository.save(GameTombstone.builder()
+							.id(deletedGame.getId())
+							.userId(deletedGame.getUserId())
+							.seq(seq)
+							.deletedAt(new Date())
+							.build());
+					eventPublisher.publishEvent(GameChangedEvent.deleted(deletedGame));
+					return true;
+				})
+				.orElse(false));
+	}
+
+	/**
+	 * Aplica a mesma alteração a todos os jogos selecionados do usuário autenticado, com uma
+	 * única operação no banco (updateMany) em vez de buscar e salvar cada jogo.
+	 * 
+	 * @param bulkUpdateDTO A seleção e a alteração a aplicar.
+	 * @return Quantos jogos foram selecionados e quantos foram alterados.
+	 * @throws BadRequestException Se nenhum critério de seleção ou nenhuma alteração for informada,
+	 *                             ou se uma coleção receber inclusões e remoções ao mesmo tempo.
+	 */
+	public GameBulkResponse updateGamesInBulk(GameBulkUpdateDTO bulkUpdateDTO) {
+		UserPrincipal currentUser = CurrentUser.get();
+		requireSelection(bulkUpdateDTO.getWhere());
+		boolean addsAndRemovesSameField = isPresent(bulkUpdateDTO.getAddGenres()) && isPresent(bulkUpdateDTO.getRemoveGenres())
+				|| isPresent(bulkUpdateDTO.getAddTags()) && isPresent(bulkUpdateDTO.getRemoveTags())
+				|| isPresent(bulkUpdateDTO.getAddPlatforms()) && isPresent(bulkUpdateDTO.getRemovePlatforms());
+		if (addsAndRemovesSameField) {
+			throw new BadRequestException("Uma coleção não pode receber inclusões e remoções na mesma requisição.");
+		}
+		boolean hasChanges = bulkUpdateDTO.getStatus() != null || bulkUpdateDTO.getFavorite() != null
+				|| bulkUpdateDTO.getLanguage() != null
+				|| isPresent(bulkUpdateDTO.getAddGenres()) || isPresent(bulkUpdateDTO.getRemoveGenres())
+				|| isPresent(bulkUpdateDTO.getAddTags()) || isPresent(bulkUpdateDTO.getRemoveTags())
+				|| isPresent(bulkUpdateDTO.getAddPlatforms()) || isPresent(bulkUpdateDTO.getRemovePlatforms());
+		if (!hasChanges) {
+			throw new BadRequestException("Informe pelo menos uma alteração.");
+		}
+
+		GameBulkResponse result = syncSequence.write(currentUser.getId(),
+				seq -> gameRepository.updateBySelection(currentUser.getId(), bulkUpdateDTO.getWhere(), bulkUpdateDTO, seq));
+		if (result.getModified() > 0) {
+			eventPublisher.publishEvent(GameChangedEvent.libraryReset(currentUser.getId()));
+		}
+		return result;
+	}
+
+	/**
+	 * Exclui todos os jogos selecionados do usuário autenticado, em lotes de até
+	 * {@value #DELETE_BATCH_SIZE} jogos: os IDs do lote são lidos, os jogos são excluídos com um
+	 * único deleteMany e as exclusões são registradas (tombstones) para a sincronização incremental.
+	 * 
+	 * @param selection Os critérios de seleção.
+	 * @return Quantos jogos foram excluídos.
+	 * @throws BadRequestException Se nenhum critério de seleção for informado.
+	 */
+	public GameBulkResponse deleteGamesInBulk(GameSelectionDTO selection) {
+		UserPrincipal currentUser = CurrentUser.get();
+		requireSelection(selection);
+		long deleted = 0;
+		List<String> ids;
+		while (!(ids = gameRepository.findIdsBySelection(currentUser.getId(), selection, DELETE_BATCH_SIZE)).isEmpty()) {
+			List<String> batch = ids;
+			deleted += syncSequence.write(currentUser.getId(), seq -> {
+				long removed = gameRepository.deleteOwnedByIds(currentUser.getId(), batch);
+				tombstoneRepository.recordDeletions(currentUser.getId(), batch, seq, new Date());
+				return removed;
+			});
+		}
+		if (deleted > 0) {
+			eventPublisher.publishEvent(GameChangedEvent.libraryReset(currentUser.getId()));
+		}
+		return new GameBulkResponse(deleted, deleted);
+	}
+
+	private static void requireSelection(GameSelectionDTO selection) {
+		if (selection == null || !selection.hasCriteria()) {
+			throw new BadRequestException("Informe pelo menos um critério de seleção (ids, status, favorite, genres, platforms ou tags).");
+		}
+	}
 
-		if (gameOpt.isPresent()) {
-			if (gameOpt.get().getUserId().equals(currentUser.getId())) {
-				gameRepository.deleteById(gameId);
-				return true;
+	private static boolean isPresent(Set<String> values) {
+		return values != null && !values.isEmpty();
+	}
+
+	/**
+	 * Aplica em lote, na ordem recebida, as alterações feitas por um dispositivo sem conexão.
+	 *
+	 * <p>
+	 * Os jogos referenciados são lidos com uma única busca, as alterações viram gravações enviadas em
+	 * bulkWrites ordenados e o estado final é lido com outra busca: três comandos na coleção de jogos,
+	 * qualquer que seja o tamanho do lote. Cada gravação de um jogo já existente exige a versão de
+	 * edição ({@code version}) que ele tinha: na primeira, a {@code baseVersion} informada ou, sem ela, a
+	 * lida no início (o último a escrever vence, campo a campo); nas seguintes do mesmo jogo, a gravada
+	 * pela alteração anterior do lote. Assim, uma edição concorrente nunca é sobrescrita em silêncio: ela
+	 * é devolvida como conflito, com o estado atual, para o dispositivo mesclar e reenviar. O tempo de
+	 * jogo gravado pelos heartbeats não muda a versão de edição e não causa conflitos.
+	 * </p>
+	 *
+	 * @param changes As alterações, na ordem em que foram feitas.
+	 * @return O resultado de cada alteração, na ordem da requisição, com o estado atual do jogo, e os totais.
+	 * @throws BadRequestException Se o lote estiver vazio ou exceder o tamanho máximo.
+	 */
+	public GameChangeSetResponse applyChanges(List<GameChangeDTO> changes) {
+		UserPrincipal currentUser = CurrentUser.get();
+		String userId = currentUser.getId();
+		if (changes == null || changes.isEmpty() || changes.size() > maxBatchSize) {
+			throw new BadRequestException("O lote deve conter entre 1 e " + maxBatchSize + " alterações.");
+		}
+		// Uma sequência por alteração e uma para os registros de exclusão, reservadas de uma vez.
+		return syncSequence.write(userId, changes.size() + 1, firstSeq -> applyChanges(userId, changes, firstSeq));
+	}
+
+	private GameChangeSetResponse applyChanges(String userId, List<GameChangeDTO> changes, long firstSeq) {
+		long nextSeq = firstSeq;
+
+		// IDs do servidor referenciados (os demais são IDs locais de jogos criados antes no lote).
+		Set<String> localIds = new HashSet<>();
+		Set<String> serverIds = new HashSet<>();
+		for (GameChangeDTO change : changes) {
+			if (change == null || change.getType() == null) {
+				continue;
+			}
+			if (change.getType() == GameChangeDTO.Type.CREATE) {
+				if (change.getClientId() != null) {
+					localIds.add(change.getClientId());
+				}
+			} else if (change.getGameId() != null && !localIds.contains(change.getGameId())) {
+				serverIds.add(change.getGameId());
+			}
+		}
+		Map<String, Game> before = serverIds.isEmpty() ? Map.of()
+				: gameRepository.findByUserIdAndIdIn(userId, serverIds).stream()
+						.collect(Collectors.toMap(Game::getId, game -> game));
+
+		GameChangeSetResponse.ItemStatus[] statuses = new GameChangeSetResponse.ItemStatus[changes.size()];
+		String[] messages = new String[changes.size()];
+		String[] gameIds = new String[changes.size()];
+		Map<String, String> createdIds = new HashMap<>();
+		Map<String, ChangeChain> chains = new LinkedHashMap<>();
+		List<GameWrite> writes = new ArrayList<>();
+		List<Integer> writeItems = new ArrayList<>();
+		for (int i = 0; i < changes.size(); i++) {
+			GameChangeDTO change = changes.get(i);
+			String invalid = validateChange(change);
+			if (invalid == null && change.getType() == GameChangeDTO.Type.CREATE && change.getClientId() != null
+					&& createdIds.containsKey(change.getClientId())) {
+				invalid = "O clientId '" + change.getClientId() + "' já foi usado neste lote.";
+			}
+			if (invalid != null) {
+				statuses[i] = GameChangeSetResponse.ItemStatus.INVALID;
+				messages[i] = invalid;
+				continue;
+			}
+
+			if (change.getType() == GameChangeDTO.Type.CREATE) {
+				Game newGame = stamp(newGameFrom(change.getGame(), userId), nextSeq++);
+				newGame.setId(new ObjectId().toHexString());
+				if (change.getClientId() != null) {
+					createdIds.put(change.getClientId(), newGame.getId());
+				}
+				gameIds[i] = newGame.getId();
+				ChangeChain chain = new ChangeChain(null);
+				chains.put(newGame.getId(), chain);
+				chain.record(i, newGame.getVersion());
+				writes.add(GameWrite.insert(newGame));
+				writeItems.add(i);
+				continue;
+			}
+
+			String gameId = createdIds.getOrDefault(change.getGameId(), change.getGameId());
+			gameIds[i] = gameId;
+			ChangeChain chain = chains.computeIfAbsent(gameId, id -> new ChangeChain(before.get(id)));
+			if (chain.blocked) {
+				statuses[i] = GameChangeSetResponse.ItemStatus.CONFLICT;
+				messages[i] = "Uma alteração anterior deste jogo no lote está em conflito.";
+				continue;
+			}
+			if (!chain.exists) {
+				statuses[i] = GameChangeSetResponse.ItemStatus.NOT_FOUND;
+				continue;
+			}
+			if (chain.items.isEmpty() && change.getBaseVersion() != null && !change.getBaseVersion().equals(chain.version)) {
+				chain.blocked = true;
+				statuses[i] = GameChangeSetResponse.ItemStatus.CONFLICT;
+				messages[i] = "O jogo foi alterado depois da versão " + change.getBaseVersion() + ".";
+				continue;
+			}
+
+			if (change.getType() == GameChangeDTO.Type.UPDATE) {
+				Update update = patchUpdate(change.getChanges(), patchedName(change.getChanges()));
+				if (update.getUpdateObject().isEmpty()) {
+					statuses[i] = GameChangeSetResponse.ItemStatus.APPLIED;
+					continue;
+				}
+				long seq = nextSeq++;
+				update.set("seq", seq).set("version", seq);
+				writes.add(GameWrite.update(gameId, chain.version, update));
+				chain.record(i, seq);
+			} else {
+				writes.add(GameWrite.delete(gameId, chain.version));
+				chain.record(i, null);
+				chain.exists = false;
+			}
+			writeItems.add(i);
+		}
+
+		Map<Integer, BulkWriteError> failures = new HashMap<>();
+		gameRepository.applyOrdered(userId, writes)
+				.forEach((writeIndex, failure) -> failures.put(writeItems.get(writeIndex), failure));
+		Map<String, Game> after = chains.isEmpty() ? Map.of()
+				: gameRepository.findByUserIdAndIdIn(userId, chains.keySet()).stream()
+						.collect(Collectors.toMap(Game::getId, game -> game));
+
+		boolean raced = false;
+		List<String> deletedIds = new ArrayList<>();
+		for (Map.Entry<String, ChangeChain> entry : chains.entrySet()) {
+			ChangeChain chain = entry.getValue();
+			if (chain.items.isEmpty()) {
+				continue;
+			}
+			Game current = after.get(entry.getKey());
+			int last = chain.items.size() - 1;
+			boolean chainFailed = chain.items.stream().anyMatch(failures::containsKey);
+			// As gravações de um jogo são encadeadas pela versão de edição: a versão final indica até onde foram aplicadas.
+			int appliedUpTo = current != null ? chain.versions.indexOf(current.getVersion())
+					: chain.versions.get(last) == null && !chainFailed ? last : -1;
+			boolean failedBefore = false;
+			for (int k = 0; k < chain.items.size(); k++) {
+				int item = chain.items.get(k);
+				BulkWriteError failure = failures.get(item);
+				if (failure != null) {
+					boolean duplicate = ErrorCategory.fromErrorCode(failure.getCode()) == ErrorCategory.DUPLICATE_KEY;
+					statuses[item] = duplicate ? GameChangeSetResponse.ItemStatus.DUPLICATE : GameChangeSetResponse.ItemStatus.FAILED;
+					messages[item] = duplicate ? "Já existe um jogo com este nome para este usuário." : failure.getMessage();
+					failedBefore = true;
+				} else if (k <= appliedUpTo) {
+					statuses[item] = GameChangeSetResponse.ItemStatus.APPLIED;
+				} else if (failedBefore) {
+					statuses[item] = GameChangeSetResponse.ItemStatus.FAILED;
+					messages[item] = "Não aplicada: uma alteração anterior deste jogo no lote falhou.";
+				} else {
+					// Outra gravação alterou o jogo durante o envio.
+					raced = true;
+					statuses[item] = current != null ? GameChangeSetResponse.ItemStatus.CONFLICT
+							: GameChangeSetResponse.ItemStatus.NOT_FOUND;
+					messages[item] = "O jogo foi alterado durante o envio.";
+				}
+			}
+			if (appliedUpTo < 0 || chain.before == null && current == null) {
+				continue;
+			}
+			if (chain.before == null) {
+				eventPublisher.publishEvent(GameChangedEvent.created(current));
+			} else if (current == null) {
+				deletedIds.add(entry.getKey());
+				eventPublisher.publishEvent(GameChangedEvent.deleted(chain.before));
 			} else {
-				throw new ResourceNotFoundException("Jogo não encontrado ou acesso negado para exclusão.");
+				eventPublisher.publishEvent(GameChangedEvent.updated(chain.before, current));
 			}
 		}
-		return false;
+		if (!deletedIds.isEmpty()) {
+			tombstoneRepository.recordDeletions(userId, deletedIds, nextSeq, new Date());
+		}
+		if (raced) {
+			// Os estados anteriores lidos no início podem não ser exatos: os ouvintes descartam o que sabem.
+			eventPublisher.publishEvent(GameChangedEvent.libraryReset(userId));
+		}
+
+		List<GameChangeSetResponse.Item> items = new ArrayList<>(changes.size());
+		int applied = 0;
+		int conflicts = 0;
+		for (int i = 0; i < changes.size(); i++) {
+			GameChangeDTO change = changes.get(i);
+			applied += statuses[i] == GameChangeSetResponse.ItemStatus.APPLIED ? 1 : 0;
+			conflicts += statuses[i] == GameChangeSetResponse.ItemStatus.CONFLICT ? 1 : 0;
+			items.add(new GameChangeSetResponse.Item(i, statuses[i], gameIds[i], change != null ? change.getClientId() : null,
+					gameIds[i] != null ? after.get(gameIds[i]) : null, messages[i]));
+		}
+		return new GameChangeSetResponse(applied, conflicts, items.size() - applied - conflicts, items);
+	}
+
+	/**
+	 * Valida uma alteração do lote.
+	 *
+	 * @return O motivo da rejeição, ou null se a alteração for válida.
+	 */
+	private String validateChange(GameChangeDTO change) {
+		if (change == null) {
+			return "Item nulo.";
+		}
+		Set<ConstraintViolation<GameChangeDTO>> violations = validator.validate(change);
+		if (!violations.isEmpty()) {
+			return violations.stream()
+					.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+					.sorted()
+					.collect(Collectors.joining("; "));
+		}
+		if (change.getType() == GameChangeDTO.Type.CREATE) {
+			return change.getGame() == null ? "O campo 'game' é obrigatório em CREATE." : null;
+		}
+		if (change.getGameId() == null || change.getGameId().isBlank()) {
+			return "O campo 'gameId' é obrigatório em " + change.getType() + ".";
+		}
+		if (change.getType() == GameChangeDTO.Type.UPDATE) {
+			if (change.getChanges() == null) {
+				return "O campo 'changes' é obrigatório em UPDATE.";
+			}
+			try {
+				requireSingleOperations(change.getChanges());
+			} catch (BadRequestException e) {
+				return e.getMessage();
+			}
+		}
+		return null;
 	}
 
 	/**
 	 * Exclui todos os jogos associados a um ID de usuário específico.
 	 * Este método é tipicamente chamado quando um usuário está sendo excluído do
 	 * sistema
-	 * (pelo UserService) para limpar dados relacionados.
+	 * (pelo AccountDeletionService) para limpar dados relacionados.
+	 * A exclusão é uma única operação {@code deleteMany} no servidor, sem carregar os jogos.
 	 * 
 	 * @param userId O ID do usuário cujos jogos serão excluídos.
+	 * @return A quantidade de jogos excluídos.
 	 */
-	@Transactional
-	public void deleteAllGamesByUserId(String userId) {
-		List<Game> userGames = gameRepository.findByUserId(userId);
-		if (!userGames.isEmpty()) {
-			gameRepository.deleteAll(userGames);
+	public long deleteAllGamesByUserId(String userId) {
+		long deleted = gameRepository.deleteByUserId(userId);
+		eventPublisher.publishEvent(GameChangedEvent.libraryReset(userId));
+		return deleted;
+	}
+
+	/**
+	 * As alterações de um mesmo jogo em um lote de {@link #applyChanges(List)}: o estado lido no início,
+	 * a versão de edição esperada pela próxima gravação e, para cada gravação, o item e a versão gravada
+	 * (null em exclusões).
+	 */
+	private static final class ChangeChain {
+		private final Game before;
+		private final List<Integer> items = new ArrayList<>();
+		private final List<Long> versions = new ArrayList<>();
+		private Long version;
+		private boolean exists;
+		private boolean blocked;
+
+		private ChangeChain(Game before) {
+			this.before = before;
+			this.exists = before != null;
+			this.version = before != null ? before.getVersion() : null;
+		}
+
+		private void record(int item, Long writtenVersion) {
+			items.add(item);
+			versions.add(writtenVersion);
+			if (writtenVersion != null) {
+				exists = true;
+				version = writtenVersion;
+			}
 		}
 	}
 }
\ No newline at end of file
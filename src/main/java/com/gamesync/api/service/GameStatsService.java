@@ -0,0 +1,35 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.dto.GameStatsResponse;
+import com.gamesync.api.model.UserPrincipal;
+import org.springframework.stereotype.Service;
+
+/**
+ * Classe de serviço responsável pelas estatísticas da biblioteca do usuário
+ * exibidas no painel (contagens por status, gênero e plataforma, horas jogadas e favoritos).
+ * As estatísticas vêm do resumo pré-calculado mantido pelo {@link LibrarySummaryService}.
+ */
+@Service
+public class GameStatsService {
+
+	private final LibrarySummaryService librarySummaryService;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param librarySummaryService Serviço que mantém o resumo da biblioteca.
+	 */
+	public GameStatsService(LibrarySummaryService librarySummaryService) {
+		this.librarySummaryService = librarySummaryService;
+	}
+
+	/**
+	 * Retorna as estatísticas da biblioteca do usuário autenticado.
+	 *
+	 * @return As estatísticas agregadas.
+	 */
+	public GameStatsResponse getStatsForCurrentUser() {
+		return librarySummaryService.getStats(CurrentUser.get().getId());
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.dto.GameChangesResponse;
+import com.gamesync.api.exception.BadRequestException;
+import com.gamesync.api.exception.SyncTokenExpiredException;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameTombstone;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.GameRepository;
+import com.gamesync.api.repository.GameTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe de serviço da sincronização incremental (GET /games/changes).
+ *
+ * <p>
+ * Cada gravação de um jogo recebe uma nova sequência do contador do usuário ({@link SyncSequence})
+ * e cada exclusão deixa um registro ({@link GameTombstone}) com a sua. Uma sincronização lê primeiro
+ * a sequência assentada do usuário (até a qual todas as gravações já terminaram) e depois, pelo
+ * índice (userId, seq, _id) das duas coleções, apenas o que foi gravado entre a posição guardada no
+ * token e ela, em ordem de sequência e em páginas de até {@code max-limit} itens; um dispositivo que
+ * sincroniza a cada poucos minutos recebe só o que mudou, em vez da biblioteca inteira. Gravações
+ * ainda em andamento ficam para a sincronização seguinte e nunca são puladas.
+ * </p>
+ *
+ * <p>
+ * Os registros de exclusão expiram após {@code tombstone-retention}: um token que acompanha as
+ * alterações há mais tempo que isso é recusado com 410 e o dispositivo deve refazer a sincronização
+ * completa (sem {@code since}).
+ * </p>
+ */
+@Service
+public class GameSyncService {
+
+	private final GameRepository gameRepository;
+	private final GameTombstoneRepository tombstoneRepository;
+	private final SyncSequence syncSequence;
+	private final int defaultLimit;
+	private final int maxLimit;
+	private final Duration tombstoneRetention;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param gameRepository      Repositório dos jogos.
+	 * @param tombstoneRepository Repositório dos registros de exclusão.
+	 * @param syncSequence        Contadores de sequência, lidos para obter a sequência assentada.
+	 * @param defaultLimit        Tamanho de página usado quando o cliente não informa {@code limit}.
+	 * @param maxLimit            Tamanho máximo de página aceito.
+	 * @param tombstoneRetention  Tempo de retenção dos registros de exclusão.
+	 */
+	public GameSyncService(GameRepository gameRepository, GameTombstoneRepository tombstoneRepository,
+			SyncSequence syncSequence,
+			@Value("${gamesync.sync.default-limit:500}") int defaultLimit,
+			@Value("${gamesync.sync.max-limit:1000}") int maxLimit,
+			@Value("${gamesync.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+		this.gameRepository = gameRepository;
+		this.tombstoneRepository = tombstoneRepository;
+		this.syncSequence = syncSequence;
+		this.defaultLimit = defaultLimit;
+		this.maxLimit = maxLimit;
+		this.tombstoneRetention = tombstoneRetention;
+	}
+
+	/**
+	 * Retorna as alterações da biblioteca do usuário autenticado desde o token informado.
+	 *
+	 * @param since Token recebido na sincronização anterior, ou null para a sincronização completa.
+	 * @param limit Quantidade máxima de itens (jogos alterados e excluídos), ou null para o padrão.
+	 * @return As alterações, em ordem de sequência, e o novo token.
+	 * @throws BadRequestException        Se o token ou o limite forem inválidos.
+	 * @throws SyncTokenExpiredException Se o token for anterior à retenção dos registros de exclusão.
+	 */
+	public GameChangesResponse getChangesForCurrentUser(String since, Integer limit) {
+		UserPrincipal currentUser = CurrentUser.get();
+		int pageSize = limit != null ? limit : defaultLimit;
+		if (pageSize < 1 || pageSize > maxLimit) {
+			throw new BadRequestException("O parâmetro 'limit' deve estar entre 1 e " + maxLimit + ".");
+		}
+		long now = System.currentTimeMillis();
+		SyncToken after = since != null && !since.isBlank() ? SyncToken.decode(since) : SyncToken.INITIAL;
+		if (after != SyncToken.INITIAL && after.since() < now - tombstoneRetention.toMillis()) {
+			throw new SyncTokenExpiredException(
+					"O token de sincronização expirou; refaça a sincronização completa sem o parâmetro 'since'.");
+		}
+
+		String userId = currentUser.getId();
+		// Lida antes dos dados: tudo com sequência até ela já está gravado e visível.
+		long settled = syncSequence.settled(userId);
+		List<Game> games = gameRepository.findChangedAfter(userId, after.seq(), after.id(), settled, pageSize + 1);
+		List<GameTombstone> tombstones = after.id() == null
+				? tombstoneRepository.findByUserIdAfter(userId, after.seq(), settled, Limit.of(pageSize + 1))
+				: tombstoneRepository.findByUserIdAfter(userId, after.seq(), after.id(), settled, Limit.of(pageSize + 1));
+
+		// Intercala as duas listas, já ordenadas por (seq, id), até completar a página.
+		List<Game> changed = new ArrayList<>();
+		List<String> deleted = new ArrayList<>();
+		SyncToken last = null;
+		// Exclusões ainda não entregues são de depois do início do acompanhamento (ou, na primeira
+		// sincronização, de jogos que o dispositivo ainda não conhece).
+		long trackedSince = after == SyncToken.INITIAL ? now : after.since();
+		int g = 0;
+		int t = 0;
+		while (changed.size() + deleted.size() < pageSize && (g < games.size() || t < tombstones.size())) {
+			boolean takeGame = t == tombstones.size() || (g < games.size()
+					&& compare(seqOf(games.get(g)), games.get(g).getId(), tombstones.get(t).getSeq(), tombstones.get(t).getId()) < 0);
+			if (takeGame) {
+				Game game = games.get(g++);
+				changed.add(game);
+				last = new SyncToken(seqOf(game), game.getId(), trackedSince);
+			} else {
+				GameTombstone tombstone = tombstones.get(t++);
+				deleted.add(tombstone.getId());
+				last = new SyncToken(tombstone.getSeq(), tombstone.getId(), trackedSince);
+			}
+		}
+		boolean hasMore = g < games.size() || t < tombstones.size();
+
+		SyncToken next;
+		if (hasMore) {
+			next = last;
+		} else {
+			// Tudo até a sequência assentada foi entregue: as próximas exclusões serão posteriores a esta leitura.
+			next = new SyncToken(Math.max(settled, after.seq()), null, now);
+		}
+		return new GameChangesResponse(changed, deleted, next.encode(), hasMore);
+	}
+
+	private static long seqOf(Game game) {
+		return game.getSeq() != null ? game.getSeq() : 0;
+	}
+
+	private static int compare(long seq, String id, long otherSeq, String otherId) {
+		int bySeq = Long.compare(seq, otherSeq);
+		return bySeq != 0 ? bySeq : id.compareTo(otherId);
+	}
+
+}
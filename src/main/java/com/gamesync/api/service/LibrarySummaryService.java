@@ -0,0 +1,330 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.dto.GameStatsResponse;
+import com.gamesync.api.event.GameChangedEvent;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameStatus;
+import com.gamesync.api.model.LibrarySummary;
+import com.gamesync.api.repository.GameRepository;
+import com.gamesync.api.repository.LibrarySummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Classe de serviço que mantém o resumo pré-calculado da biblioteca de cada usuário
+ * ({@link LibrarySummary}), lido por GET /games/stats com uma única busca pela chave primária.
+ *
+ * <p>
+ * Cada {@link GameChangedEvent} publicado pelo GameService é convertido na diferença entre o
+ * estado anterior e o novo do jogo e aplicado com um único {@code $inc}, no mesmo fluxo da
+ * operação que alterou o jogo. O resumo é criado sob demanda na primeira leitura, a partir da
+ * agregação sobre a coleção de jogos; alterações em massa descartam o resumo, que é recriado
+ * na leitura seguinte.
+ * </p>
+ *
+ * <p>
+ * Enquanto o resumo não existe, o {@code $inc} de uma alteração não tem onde ser aplicado; uma
+ * alteração feita entre a agregação e a gravação do resumo seria perdida. Por isso a criação lê o
+ * contador de sincronização do usuário ({@link SyncSequence}) antes da agregação e depois da
+ * gravação: se alguma gravação estava em andamento ou começou no intervalo, o resumo é recalculado
+ * e substituído. Se a biblioteca não parar de mudar após algumas tentativas, o resumo é descartado
+ * e recalculado na leitura seguinte.
+ * </p>
+ *
+ * <p>
+ * O job de reconciliação recalcula periodicamente todos os resumos a partir dos jogos, corrige
+ * os que divergirem e reporta a divergência em log e na métrica {@code gamesync.summary.drift}.
+ * </p>
+ */
+@Service
+public class LibrarySummaryService {
+	private static final Logger logger = LoggerFactory.getLogger(LibrarySummaryService.class);
+
+	/** Tentativas de criar um resumo sem gravações concorrentes antes de desistir. */
+	private static final int CREATE_ATTEMPTS = 3;
+
+	private final LibrarySummaryRepository summaryRepository;
+	private final GameRepository gameRepository;
+	private final SyncSequence syncSequence;
+	private final Counter driftCounter;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param summaryRepository Repositório dos resumos.
+	 * @param gameRepository    Repositório de jogos, usado para (re)calcular um resumo do zero.
+	 * @param syncSequence      Contadores de sequência, usados para detectar gravações durante a criação.
+	 * @param meterRegistry     Registro de métricas onde é publicada a contagem de divergências.
+	 */
+	public LibrarySummaryService(LibrarySummaryRepository summaryRepository, GameRepository gameRepository,
+			SyncSequence syncSequence, MeterRegistry meterRegistry) {
+		this.summaryRepository = summaryRepository;
+		this.gameRepository = gameRepository;
+		this.syncSequence = syncSequence;
+		this.driftCounter = Counter.builder("gamesync.summary.drift")
+				.description("Resumos de biblioteca corrigidos pela reconciliação")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Retorna as estatísticas de um usuário a partir do seu resumo, criando-o se ainda não existir.
+	 *
+	 * @param userId O ID do usuário.
+	 * @return As estatísticas da biblioteca.
+	 */
+	public GameStatsResponse getStats(String userId) {
+		LibrarySummary summary = summaryRepository.findById(userId).orElseGet(() -> createSummary(userId));
+		return toResponse(summary);
+	}
+
+	/**
+	 * Aplica ao resumo do usuário a diferença causada por uma alteração de jogo.
+	 * Se o resumo ainda não existir nada é feito: ele será calculado por completo na próxima leitura.
+	 * Alterações que não mudam nenhum contador (ex: só a descrição) não enviam comando ao banco.
+	 *
+	 * @param event O evento publicado pelo GameService.
+	 */
+	@EventListener
+	public void onGameChanged(GameChangedEvent event) {
+		if (event.isLibraryReset()) {
+			summaryRepository.deleteById(event.userId());
+			return;
+		}
+		Map<String, Long> increments = new HashMap<>();
+		accumulate(increments, event.before(), -1);
+		accumulate(increments, event.after(), 1);
+		increments.values().removeIf(value -> value == 0);
+		if (increments.isEmpty()) {
+			return;
+		}
+		summaryRepository.applyIncrements(event.userId(), increments, new Date());
+	}
+
+	/**
+	 * Descarta, com uma única remoção, os resumos de vários usuários; cada um é recalculado na
+	 * próxima leitura. Usado quando a diferença não é conhecida (ex: tempo de jogo gravado em lote).
+	 *
+	 * @param userIds Os IDs dos usuários.
+	 */
+	public void evictSummaries(Collection<String> userIds) {
+		if (!userIds.isEmpty()) {
+			summaryRepository.deleteAllById(userIds);
+		}
+	}
+
+	/**
+	 * Recalcula todos os resumos a partir da coleção de jogos e corrige os divergentes.
+	 * Um resumo só é substituído se não tiver recebido incrementos durante o recálculo;
+	 * caso contrário ele é verificado novamente na próxima execução.
+	 *
+	 * @return A quantidade de resumos verificados e de resumos corrigidos.
+	 */
+	@Scheduled(cron = "${gamesync.games.summary.reconcile-cron:0 0 4 * * *}")
+	public ReconciliationReport reconcileAll() {
+		long checked = 0;
+		long drifted = 0;
+		try (Stream<LibrarySummary> ids = summaryRepository.streamAllIdsBy()) {
+			Iterator<LibrarySummary> iterator = ids.iterator();
+			while (iterator.hasNext()) {
+				String userId = iterator.next().getId();
+				checked++;
+				if (reconcile(userId)) {
+					drifted++;
+				}
+			}
+		}
+		logger.info("Reconciliação dos resumos de biblioteca: {} verificados, {} corrigidos.", checked, drifted);
+		return new ReconciliationReport(checked, drifted);
+	}
+
+	/**
+	 * Recalcula o resumo de um usuário e o substitui se divergir do armazenado.
+	 *
+	 * @return true se havia divergência e o resumo foi corrigido.
+	 */
+	private boolean reconcile(String userId) {
+		LibrarySummary stored = summaryRepository.findById(userId).orElse(null);
+		if (stored == null) {
+			return false;
+		}
+		LibrarySummary rebuilt = buildSummary(userId);
+		if (sameCounts(stored, rebuilt)) {
+			return false;
+		}
+		rebuilt.setLastModified(stored.getLastModified());
+		if (!summaryRepository.replaceIfVersion(rebuilt, stored.getVersion())) {
+			return false;
+		}
+		driftCounter.increment();
+		logger.warn("Resumo da biblioteca do usuário {} divergente e corrigido: total {} -> {}, horas {} -> {}, favoritos {} -> {}.",
+				userId, stored.getTotal(), rebuilt.getTotal(), stored.getHoursPlayed(), rebuilt.getHoursPlayed(),
+				stored.getFavorites(), rebuilt.getFavorites());
+		return true;
+	}
+
+	/**
+	 * Cria o resumo a partir da agregação. O resultado só é mantido se nenhuma gravação estava em
+	 * andamento nem começou entre a leitura do contador antes da agregação e a leitura depois da
+	 * gravação; caso contrário, uma alteração pode ter ficado de fora tanto da agregação quanto do
+	 * {@code $inc}, e o resumo é recalculado.
+	 */
+	private LibrarySummary createSummary(String userId) {
+		LibrarySummary stored = null;
+		LibrarySummary summary = null;
+		for (int attempt = 0; attempt < CREATE_ATTEMPTS; attempt++) {
+			OptionalLong before = syncSequence.idle(userId);
+			summary = buildSummary(userId);
+			summary.setLastModified(new Date());
+			if (stored == null) {
+				try {
+					summaryRepository.insert(summary);
+				} catch (DuplicateKeyException e) {
+					// Outra requisição criou o resumo ao mesmo tempo e faz a mesma verificação.
+					return summaryRepository.findById(userId).orElse(summary);
+				}
+			} else if (!summaryRepository.replaceIfVersion(summary, stored.getVersion())) {
+				// Um incremento chegou depois da leitura da versão: recalcula de novo.
+				stored = summaryRepository.findById(userId).orElse(null);
+				continue;
+			}
+			if (before.isPresent() && before.equals(syncSequence.idle(userId))) {
+				return summary;
+			}
+			stored = summaryRepository.findById(userId).orElse(null);
+		}
+		logger.debug("Biblioteca do usuário {} mudou durante a criação do resumo; ele será recalculado na próxima leitura.",
+				userId);
+		summaryRepository.deleteById(userId);
+		return summary;
+	}
+
+	private LibrarySummary buildSummary(String userId) {
+		GameStatsResponse stats = gameRepository.aggregateStats(userId);
+		return LibrarySummary.builder()
+				.id(userId)
+				.total(stats.getTotal())
+				.hoursPlayed(stats.getHoursPlayed())
+				.favorites(stats.getFavorites())
+				.byStatus(escapeKeys(stats.getByStatus()))
+				.byGenre(escapeKeys(stats.getByGenre()))
+				.byPlatform(escapeKeys(stats.getByPlatform()))
+				.build();
+	}
+
+	/**
+	 * Soma (sign = 1) ou subtrai (sign = -1) a contribuição de um jogo aos contadores do resumo.
+	 */
+	private static void accumulate(Map<String, Long> increments, Game game, int sign) {
+		if (game == null) {
+			return;
+		}
+		increments.merge("total", (long) sign, Long::sum);
+		if (game.getHoursPlayed() != null) {
+			increments.merge("hoursPlayed", (long) sign * game.getHoursPlayed(), Long::sum);
+		}
+		if (game.isFavorite()) {
+			increments.merge("favorites", (long) sign, Long::sum);
+		}
+		if (game.getStatus() != null) {
+			increments.merge("byStatus." + game.getStatus().name(), (long) sign, Long::sum);
+		}
+		accumulateAll(increments, "byGenre.", game.getGenres(), sign);
+		accumulateAll(increments, "byPlatform.", game.getPlatforms(), sign);
+	}
+
+	private static void accumulateAll(Map<String, Long> increments, String prefix, Set<String> values, int sign) {
+		if (values == null) {
+			return;
+		}
+		for (String value : values) {
+			if (value != null) {
+				increments.merge(prefix + escapeKey(value), (long) sign, Long::sum);
+			}
+		}
+	}
+
+	private static boolean sameCounts(LibrarySummary a, LibrarySummary b) {
+		return a.getTotal() == b.getTotal()
+				&& a.getHoursPlayed() == b.getHoursPlayed()
+				&& a.getFavorites() == b.getFavorites()
+				&& withoutZeros(a.getByStatus()).equals(withoutZeros(b.getByStatus()))
+				&& withoutZeros(a.getByGenre()).equals(withoutZeros(b.getByGenre()))
+				&& withoutZeros(a.getByPlatform()).equals(withoutZeros(b.getByPlatform()));
+	}
+
+	private static GameStatsResponse toResponse(LibrarySummary summary) {
+		Map<String, Long> byStatus = new LinkedHashMap<>();
+		for (GameStatus status : GameStatus.values()) {
+			Long count = summary.getByStatus() != null ? summary.getByStatus().get(status.name()) : null;
+			byStatus.put(status.name(), count != null ? count : 0L);
+		}
+		return new GameStatsResponse(summary.getTotal(), summary.getHoursPlayed(), summary.getFavorites(),
+				byStatus, sortedCounts(summary.getByGenre()), sortedCounts(summary.getByPlatform()),
+				summary.getLastModified());
+	}
+
+	/**
+	 * Remove as contagens zeradas, restaura as chaves originais e ordena da maior para a menor contagem
+	 * (mesma ordem da agregação).
+	 */
+	private static Map<String, Long> sortedCounts(Map<String, Long> counts) {
+		Map<String, Long> sorted = new LinkedHashMap<>();
+		withoutZeros(counts).entrySet().stream()
+				.sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+				.forEach(entry -> sorted.put(unescapeKey(entry.getKey()), entry.getValue()));
+		return sorted;
+	}
+
+	private static Map<String, Long> withoutZeros(Map<String, Long> counts) {
+		if (counts == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Long> result = new HashMap<>(counts);
+		result.values().removeIf(value -> value == null || value == 0);
+		return result;
+	}
+
+	private static Map<String, Long> escapeKeys(Map<String, Long> counts) {
+		Map<String, Long> escaped = new HashMap<>();
+		counts.forEach((key, value) -> escaped.put(escapeKey(key), value));
+		return escaped;
+	}
+
+	/**
+	 * '.' e '$' não são permitidos em nomes de campo do MongoDB; são trocados pelos
+	 * equivalentes de largura total (U+FF0E e U+FF04).
+	 */
+	private static String escapeKey(String key) {
+		return key.replace('.', '．').replace('$', '＄');
+	}
+
+	private static String unescapeKey(String key) {
+		return key.replace('．', '.').replace('＄', '$');
+	}
+
+	/**
+	 * Resultado de uma execução da reconciliação.
+	 *
+	 * @param checked Quantidade de resumos verificados.
+	 * @param drifted Quantidade de resumos divergentes que foram corrigidos.
+	 */
+	public record ReconciliationReport(long checked, long drifted) {
+	}
+}
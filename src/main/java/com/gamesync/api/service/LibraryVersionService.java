@@ -0,0 +1,64 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.UserPrincipal;
+import org.springframework.stereotype.Service;
+
+/**
+ * Gera os ETags de GET /games e GET /games/{id} a partir de valores gravados no banco, de modo
+ * que todas as instâncias produzam o mesmo ETag para o mesmo estado, inclusive após reinícios.
+ *
+ * <p>
+ * Toda gravação na biblioteca (criação, edição, tempo de jogo, alteração em massa, exclusão)
+ * reserva uma nova sequência no contador do usuário ({@link SyncSequence}), e cada jogo guarda a
+ * sequência da sua última gravação. O ETag de um jogo é a sua sequência; o da biblioteca é a
+ * sequência assentada do contador, lida com uma única busca pela chave primária, então uma
+ * requisição com {@code If-None-Match} é respondida com 304 sem ler nem percorrer os jogos.
+ * </p>
+ */
+@Service
+public class LibraryVersionService {
+
+	private final SyncSequence syncSequence;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param syncSequence Contadores de sequência, lidos como versão da biblioteca.
+	 */
+	public LibraryVersionService(SyncSequence syncSequence) {
+		this.syncSequence = syncSequence;
+	}
+
+	/**
+	 * Retorna a versão atual da biblioteca do usuário autenticado. Deve ser obtida antes da leitura
+	 * dos jogos: tudo o que foi gravado até ela já está visível, então o conteúdo lido depois nunca é
+	 * mais antigo que a versão.
+	 *
+	 * @return A versão da biblioteca.
+	 */
+	public long currentLibraryVersion() {
+		return syncSequence.settled(CurrentUser.get().getId());
+	}
+
+	/**
+	 * Retorna o ETag correspondente a uma versão da biblioteca.
+	 *
+	 * @param version A versão obtida com {@link #currentLibraryVersion()}.
+	 * @return O ETag (entre aspas) da biblioteca.
+	 */
+	public String libraryETag(long version) {
+		return "\"l" + version + "\"";
+	}
+
+	/**
+	 * Retorna o ETag de um jogo, derivado da sequência da sua última gravação.
+	 *
+	 * @param game O jogo lido.
+	 * @return O ETag (entre aspas) do jogo.
+	 */
+	public String gameETag(Game game) {
+		return "\"g" + (game.getSeq() != null ? game.getSeq() : 0) + "\"";
+	}
+
+}
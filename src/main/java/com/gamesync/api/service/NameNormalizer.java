@@ -0,0 +1,32 @@
+package com.gamesync.api.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Utilitário para normalizar nomes de jogos em comparações que devem ignorar
+ * maiúsculas/minúsculas e acentos (ex: "Pokémon" e "POKEMON" viram "pokemon").
+ */
+public final class NameNormalizer {
+
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+	private NameNormalizer() {
+	}
+
+	/**
+	 * Remove acentos (decomposição NFD e descarte das marcas combinantes),
+	 * converte para minúsculas e remove espaços nas extremidades.
+	 *
+	 * @param value O texto original.
+	 * @return O texto normalizado, ou null se o valor for null.
+	 */
+	public static String normalize(String value) {
+		if (value == null) {
+			return null;
+		}
+		String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+		return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).strip();
+	}
+}
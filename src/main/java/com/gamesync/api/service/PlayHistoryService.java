@@ -0,0 +1,191 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.dto.PlayTimeHistoryResponse;
+import com.gamesync.api.exception.BadRequestException;
+import com.gamesync.api.model.PlaySession;
+import com.gamesync.api.model.PlayTimePeriod;
+import com.gamesync.api.model.PlayTimeRollup;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.GameRepositoryCustom.PlayTimeIncrement;
+import com.gamesync.api.repository.PlaySessionRepository;
+import com.gamesync.api.repository.PlayTimeRollupRepository;
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Classe de serviço do histórico de tempo de jogo.
+ *
+ * <p>
+ * Cada gravação em lote dos heartbeats gera trechos ({@link PlaySession}) na coleção de séries
+ * temporais. Um job periódico consolida os trechos novos em totais diários e semanais
+ * ({@link PlayTimeRollup}), de forma incremental: uma marca d'água guarda até onde já se consolidou,
+ * e cada execução processa apenas o intervalo seguinte. O intervalo só termina
+ * {@code rollup-delay} antes do momento atual, para que trechos gravados por outras instâncias
+ * com um pequeno atraso não fiquem para trás.
+ * </p>
+ *
+ * <p>
+ * A consolidação é idempotente: cada dia ou semana tocado pelo intervalo é recalculado por inteiro a
+ * partir dos trechos brutos e substitui o total existente. Com várias instâncias, uma reserva com
+ * prazo na marca d'água garante que só uma consolide por vez; a marca só avança depois do
+ * {@code $merge} concluído. Uma falha (ou uma instância que para no meio) apenas libera a reserva, e o
+ * mesmo intervalo é consolidado de novo na execução seguinte, sem perder nem duplicar histórico.
+ * </p>
+ *
+ * <p>
+ * As consultas leem apenas os totais: um ano de histórico diário são no máximo 366 documentos.
+ * </p>
+ */
+@Service
+public class PlayHistoryService {
+	private static final Logger logger = LoggerFactory.getLogger(PlayHistoryService.class);
+
+	/** Prazo da reserva da consolidação, caso a instância pare sem liberá-la. */
+	private static final Duration ROLLUP_LEASE = Duration.ofMinutes(10);
+
+	private final PlaySessionRepository playSessionRepository;
+	private final PlayTimeRollupRepository rollupRepository;
+	private final Duration rollupDelay;
+	private final int maxRangeDays;
+	private final Timer rollupTimer;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param playSessionRepository Repositório dos trechos brutos e da consolidação.
+	 * @param rollupRepository      Repositório dos totais consolidados.
+	 * @param meterRegistry         Registro de métricas onde é publicada a duração da consolidação.
+	 * @param rollupDelay           Atraso entre o momento atual e o fim do intervalo consolidado.
+	 * @param maxRangeDays          Tamanho máximo, em dias, do intervalo aceito nas consultas.
+	 */
+	public PlayHistoryService(PlaySessionRepository playSessionRepository, PlayTimeRollupRepository rollupRepository,
+			MeterRegistry meterRegistry,
+			@Value("${gamesync.play-sessions.rollup-delay:30s}") Duration rollupDelay,
+			@Value("${gamesync.play-sessions.max-range-days:1100}") int maxRangeDays) {
+		this.playSessionRepository = playSessionRepository;
+		this.rollupRepository = rollupRepository;
+		this.rollupDelay = rollupDelay;
+		this.maxRangeDays = maxRangeDays;
+		this.rollupTimer = Timer.builder("gamesync.playtime.rollup")
+				.description("Duração de cada consolidação do histórico de tempo de jogo")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Grava os trechos correspondentes a uma gravação em lote de tempo de jogo. Deve receber apenas
+	 * os incrementos que atualizaram um jogo do próprio usuário: os trechos e consolidações gravados
+	 * aqui são permanentes e não são conferidos contra a coleção de jogos.
+	 *
+	 * @param increments Os incrementos aplicados a jogos do dono.
+	 * @param timestamp  O instante da gravação.
+	 */
+	public void recordSessions(List<PlayTimeIncrement> increments, Date timestamp) {
+		if (increments.isEmpty()) {
+			return;
+		}
+		List<PlaySession> sessions = new ArrayList<>(increments.size());
+		for (PlayTimeIncrement increment : increments) {
+			sessions.add(PlaySession.builder()
+					.timestamp(timestamp)
+					.meta(new PlaySession.Meta(increment.userId(), increment.gameId()))
+					.seconds(increment.seconds())
+					.build());
+		}
+		playSessionRepository.insert(sessions);
+	}
+
+	/**
+	 * Consolida os trechos gravados desde a última execução.
+	 *
+	 * @return true se um intervalo foi consolidado por esta instância.
+	 */
+	@Scheduled(fixedDelayString = "${gamesync.play-sessions.rollup-interval:1m}")
+	public boolean rollUp() {
+		Instant now = Instant.now();
+		String owner = UUID.randomUUID().toString();
+		if (!playSessionRepository.lockRollup(owner, Date.from(now), Date.from(now.plus(ROLLUP_LEASE)))) {
+			return false;
+		}
+		boolean completed = false;
+		try {
+			Date from = playSessionRepository.findRollupWatermark().orElse(new Date(0));
+			Date to = Date.from(now.minus(rollupDelay));
+			if (!to.after(from)) {
+				return false;
+			}
+			Timer.Sample sample = Timer.start();
+			try {
+				playSessionRepository.rollUp(from, to);
+			} finally {
+				sample.stop(rollupTimer);
+			}
+			completed = playSessionRepository.completeRollup(owner, to);
+			return completed;
+		} catch (DataAccessException | MongoException e) {
+			logger.error("Falha ao consolidar o tempo de jogo; o intervalo será repetido na próxima execução: {}",
+					e.getMessage());
+			return false;
+		} finally {
+			if (!completed) {
+				playSessionRepository.releaseRollup(owner);
+			}
+		}
+	}
+
+	/**
+	 * Retorna o histórico de tempo de jogo do usuário autenticado, lido apenas dos totais consolidados.
+	 *
+	 * @param period O período de agregação (DAY ou WEEK).
+	 * @param gameId O ID do jogo, ou null para o total de todos os jogos.
+	 * @param from   Primeiro dia do intervalo (inclusivo, UTC). Para semanas, é ajustado para a segunda-feira.
+	 * @param to     Último dia do intervalo (inclusivo, UTC).
+	 * @return Os totais dos períodos com tempo de jogo no intervalo.
+	 * @throws BadRequestException Se o intervalo for inválido ou maior que o máximo configurado.
+	 */
+	public PlayTimeHistoryResponse getHistoryForCurrentUser(PlayTimePeriod period, String gameId, LocalDate from,
+			LocalDate to) {
+		UserPrincipal currentUser = CurrentUser.get();
+		if (from.isAfter(to)) {
+			throw new BadRequestException("O parâmetro 'from' deve ser anterior ou igual a 'to'.");
+		}
+		if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+			throw new BadRequestException("O intervalo consultado deve ter no máximo " + maxRangeDays + " dias.");
+		}
+		LocalDate start = period == PlayTimePeriod.WEEK ? from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : from;
+
+		List<PlayTimeRollup> rollups = rollupRepository.findSeries(currentUser.getId(), gameId, period,
+				toDate(start), toDate(to.plusDays(1)));
+		List<PlayTimeHistoryResponse.Point> points = new ArrayList<>(rollups.size());
+		long total = 0;
+		for (PlayTimeRollup rollup : rollups) {
+			points.add(new PlayTimeHistoryResponse.Point(
+					LocalDate.ofInstant(rollup.getPeriodStart().toInstant(), ZoneOffset.UTC), rollup.getSeconds()));
+			total += rollup.getSeconds();
+		}
+		return new PlayTimeHistoryResponse(period, gameId, total, points);
+	}
+
+	private static Date toDate(LocalDate day) {
+		return Date.from(day.atStartOfDay(ZoneOffset.UTC).toInstant());
+	}
+
+}
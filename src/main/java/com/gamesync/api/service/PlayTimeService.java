@@ -0,0 +1,280 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.event.GameInvalidationEvent;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.GameRepository;
+import com.gamesync.api.repository.GameRepositoryCustom.PlayTimeIncrement;
+import com.gamesync.api.repository.GameRepositoryCustom.PlayTimeWriteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Classe de serviço que acumula o tempo de jogo reportado pelos heartbeats e o grava em lote
+ * (write-behind).
+ *
+ * <p>
+ * Cada heartbeat apenas soma segundos em um mapa concorrente em memória, chaveado por
+ * (usuário, jogo): {@link ConcurrentHashMap#merge} bloqueia só o bin da chave, então heartbeats
+ * de jogos diferentes não disputam o mesmo lock. Os totais são retirados do mapa de forma atômica
+ * e gravados com um único bulkWrite não ordenado, de modo que milhares de heartbeats por segundo
+ * viram poucas operações no banco.
+ * </p>
+ *
+ * <p>
+ * A gravação acontece a cada {@code flush-interval}, imediatamente quando o mapa atinge
+ * {@code max-pending} jogos ou o incremento mais antigo ultrapassa {@code max-loss-window}, e no
+ * encerramento da aplicação. O tempo de jogo perdido em uma queda abrupta fica, portanto, limitado
+ * a essa janela. Incrementos que falharem voltam ao mapa e são tentados novamente no ciclo seguinte.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code gamesync.playtime.pending} (jogos aguardando gravação),
+ * {@code gamesync.playtime.pending.age} (idade do incremento mais antigo, em segundos),
+ * {@code gamesync.playtime.flush} (latência de cada gravação), {@code gamesync.playtime.heartbeats},
+ * {@code gamesync.playtime.flushed} e os valores configurados em
+ * {@code gamesync.playtime.flush.interval} e {@code gamesync.playtime.max.loss.window}.
+ * </p>
+ */
+@Service
+public class PlayTimeService {
+	private static final Logger logger = LoggerFactory.getLogger(PlayTimeService.class);
+
+	private final GameRepository gameRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final LibrarySummaryService librarySummaryService;
+	private final PlayHistoryService playHistoryService;
+	private final SyncSequence syncSequence;
+	private final int maxPending;
+	private final long maxLossWindowNanos;
+
+	private final ConcurrentHashMap<PlayKey, Long> pending = new ConcurrentHashMap<>();
+	/** Instante (System.nanoTime) do incremento mais antigo ainda não gravado, ou 0 se não houver. */
+	private final AtomicLong oldestPendingAt = new AtomicLong();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "playtime-flush");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Timer flushTimer;
+	private final Counter heartbeatCounter;
+	private final Counter flushedCounter;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param gameRepository        Repositório usado para gravar os incrementos em lote.
+	 * @param eventPublisher        Publicador dos eventos que invalidam os caches dos jogos gravados.
+	 * @param librarySummaryService Serviço dos resumos de biblioteca, cujas horas jogadas mudam a cada gravação.
+	 * @param playHistoryService    Serviço do histórico, que recebe um trecho por incremento gravado.
+	 * @param syncSequence          Contadores das sequências gravadas nos jogos alterados (sincronização incremental).
+	 * @param meterRegistry         Registro de métricas.
+	 * @param flushInterval         Intervalo entre gravações periódicas (também usado por {@link #scheduledFlush()}).
+	 * @param maxLossWindow         Idade máxima de um incremento antes de forçar uma gravação.
+	 * @param maxPending            Quantidade de jogos pendentes que força uma gravação imediata.
+	 */
+	public PlayTimeService(GameRepository gameRepository, ApplicationEventPublisher eventPublisher,
+			LibrarySummaryService librarySummaryService, PlayHistoryService playHistoryService,
+			SyncSequence syncSequence, MeterRegistry meterRegistry,
+			@Value("${gamesync.games.play-time.flush-interval:5s}") Duration flushInterval,
+			@Value("${gamesync.games.play-time.max-loss-window:30s}") Duration maxLossWindow,
+			@Value("${gamesync.games.play-time.max-pending:10000}") int maxPending) {
+		this.gameRepository = gameRepository;
+		this.eventPublisher = eventPublisher;
+		this.librarySummaryService = librarySummaryService;
+		this.playHistoryService = playHistoryService;
+		this.syncSequence = syncSequence;
+		this.maxPending = maxPending;
+		this.maxLossWindowNanos = maxLossWindow.toNanos();
+
+		this.flushTimer = Timer.builder("gamesync.playtime.flush")
+				.description("Latência de cada gravação em lote do tempo de jogo")
+				.register(meterRegistry);
+		this.heartbeatCounter = Counter.builder("gamesync.playtime.heartbeats")
+				.description("Heartbeats de tempo de jogo recebidos")
+				.register(meterRegistry);
+		this.flushedCounter = Counter.builder("gamesync.playtime.flushed")
+				.description("Incrementos de tempo de jogo gravados no banco")
+				.register(meterRegistry);
+		Gauge.builder("gamesync.playtime.pending", pending, ConcurrentHashMap::size)
+				.description("Jogos com tempo de jogo aguardando gravação")
+				.register(meterRegistry);
+		Gauge.builder("gamesync.playtime.pending.age", this, service -> service.oldestPendingAge().toMillis() / 1000.0)
+				.description("Idade, em segundos, do incremento de tempo de jogo mais antigo ainda não gravado")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+		Gauge.builder("gamesync.playtime.flush.interval", flushInterval, interval -> interval.toMillis() / 1000.0)
+				.description("Intervalo configurado entre gravações do tempo de jogo")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+		Gauge.builder("gamesync.playtime.max.loss.window", maxLossWindow, window -> window.toMillis() / 1000.0)
+				.description("Janela máxima configurada de tempo de jogo mantido apenas em memória")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Registra segundos jogados em um jogo do usuário autenticado. A chamada apenas acumula o valor
+	 * em memória; não há acesso ao banco. A posse do jogo é garantida na gravação, cujo filtro inclui
+	 * o userId.
+	 *
+	 * @param gameId  O ID do jogo em execução.
+	 * @param seconds Os segundos jogados desde o último heartbeat.
+	 */
+	public void recordHeartbeat(String gameId, int seconds) {
+		UserPrincipal currentUser = CurrentUser.get();
+		long now = System.nanoTime();
+		pending.merge(new PlayKey(currentUser.getId(), gameId), (long) seconds, Long::sum);
+		oldestPendingAt.compareAndSet(0, now);
+		heartbeatCounter.increment();
+
+		if (pending.size() >= maxPending || now - oldestPendingAt.get() >= maxLossWindowNanos) {
+			requestFlush();
+		}
+	}
+
+	/**
+	 * Gravação periódica dos incrementos acumulados.
+	 */
+	@Scheduled(fixedDelayString = "${gamesync.games.play-time.flush-interval:5s}")
+	public void scheduledFlush() {
+		flush();
+	}
+
+	/**
+	 * Grava no encerramento da aplicação o que ainda estiver em memória.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		flushExecutor.shutdown();
+		try {
+			flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+
+	/**
+	 * Retira do mapa todos os incrementos pendentes e os grava com um único bulkWrite.
+	 * Pode ser chamado por várias threads ao mesmo tempo: cada incremento é retirado por apenas uma delas.
+	 *
+	 * @return A quantidade de incrementos gravados em jogos do dono.
+	 */
+	public int flush() {
+		if (pending.isEmpty()) {
+			return 0;
+		}
+		oldestPendingAt.set(0);
+		List<PlayTimeIncrement> increments = new ArrayList<>();
+		for (PlayKey key : pending.keySet()) {
+			Long seconds = pending.remove(key);
+			if (seconds != null) {
+				increments.add(new PlayTimeIncrement(key.userId(), key.gameId(), seconds));
+			}
+		}
+		if (increments.isEmpty()) {
+			return 0;
+		}
+
+		PlayTimeWriteResult result;
+		long start = System.nanoTime();
+		try {
+			Set<String> flushedUsers = increments.stream().map(PlayTimeIncrement::userId).collect(Collectors.toSet());
+			result = syncSequence.writeAll(flushedUsers, seqs -> gameRepository.addPlaySeconds(increments, seqs));
+		} catch (DataAccessException e) {
+			logger.warn("Falha ao gravar o tempo de jogo de {} jogos; nova tentativa no próximo ciclo: {}",
+					increments.size(), e.getMessage());
+			increments.forEach(this::requeue);
+			return 0;
+		} finally {
+			flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+
+		Set<Integer> failed = result.failed();
+		Set<String> userIds = new HashSet<>();
+		List<PlayTimeIncrement> written = new ArrayList<>(increments.size());
+		for (int i = 0; i < increments.size(); i++) {
+			PlayTimeIncrement increment = increments.get(i);
+			if (failed.contains(i)) {
+				requeue(increment);
+				continue;
+			}
+			if (!result.applied().contains(i)) {
+				// Jogo inexistente ou de outro usuário: nada foi gravado nem entra no histórico.
+				continue;
+			}
+			written.add(increment);
+			userIds.add(increment.userId());
+			eventPublisher.publishEvent(new GameInvalidationEvent(increment.userId(), increment.gameId(), false));
+		}
+		if (!failed.isEmpty()) {
+			logger.warn("{} incrementos de tempo de jogo falharam e serão tentados novamente.", failed.size());
+		}
+		// As horas somadas dependem do valor acumulado no banco; os resumos são recalculados na próxima leitura.
+		librarySummaryService.evictSummaries(userIds);
+		try {
+			playHistoryService.recordSessions(written, new Date());
+		} catch (DataAccessException e) {
+			// O tempo total já foi gravado; apenas o histórico deste lote fica incompleto.
+			logger.warn("Falha ao gravar {} trechos de tempo de jogo no histórico: {}", written.size(), e.getMessage());
+		}
+		flushedCounter.increment(written.size());
+		return written.size();
+	}
+
+	private void requestFlush() {
+		if (flushScheduled.compareAndSet(false, true)) {
+			try {
+				flushExecutor.execute(() -> {
+					flushScheduled.set(false);
+					flush();
+				});
+			} catch (RuntimeException e) {
+				// Executor encerrado: a gravação final acontece em shutdown().
+				flushScheduled.set(false);
+			}
+		}
+	}
+
+	private void requeue(PlayTimeIncrement increment) {
+		pending.merge(new PlayKey(increment.userId(), increment.gameId()), increment.seconds(), Long::sum);
+		oldestPendingAt.compareAndSet(0, System.nanoTime());
+	}
+
+	private Duration oldestPendingAge() {
+		long since = oldestPendingAt.get();
+		return since == 0 ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - since);
+	}
+
+	/**
+	 * Chave do acumulador: o dono e o jogo.
+	 */
+	private record PlayKey(String userId, String gameId) {
+	}
+}
@@ -0,0 +1,178 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.model.SyncCounter;
+import com.gamesync.api.repository.SyncCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Gera os números de sequência ({@code seq}) gravados em cada alteração de jogo e em cada
+ * exclusão (tombstone), usados pela sincronização incremental (GET /games/changes) e pela versão
+ * da biblioteca (ETag de GET /games).
+ *
+ * <p>
+ * Cada usuário tem um contador próprio ({@link SyncCounter}), avançado atomicamente no banco por
+ * um findAndModify antes da gravação. A reserva fica registrada como pendente até a gravação
+ * terminar, e {@link #settled(String)} nunca passa da primeira sequência ainda pendente: uma
+ * gravação lenta (um updateMany grande, a gravação em lote do tempo de jogo, uma nova tentativa
+ * após a troca de primário) apenas segura a sincronização até terminar, em vez de ser pulada por
+ * um cliente que já avançou além dela. A correção não depende do relógio das instâncias.
+ * </p>
+ *
+ * <p>
+ * Uma gravação cujo resultado é desconhecido (falha de rede) mantém a reserva, que só é descartada
+ * após {@code gamesync.sync.reservation-lease}; o mesmo vale para a reserva de uma instância que
+ * parou no meio de uma gravação. O prazo deve ser bem maior que a duração de qualquer gravação.
+ * </p>
+ */
+@Component
+public class SyncSequence {
+
+	/** Quantidade de valores por milissegundo do valor inicial de um contador novo. */
+	static final long TICKS_PER_MILLI = 1000;
+
+	private final SyncCounterRepository counterRepository;
+	private final Duration reservationLease;
+
+	/**
+	 * Construtor para injeção de dependências.
+	 *
+	 * @param counterRepository Repositório dos contadores por usuário.
+	 * @param reservationLease  Prazo após o qual uma reserva não liberada é descartada.
+	 */
+	public SyncSequence(SyncCounterRepository counterRepository,
+			@Value("${gamesync.sync.reservation-lease:10m}") Duration reservationLease) {
+		this.counterRepository = counterRepository;
+		this.reservationLease = reservationLease;
+	}
+
+	/**
+	 * Reserva uma sequência do usuário, executa a gravação com ela e libera a reserva.
+	 *
+	 * @param userId O ID do usuário dono dos dados gravados.
+	 * @param write  A gravação, que recebe a sequência reservada.
+	 * @return O resultado da gravação.
+	 */
+	public <T> T write(String userId, LongFunction<T> write) {
+		return write(userId, 1, write);
+	}
+
+	/**
+	 * Reserva {@code count} sequências consecutivas do usuário, executa a gravação e libera a reserva.
+	 *
+	 * @param userId O ID do usuário dono dos dados gravados.
+	 * @param count  Quantas sequências reservar.
+	 * @param write  A gravação, que recebe a primeira sequência da faixa reservada.
+	 * @return O resultado da gravação.
+	 */
+	public <T> T write(String userId, int count, LongFunction<T> write) {
+		String op = UUID.randomUUID().toString();
+		Date now = new Date();
+		long first = counterRepository.reserve(userId, op, count, initialSeq(now), now, abandonedBefore(now));
+		return release(Set.of(userId), op, () -> write.apply(first));
+	}
+
+	/**
+	 * Reserva uma sequência de cada usuário, executa uma única gravação que envolve todos eles
+	 * (ex: o tempo de jogo gravado em lote) e libera as reservas.
+	 *
+	 * @param userIds Os IDs dos usuários.
+	 * @param write   A gravação, que recebe a sequência reservada de cada usuário.
+	 * @return O resultado da gravação.
+	 */
+	public <T> T writeAll(Collection<String> userIds, Function<Map<String, Long>, T> write) {
+		String op = UUID.randomUUID().toString();
+		Date now = new Date();
+		Map<String, Long> seqs = new HashMap<>(counterRepository.reserveEach(userIds, op, now, abandonedBefore(now)));
+		for (String userId : userIds) {
+			if (!seqs.containsKey(userId)) {
+				seqs.put(userId, counterRepository.reserve(userId, op, 1, initialSeq(now), now, abandonedBefore(now)));
+			}
+		}
+		return release(seqs.keySet(), op, () -> write.apply(seqs));
+	}
+
+	/**
+	 * Retorna a maior sequência do usuário até a qual todas as gravações já terminaram. Lida antes
+	 * dos dados, garante que tudo com sequência até ela já está visível.
+	 *
+	 * @param userId O ID do usuário.
+	 * @return A sequência assentada, ou 0 se o usuário nunca gravou.
+	 */
+	public long settled(String userId) {
+		Date abandonedBefore = abandonedBefore(new Date());
+		return counterRepository.findById(userId)
+				.map(counter -> settled(counter, abandonedBefore))
+				.orElse(0L);
+	}
+
+	/**
+	 * Retorna a última sequência reservada do usuário se nenhuma gravação estiver em andamento.
+	 * Duas leituras que devolvem o mesmo valor garantem que nenhuma gravação começou nem terminou
+	 * entre elas.
+	 *
+	 * @param userId O ID do usuário.
+	 * @return A última sequência reservada (0 se o usuário nunca gravou), ou vazio se houver
+	 *         gravação pendente.
+	 */
+	public OptionalLong idle(String userId) {
+		Date abandonedBefore = abandonedBefore(new Date());
+		return counterRepository.findById(userId)
+				.map(counter -> settled(counter, abandonedBefore) == counter.getSeq()
+						? OptionalLong.of(counter.getSeq())
+						: OptionalLong.empty())
+				.orElse(OptionalLong.of(0));
+	}
+
+	private static long settled(SyncCounter counter, Date abandonedBefore) {
+		return counter.getPending().stream()
+				.filter(reservation -> reservation.getReservedAt() != null
+						&& !reservation.getReservedAt().before(abandonedBefore))
+				.mapToLong(reservation -> reservation.getFirst() - 1)
+				.min()
+				.orElse(counter.getSeq());
+	}
+
+	/**
+	 * Executa a gravação e libera as reservas, exceto se o resultado for desconhecido: nesse caso a
+	 * gravação pode ainda ser aplicada, e a reserva só expira após o prazo.
+	 */
+	private <T> T release(Set<String> userIds, String op, Supplier<T> write) {
+		boolean outcomeKnown = true;
+		try {
+			return write.get();
+		} catch (DataAccessResourceFailureException e) {
+			outcomeKnown = false;
+			throw e;
+		} finally {
+			if (outcomeKnown) {
+				counterRepository.release(userIds, op);
+			}
+		}
+	}
+
+	/**
+	 * Valor inicial de um contador novo: o mesmo formato das sequências baseadas no relógio usadas
+	 * antes dos contadores, para que fique acima de qualquer sequência já gravada.
+	 */
+	private static long initialSeq(Date now) {
+		return now.getTime() * TICKS_PER_MILLI;
+	}
+
+	private Date abandonedBefore(Date now) {
+		return new Date(now.getTime() - reservationLease.toMillis());
+	}
+}
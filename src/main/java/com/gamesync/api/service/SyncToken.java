@@ -0,0 +1,59 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Token opaco da sincronização incremental (GET /games/changes).
+ * Guarda a última posição (seq, id) entregue ao dispositivo e o instante em que as alterações
+ * ainda não entregues começaram a ser acompanhadas, serializados em Base64 URL-safe, para que o
+ * cliente o trate apenas como um valor a ser devolvido na próxima sincronização.
+ * Um id nulo indica que todas as alterações com sequência até {@code seq} já foram entregues.
+ *
+ * @param seq   A sequência da última posição entregue.
+ * @param id    O ID do último jogo entregue com essa sequência, ou null.
+ * @param since O instante (epoch em milissegundos) a partir do qual as exclusões ainda não
+ *              entregues precisam estar registradas, usado para recusar tokens além da retenção.
+ */
+record SyncToken(long seq, String id, long since) {
+
+	/** Posição inicial: todas as alterações ainda não foram entregues. */
+	static final SyncToken INITIAL = new SyncToken(0, null, 0);
+
+	/**
+	 * Serializa o token no formato "seq:id:since" (id vazio quando nulo).
+	 *
+	 * @return O token Base64 URL-safe.
+	 */
+	String encode() {
+		String raw = seq + ":" + (id != null ? id : "") + ":" + since;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodifica um token recebido do cliente. Tokens no formato antigo ("seq:id"), com sequências
+	 * baseadas no relógio, são decodificados com {@code since} 0 e tratados como expirados.
+	 *
+	 * @param token O token opaco.
+	 * @return O token decodificado.
+	 * @throws BadRequestException Se o token estiver malformado.
+	 */
+	static SyncToken decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(":", 3);
+			if (parts.length < 2) {
+				throw new BadRequestException("Token de sincronização inválido.");
+			}
+			long seq = Long.parseLong(parts[0]);
+			long since = parts.length == 3 ? Long.parseLong(parts[2]) : 0;
+			if (seq < 0 || since < 0) {
+				throw new BadRequestException("Token de sincronização inválido.");
+			}
+			return new SyncToken(seq, parts[1].isEmpty() ? null : parts[1], since);
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException("Token de sincronização inválido.", e);
+		}
+	}
+}
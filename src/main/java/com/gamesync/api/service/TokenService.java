@@ -0,0 +1,259 @@
+package com.gamesync.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamesync.api.dto.TokenResponse;
+import com.gamesync.api.event.UserInvalidationEvent;
+import com.gamesync.api.model.User;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serviço responsável por emitir e validar tokens de acesso e de renovação (refresh).
+ *
+ * <p>
+ * Os tokens têm o formato {@code base64url(claims JSON).base64url(HMAC-SHA256)} e são
+ * verificados inteiramente em memória, sem consultar o banco de dados: assim a autenticação
+ * por requisição custa microssegundos em vez de uma verificação BCrypt.
+ * </p>
+ *
+ * <p>
+ * A revogação usa o contador {@link User#getTokenGeneration()}: cada token carrega a geração
+ * vigente no momento da emissão e deixa de ser aceito quando o contador do usuário é incrementado.
+ * As gerações ficam em um cache local, carregado do banco apenas na primeira consulta de cada usuário.
+ * </p>
+ */
+@Service
+public class TokenService {
+	private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final String ACCESS_TYPE = "access";
+	private static final String REFRESH_TYPE = "refresh";
+	/** Geração usada para usuários inexistentes ou excluídos: nenhum token a satisfaz. */
+	private static final long REVOKED = -1L;
+
+	private final UserRepository userRepository;
+	private final ObjectMapper objectMapper;
+	private final SecretKeySpec signingKey;
+	private final Duration accessTokenTtl;
+	private final Duration refreshTokenTtl;
+	private final LoadingCache<String, Long> generations;
+
+	/**
+	 * Construtor para injeção de dependências e configuração dos tokens.
+	 *
+	 * @param userRepository  Repositório usado para carregar a geração de tokens de um usuário.
+	 * @param objectMapper    Serializador JSON das claims.
+	 * @param secret          Segredo HMAC em Base64. Se vazio, um segredo aleatório é gerado
+	 *                        (os tokens deixam de valer após reiniciar a aplicação).
+	 * @param accessTokenTtl  Validade do token de acesso.
+	 * @param refreshTokenTtl Validade do token de renovação.
+	 */
+	public TokenService(UserRepository userRepository,
+			ObjectMapper objectMapper,
+			@Value("${gamesync.security.token.secret:}") String secret,
+			@Value("${gamesync.security.token.access-ttl:15m}") Duration accessTokenTtl,
+			@Value("${gamesync.security.token.refresh-ttl:30d}") Duration refreshTokenTtl) {
+		this.userRepository = userRepository;
+		this.objectMapper = objectMapper;
+		this.accessTokenTtl = accessTokenTtl;
+		this.refreshTokenTtl = refreshTokenTtl;
+
+		byte[] keyBytes;
+		if (secret == null || secret.isBlank()) {
+			logger.warn("gamesync.security.token.secret não definido; usando um segredo aleatório para esta execução.");
+			keyBytes = new byte[32];
+			new SecureRandom().nextBytes(keyBytes);
+		} else {
+			keyBytes = Base64.getDecoder().decode(secret);
+		}
+		this.signingKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+
+		this.generations = Caffeine.newBuilder()
+				.maximumSize(100_000)
+				.expireAfterWrite(Duration.ofMinutes(10))
+				.build(userId -> userRepository.findById(userId)
+						.map(User::getTokenGeneration)
+						.orElse(REVOKED));
+	}
+
+	/**
+	 * Emite um novo par de tokens (acesso e renovação) para o usuário informado.
+	 *
+	 * @param user O principal do usuário já autenticado.
+	 * @return Um TokenResponse com os dois tokens e a validade do token de acesso.
+	 */
+	public TokenResponse issueTokens(UserPrincipal user) {
+		generations.put(user.getId(), user.getTokenGeneration());
+		long now = System.currentTimeMillis();
+		String accessToken = sign(new TokenClaims(user.getId(), user.getUsername(), user.getRoles(),
+				user.getTokenGeneration(), ACCESS_TYPE, now + accessTokenTtl.toMillis()));
+		String refreshToken = sign(new TokenClaims(user.getId(), user.getUsername(), List.of(),
+				user.getTokenGeneration(), REFRESH_TYPE, now + refreshTokenTtl.toMillis()));
+
+		return new TokenResponse(accessToken, refreshToken, "Bearer", accessTokenTtl.toSeconds());
+	}
+
+	/**
+	 * Valida um token de acesso: assinatura, tipo, expiração e geração.
+	 * Não acessa o banco de dados enquanto a geração do usuário estiver em cache.
+	 *
+	 * @param token O token recebido no cabeçalho Authorization.
+	 * @return As claims do token, ou Optional.empty() se o token for inválido, expirado ou revogado.
+	 */
+	public Optional<TokenClaims> parseAccessToken(String token) {
+		return verify(token)
+				.filter(claims -> ACCESS_TYPE.equals(claims.type()))
+				.filter(claims -> claims.generation() == currentGeneration(claims.userId()));
+	}
+
+	/**
+	 * Troca um token de renovação válido por um novo par de tokens.
+	 * A geração é conferida diretamente no banco, pois a renovação é uma operação rara.
+	 *
+	 * @param refreshToken O token de renovação.
+	 * @return Um novo TokenResponse.
+	 * @throws BadCredentialsException Se o token for inválido, expirado ou revogado.
+	 */
+	public TokenResponse refresh(String refreshToken) {
+		TokenClaims claims = verify(refreshToken)
+				.filter(c -> REFRESH_TYPE.equals(c.type()))
+				.orElseThrow(() -> new BadCredentialsException("Token de renovação inválido ou expirado."));
+
+		User user = userRepository.findById(claims.userId())
+				.filter(u -> u.getTokenGeneration() == claims.generation())
+				.orElseThrow(() -> new BadCredentialsException("Token de renovação revogado."));
+		return issueTokens(UserPrincipal.from(user));
+	}
+
+	/**
+	 * Registra localmente a nova geração de tokens de um usuário, revogando os tokens anteriores.
+	 * Deve ser chamado após persistir o incremento de {@link User#getTokenGeneration()}.
+	 *
+	 * @param userId     O ID do usuário.
+	 * @param generation A nova geração persistida.
+	 */
+	public void revokeTokens(String userId, long generation) {
+		generations.put(userId, generation);
+	}
+
+	/**
+	 * Revoga todos os tokens de um usuário excluído.
+	 *
+	 * @param userId O ID do usuário excluído.
+	 */
+	public void revokeAllTokens(String userId) {
+		generations.put(userId, REVOKED);
+	}
+
+	/**
+	 * Descarta a geração em cache de um usuário alterado no banco (inclusive por outra instância),
+	 * para que revogações feitas em outro nó passem a valer aqui na próxima validação.
+	 *
+	 * @param event O evento de invalidação do usuário.
+	 */
+	@EventListener
+	public void onUserInvalidated(UserInvalidationEvent event) {
+		if (event.isAll()) {
+			generations.invalidateAll();
+		} else {
+			generations.invalidate(event.userId());
+		}
+	}
+
+	/**
+	 * Reconstrói um principal a partir das claims de um token de acesso, sem consultar o banco.
+	 * O objeto não contém senha nem email.
+	 *
+	 * @param claims As claims validadas.
+	 * @return Um UserPrincipal com id, username e roles.
+	 */
+	public UserPrincipal toPrincipal(TokenClaims claims) {
+		return new UserPrincipal(claims.userId(), claims.username(), null, null,
+				claims.roles(), claims.generation());
+	}
+
+	private long currentGeneration(String userId) {
+		Long generation = generations.get(userId);
+		return generation != null ? generation : REVOKED;
+	}
+
+	private String sign(TokenClaims claims) {
+		try {
+			String payload = Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(objectMapper.writeValueAsBytes(claims));
+			return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(hmac(payload));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Falha ao serializar as claims do token.", e);
+		}
+	}
+
+	private Optional<TokenClaims> verify(String token) {
+		if (token == null) {
+			return Optional.empty();
+		}
+		int separator = token.indexOf('.');
+		if (separator <= 0 || separator != token.lastIndexOf('.')) {
+			return Optional.empty();
+		}
+		String payload = token.substring(0, separator);
+		try {
+			byte[] signature = Base64.getUrlDecoder().decode(token.substring(separator + 1));
+			if (!MessageDigest.isEqual(signature, hmac(payload))) {
+				return Optional.empty();
+			}
+			TokenClaims claims = objectMapper.readValue(Base64.getUrlDecoder().decode(payload), TokenClaims.class);
+			if (claims.expiresAt() < System.currentTimeMillis()) {
+				return Optional.empty();
+			}
+			return Optional.of(claims);
+		} catch (IllegalArgumentException | IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	private byte[] hmac(String payload) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(signingKey);
+			return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Falha ao assinar o token.", e);
+		}
+	}
+
+	/**
+	 * Claims carregadas por um token.
+	 *
+	 * @param userId     ID do usuário.
+	 * @param username   Nome de usuário no momento da emissão.
+	 * @param roles      Papéis do usuário (vazio em tokens de renovação).
+	 * @param generation Geração de tokens do usuário no momento da emissão.
+	 * @param type       "access" ou "refresh".
+	 * @param expiresAt  Instante de expiração em milissegundos desde a época.
+	 */
+	public record TokenClaims(String userId, String username, List<String> roles,
+			long generation, String type, long expiresAt) {
+	}
+}
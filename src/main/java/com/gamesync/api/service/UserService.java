@@ -5,13 +5,12 @@ import com.gamesync.api.dto.UserRegistrationDTO; // DTO para dados de registro d
 import com.gamesync.api.dto.UserUpdateDTO; // DTO para dados de atualização de usuário existente.
 import com.gamesync.api.exception.DuplicateResourceException; // Exceção para quando um recurso já existe (ex: email duplicado).
 import com.gamesync.api.exception.ResourceNotFoundException; // Exceção para quando um recurso não é encontrado.
+import com.gamesync.api.model.AccountDeletion; // Andamento da exclusão de uma conta.
 import com.gamesync.api.model.User; // Entidade que representa um usuário no sistema.
+import com.gamesync.api.model.UserPrincipal; // Principal imutável do usuário autenticado.
 import com.gamesync.api.repository.UserRepository; // Interface para operações CRUD com usuários no MongoDB.
-import org.springframework.security.core.Authentication; // Representa o token para uma requisição de autenticação ou um usuário autenticado.
-import org.springframework.security.core.context.SecurityContextHolder; // Fornece acesso ao contexto de segurança.
 import org.springframework.security.crypto.password.PasswordEncoder; // Interface para codificar senhas.
 import org.springframework.stereotype.Service; // Indica que esta classe é um componente de serviço gerenciado pelo Spring.
-import org.springframework.transaction.annotation.Transactional; // Usada para o método deleteUser, garantindo atomicidade.
 import java.util.Collections; // Para criar listas imutáveis (ex: lista de roles).
 import java.util.List; // Interface para listas.
 import java.util.Optional; // Contêiner que pode ou não conter um valor não-nulo.
@@ -27,42 +26,36 @@ public class UserService {
 
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
-	private final GameService gameService;
+	private final AccountDeletionService accountDeletionService;
+	private final CredentialCacheService credentialCache;
+	private final TokenService tokenService;
+	private final CustomUserDetailsService userDetailsService;
 
 	/**
 	 * Construtor para injeção de dependências.
 	 * O Spring injetará instâncias de UserRepository, PasswordEncoder e
-	 * GameService.
+	 * AccountDeletionService.
 	 * 
 	 * @param userRepository  Repositório para operações de persistência de
 	 *                        usuários.
 	 * @param passwordEncoder Codificador para senhas de usuários.
-	 * @param gameService     Serviço para gerenciar lógica de negócios de jogos.
+	 * @param accountDeletionService Serviço que exclui a conta e os dados associados.
+	 * @param credentialCache Cache de credenciais HTTP Basic já verificadas.
+	 * @param tokenService    Serviço de tokens, usado para revogar tokens emitidos.
+	 * @param userDetailsService Serviço de principals, cujo cache é mantido coerente aqui.
 	 */
 	public UserService(UserRepository userRepository,
 			PasswordEncoder passwordEncoder,
-			GameService gameService) {
+			AccountDeletionService accountDeletionService,
+			CredentialCacheService credentialCache,
+			TokenService tokenService,
+			CustomUserDetailsService userDetailsService) {
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
-		this.gameService = gameService;
-	}
-
-	/**
-	 * Método privado auxiliar para obter o objeto User do usuário atualmente
-	 * autenticado
-	 * a partir do contexto de segurança do Spring.
-	 * 
-	 * @return O objeto User autenticado.
-	 * @throws IllegalStateException Se nenhum usuário estiver autenticado ou o tipo
-	 *                               do principal for inválido.
-	 */
-	private User getAuthenticatedUserInternal() {
-		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-		if (authentication == null || !authentication.isAuthenticated()
-				|| !(authentication.getPrincipal() instanceof User)) {
-			throw new IllegalStateException("Nenhum usuário autenticado encontrado ou tipo de principal inválido.");
-		}
-		return (User) authentication.getPrincipal();
+		this.accountDeletionService = accountDeletionService;
+		this.credentialCache = credentialCache;
+		this.tokenService = tokenService;
+		this.userDetailsService = userDetailsService;
 	}
 
 	/**
@@ -87,7 +80,9 @@ public class UserService {
 		newUser.setPassword(passwordEncoder.encode(registrationDTO.getPassword()));
 		newUser.setRoles(Collections.singletonList("ROLE_USER"));
 
-		return userRepository.save(newUser);
+		User savedUser = userRepository.save(newUser);
+		userDetailsService.cachePrincipal(savedUser);
+		return savedUser;
 	}
 
 	/**
@@ -104,7 +99,7 @@ public class UserService {
 	 *                                    estiverem em uso por outro usuário.
 	 */
 	public Optional<User> updateUser(String userId, UserUpdateDTO userUpdateDTO) {
-		User authenticatedUser = getAuthenticatedUserInternal();
+		UserPrincipal authenticatedUser = CurrentUser.get();
 
 		if (!authenticatedUser.getId().equals(userId)) {
 			throw new ResourceNotFoundException("Acesso negado para atualizar este usuário ou usuário não encontrado.");
@@ -112,12 +107,15 @@ public class UserService {
 
 		return userRepository.findById(userId)
 				.map(existingUser -> {
+					boolean credentialsChanged = false;
+					String previousUsername = existingUser.getUsername();
 					if (userUpdateDTO.getUsername() != null && !userUpdateDTO.getUsername().isBlank()) {
 						if (!existingUser.getUsername().equalsIgnoreCase(userUpdateDTO.getUsername()) &&
 								userRepository.findByUsername(userUpdateDTO.getUsername()).isPresent()) {
 							throw new DuplicateResourceException(
 									"Novo nome de usuário '" + userUpdateDTO.getUsername() + "' já existe.");
 						}
+						credentialsChanged = !existingUser.getUsername().equals(userUpdateDTO.getUsername());
 						existingUser.setUsername(userUpdateDTO.getUsername());
 					}
 
@@ -130,36 +128,51 @@ public class UserService {
 
 					if (userUpdateDTO.getNewPassword() != null && !userUpdateDTO.getNewPassword().isBlank()) {
 						existingUser.setPassword(passwordEncoder.encode(userUpdateDTO.getNewPassword()));
+						credentialsChanged = true;
+					}
+					if (credentialsChanged) {
+						// Nova geração de tokens: tokens emitidos com a senha/username antigos deixam de valer.
+						existingUser.setTokenGeneration(existingUser.getTokenGeneration() + 1);
 					}
-					return userRepository.save(existingUser);
+					User savedUser = userRepository.save(existingUser);
+					// Invalida as credenciais em cache somente após persistir a alteração.
+					credentialCache.evictUser(userId);
+					userDetailsService.evictPrincipal(previousUsername);
+					userDetailsService.cachePrincipal(savedUser);
+					if (credentialsChanged) {
+						tokenService.revokeTokens(userId, savedUser.getTokenGeneration());
+					}
+					return savedUser;
 				});
 	}
 
 	/**
 	 * Exclui um usuário do sistema.
 	 * Apenas o usuário autenticado pode excluir sua própria conta.
-	 * Também exclui todos os jogos associados a este usuário.
+	 * Também exclui todos os jogos associados a este usuário; bibliotecas muito grandes
+	 * são excluídas em segundo plano (ver AccountDeletionService).
 	 * 
 	 * @param userId ID do usuário a ser excluído.
-	 * @return true se o usuário foi excluído com sucesso, false caso contrário (ex:
-	 *         usuário não encontrado).
+	 * @return Um Optional com o andamento da exclusão (concluída ou em segundo plano), ou
+	 *         Optional.empty() se o usuário não for encontrado.
 	 * @throws ResourceNotFoundException Se o usuário autenticado tentar excluir
 	 *                                   outro usuário.
 	 */
-	@Transactional
-	public boolean deleteUser(String userId) {
-		User authenticatedUser = getAuthenticatedUserInternal();
+	public Optional<AccountDeletion> deleteUser(String userId) {
+		UserPrincipal authenticatedUser = CurrentUser.get();
 
 		if (!authenticatedUser.getId().equals(userId)) {
 			throw new ResourceNotFoundException("Acesso negado para excluir este usuário ou usuário não encontrado.");
 		}
 
 		if (userRepository.existsById(userId)) {
-			gameService.deleteAllGamesByUserId(userId);
-			userRepository.deleteById(userId);
-			return true;
+			AccountDeletion deletion = accountDeletionService.deleteAccount(userId);
+			credentialCache.evictUser(userId);
+			userDetailsService.evictPrincipal(authenticatedUser.getUsername());
+			tokenService.revokeAllTokens(userId);
+			return Optional.of(deletion);
 		}
-		return false;
+		return Optional.empty();
 	}
 
 	/**
@@ -183,7 +196,7 @@ public class UserService {
 	 *                                   for negado.
 	 */
 	public Optional<User> findById(String id) {
-		User authenticatedUser = getAuthenticatedUserInternal();
+		UserPrincipal authenticatedUser = CurrentUser.get();
 		if (authenticatedUser.getId().equals(id) ||
 				(authenticatedUser.getAuthorities() != null &&
 						authenticatedUser.getAuthorities().stream().anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN")))) {
@@ -194,13 +207,18 @@ public class UserService {
 
 	/**
 	 * Método público para obter o usuário autenticado atualmente.
+	 * O documento é recarregado do banco de dados, pois o principal de uma requisição
+	 * autenticada por token contém apenas id, username e roles.
 	 * 
 	 * @return O objeto User do usuário autenticado.
-	 * @throws IllegalStateException Se nenhum usuário estiver autenticado ou o tipo
-	 *                               do principal for inválido.
+	 * @throws IllegalStateException     Se nenhum usuário estiver autenticado ou o tipo
+	 *                                   do principal for inválido.
+	 * @throws ResourceNotFoundException Se o usuário autenticado não existir mais.
 	 */
 	public User getAuthenticatedUser() {
-		return getAuthenticatedUserInternal();
+		String userId = CurrentUser.get().getId();
+		return userRepository.findById(userId)
+				.orElseThrow(() -> new ResourceNotFoundException("Usuário autenticado não encontrado."));
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.gamesync.api.benchmark;
+
+import com.gamesync.api.dto.GameBatchResponse;
+import com.gamesync.api.dto.GameCreateDTO;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameStatus;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.service.GameService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de vazão da criação de jogos: POST /games item a item (existsByNameAndUserId + save
+ * por jogo) contra POST /games/batch (um $in + um bulkWrite por lote), medido na camada de serviço.
+ *
+ * Executado apenas sob demanda: {@code mvn test -Dbenchmarks=true -Dtest=GameBatchCreateBenchmark}.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class GameBatchCreateBenchmark {
+
+	private static final String USER_ID = "batch-benchmark-user";
+	private static final int GAMES = 2_000;
+	private static final int BATCH_SIZE = 500;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@BeforeEach
+	void authenticate() {
+		UserPrincipal principal = new UserPrincipal(USER_ID, "batch-benchmark", null, null, List.of("USER"), 0);
+		SecurityContextHolder.getContext().setAuthentication(
+				UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		mongoTemplate.remove(Query.query(Criteria.where("userId").is(USER_ID)), Game.class);
+	}
+
+	@Test
+	void perItemVersusBatch() {
+		List<GameCreateDTO> perItem = games("Single");
+		long start = System.nanoTime();
+		for (GameCreateDTO createDTO : perItem) {
+			gameService.createGame(createDTO);
+		}
+		double perItemSeconds = (System.nanoTime() - start) / 1e9;
+
+		List<GameCreateDTO> batched = games("Batch");
+		start = System.nanoTime();
+		int created = 0;
+		for (int i = 0; i < batched.size(); i += BATCH_SIZE) {
+			GameBatchResponse response = gameService.createGames(batched.subList(i, Math.min(i + BATCH_SIZE, batched.size())));
+			created += response.getCreated();
+		}
+		double batchSeconds = (System.nanoTime() - start) / 1e9;
+		assertEquals(GAMES, created);
+
+		System.out.printf("GameBatchCreateBenchmark (%d jogos): item a item %.0f jogos/s | lote de %d %.0f jogos/s (%.1fx)%n",
+				GAMES, GAMES / perItemSeconds, BATCH_SIZE, GAMES / batchSeconds, perItemSeconds / batchSeconds);
+	}
+
+	private static List<GameCreateDTO> games(String prefix) {
+		List<GameCreateDTO> games = new ArrayList<>(GAMES);
+		for (int i = 0; i < GAMES; i++) {
+			games.add(GameCreateDTO.builder()
+					.name(prefix + " Game " + i)
+					.developer("Studio " + (i % 50))
+					.hoursPlayed(i % 300)
+					.genres(Set.of("Action"))
+					.platforms(Set.of("PC"))
+					.status(GameStatus.NOT_STARTED)
+					.build());
+		}
+		return games;
+	}
+}
@@ -0,0 +1,99 @@
+package com.gamesync.api.benchmark;
+
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameSource;
+import com.gamesync.api.model.GameStatus;
+import com.gamesync.api.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Benchmark da busca textual (GET /games/search) em uma biblioteca de 10 mil jogos.
+ * Reporta as latências p50, p95 e p99 da consulta ao MongoDB.
+ *
+ * Executado apenas sob demanda: {@code mvn test -Dbenchmarks=true -Dtest=GameSearchBenchmark}.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class GameSearchBenchmark {
+
+	private static final String USER_ID = "search-benchmark-user";
+	private static final int LIBRARY_SIZE = 10_000;
+	private static final int ITERATIONS = 1_000;
+	private static final String[] WORDS = { "dragon", "guerra", "space", "corrida", "legend", "aventura", "shadow",
+			"cidade", "racing", "mistério", "knight", "futebol", "galaxy", "sobrevivência", "puzzle", "estratégia" };
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@AfterEach
+	void cleanUp() {
+		mongoTemplate.remove(Query.query(Criteria.where("userId").is(USER_ID)), Game.class);
+	}
+
+	@Test
+	void searchLatencyOnTenThousandGames() {
+		Random random = new Random(42);
+		List<Game> games = new ArrayList<>(LIBRARY_SIZE);
+		for (int i = 0; i < LIBRARY_SIZE; i++) {
+			games.add(Game.builder()
+					.name(word(random) + " " + word(random) + " " + i)
+					.description(word(random) + " " + word(random) + " " + word(random) + " " + word(random))
+					.developer("Studio " + word(random))
+					.userId(USER_ID)
+					.hoursPlayed(random.nextInt(500))
+					.genres(Set.of("Action"))
+					.tags(Set.of("Tag"))
+					.platforms(Set.of("PC"))
+					.status(GameStatus.PLAYING)
+					.source(GameSource.MANUAL)
+					.addedAt(new Date())
+					.language(i % 2 == 0 ? "pt" : "en")
+					.build());
+		}
+		mongoTemplate.insert(games, Game.class);
+
+		// Aquecimento.
+		for (int i = 0; i < 100; i++) {
+			gameRepository.searchByText(USER_ID, word(random), "pt", 0, 20);
+		}
+
+		long[] latencies = new long[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			String query = word(random) + (i % 3 == 0 ? " " + word(random) : "");
+			long start = System.nanoTime();
+			gameRepository.searchByText(USER_ID, query, i % 2 == 0 ? "pt" : "en", 0, 20);
+			latencies[i] = System.nanoTime() - start;
+		}
+
+		Arrays.sort(latencies);
+		System.out.printf("GameSearchBenchmark (%d jogos, %d buscas): p50=%.2fms p95=%.2fms p99=%.2fms%n",
+				LIBRARY_SIZE, ITERATIONS,
+				percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99));
+	}
+
+	private static String word(Random random) {
+		return WORDS[random.nextInt(WORDS.length)];
+	}
+
+	private static double percentile(long[] sorted, int percentile) {
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1_000_000.0;
+	}
+}
@@ -0,0 +1,143 @@
+package com.gamesync.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamesync.api.dto.GameStatsResponse;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameSource;
+import com.gamesync.api.model.GameStatus;
+import com.gamesync.api.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de GET /games/stats: compara a agregação com {@code $facet} no MongoDB com o
+ * cálculo no cliente (buscar todos os jogos e contar em memória) para bibliotecas de
+ * 1 mil, 10 mil e 100 mil jogos. Reporta latências p50/p95 e o volume transferido.
+ *
+ * Executado apenas sob demanda: {@code mvn test -Dbenchmarks=true -Dtest=GameStatsBenchmark}.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class GameStatsBenchmark {
+
+	private static final String USER_ID = "stats-benchmark-user";
+	private static final String[] GENRES = { "Action", "RPG", "Strategy", "Puzzle", "Racing", "Sports", "Horror", "Indie" };
+	private static final String[] PLATFORMS = { "PC", "PS5", "Xbox", "Switch", "Mobile" };
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@AfterEach
+	void cleanUp() {
+		mongoTemplate.remove(Query.query(Criteria.where("userId").is(USER_ID)), Game.class);
+	}
+
+	@ParameterizedTest(name = "{0} jogos")
+	@ValueSource(ints = { 1_000, 10_000, 100_000 })
+	void aggregationVersusClientSide(int librarySize) throws Exception {
+		insertLibrary(librarySize);
+		int iterations = librarySize >= 100_000 ? 10 : 50;
+
+		GameStatsResponse serverStats = gameRepository.aggregateStats(USER_ID);
+		GameStatsResponse clientStats = computeOnClient(gameRepository.findByUserId(USER_ID));
+		assertEquals(clientStats.getTotal(), serverStats.getTotal());
+		assertEquals(clientStats.getHoursPlayed(), serverStats.getHoursPlayed());
+		assertEquals(clientStats.getFavorites(), serverStats.getFavorites());
+		assertEquals(clientStats.getByGenre(), serverStats.getByGenre());
+
+		long[] server = new long[iterations];
+		long[] client = new long[iterations];
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			gameRepository.aggregateStats(USER_ID);
+			server[i] = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			computeOnClient(gameRepository.findByUserId(USER_ID));
+			client[i] = System.nanoTime() - start;
+		}
+
+		int serverBytes = objectMapper.writeValueAsBytes(serverStats).length;
+		int clientBytes = objectMapper.writeValueAsBytes(gameRepository.findByUserId(USER_ID)).length;
+		Arrays.sort(server);
+		Arrays.sort(client);
+		System.out.printf("GameStatsBenchmark (%d jogos): $facet p50=%.2fms p95=%.2fms, %d bytes | "
+				+ "cliente p50=%.2fms p95=%.2fms, %d bytes%n",
+				librarySize, percentile(server, 50), percentile(server, 95), serverBytes,
+				percentile(client, 50), percentile(client, 95), clientBytes);
+	}
+
+	private void insertLibrary(int librarySize) {
+		Random random = new Random(42);
+		List<Game> batch = new ArrayList<>(10_000);
+		for (int i = 0; i < librarySize; i++) {
+			batch.add(Game.builder()
+					.name("Stats Game " + i)
+					.userId(USER_ID)
+					.hoursPlayed(random.nextInt(500))
+					.favorite(random.nextInt(10) == 0)
+					.genres(Set.of(GENRES[random.nextInt(GENRES.length)], GENRES[random.nextInt(GENRES.length)]))
+					.tags(Set.of("Tag"))
+					.platforms(Set.of(PLATFORMS[random.nextInt(PLATFORMS.length)]))
+					.status(GameStatus.values()[random.nextInt(GameStatus.values().length)])
+					.source(GameSource.MANUAL)
+					.addedAt(new Date())
+					.build());
+			if (batch.size() == 10_000) {
+				mongoTemplate.insert(batch, Game.class);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			mongoTemplate.insert(batch, Game.class);
+		}
+	}
+
+	/**
+	 * O que o cliente precisava fazer antes do endpoint: contar tudo em memória.
+	 */
+	private static GameStatsResponse computeOnClient(List<Game> games) {
+		long hours = 0;
+		long favorites = 0;
+		Map<String, Long> byStatus = new HashMap<>();
+		Map<String, Long> byGenre = new HashMap<>();
+		Map<String, Long> byPlatform = new HashMap<>();
+		for (Game game : games) {
+			hours += game.getHoursPlayed() != null ? game.getHoursPlayed() : 0;
+			favorites += game.isFavorite() ? 1 : 0;
+			byStatus.merge(game.getStatus().name(), 1L, Long::sum);
+			game.getGenres().forEach(genre -> byGenre.merge(genre, 1L, Long::sum));
+			game.getPlatforms().forEach(platform -> byPlatform.merge(platform, 1L, Long::sum));
+		}
+		return new GameStatsResponse(games.size(), hours, favorites, byStatus, byGenre, byPlatform, null);
+	}
+
+	private static double percentile(long[] sorted, int percentile) {
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1_000_000.0;
+	}
+}
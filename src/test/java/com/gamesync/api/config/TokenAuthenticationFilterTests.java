@@ -0,0 +1,49 @@
+package com.gamesync.api.config;
+
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.service.TokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Garante que uma requisição autenticada por token Bearer continua autenticada no despacho
+ * assíncrono de uma resposta transmitida (GET /games/export), que não passa pelo filtro de token.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenAuthenticationFilterTests {
+
+	private static final String USER_ID = "bearer-export-test-user";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Test
+	void bearerAuthenticatedExportSurvivesTheAsyncDispatch() throws Exception {
+		String accessToken = tokenService.issueTokens(
+				new UserPrincipal(USER_ID, "bearer-export", null, null, List.of("USER"), 0)).getAccessToken();
+
+		MvcResult result = mockMvc.perform(get("/games/export")
+						.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,112 @@
+package com.gamesync.api.controller;
+
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.LibrarySummary;
+import com.gamesync.api.model.SyncCounter;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.service.TokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Garante que várias requisições POST /games simultâneas com o mesmo nome (com variações de
+ * maiúsculas e acentos) criam um único jogo: uma recebe 201 e as demais 409, mesmo sem nenhuma
+ * verificação prévia que as serialize.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class GameNameUniquenessTests {
+
+	private static final String USER_ID = "name-uniqueness-test-user";
+	private static final String[] NAME_VARIANTS = { "Pokémon Red", "POKEMON RED", "pokemon red", " Pokemon Red " };
+	private static final int THREADS = 16;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@AfterEach
+	void removeGames() {
+		mongoTemplate.remove(Query.query(Criteria.where("userId").is(USER_ID)), Game.class);
+		mongoTemplate.remove(Query.query(Criteria.where("id").is(USER_ID)), SyncCounter.class);
+		mongoTemplate.remove(Query.query(Criteria.where("id").is(USER_ID)), LibrarySummary.class);
+	}
+
+	@Test
+	void parallelCreatesOfTheSameNameReturnOneCreatedAndConflicts() throws Exception {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setBearerAuth(tokenService.issueTokens(
+				new UserPrincipal(USER_ID, "name-uniqueness", null, null, List.of("USER"), 0)).getAccessToken());
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger created = new AtomicInteger();
+		AtomicInteger conflicts = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				String name = NAME_VARIANTS[i % NAME_VARIANTS.length];
+				futures.add(executor.submit(() -> {
+					start.await();
+					ResponseEntity<String> response = restTemplate.postForEntity("/games",
+							new HttpEntity<>(gameJson(name), headers), String.class);
+					if (response.getStatusCode() == HttpStatus.CREATED) {
+						created.incrementAndGet();
+					} else if (response.getStatusCode() == HttpStatus.CONFLICT) {
+						conflicts.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, created.get());
+		assertEquals(THREADS - 1, conflicts.get());
+		assertEquals(1, mongoTemplate.count(Query.query(Criteria.where("userId").is(USER_ID)), Game.class));
+	}
+
+	private static Map<String, Object> gameJson(String name) {
+		return Map.of(
+				"name", name,
+				"developer", "Game Freak",
+				"genres", List.of("RPG"),
+				"tags", List.of("Classic"),
+				"platforms", List.of("Game Boy"),
+				"status", "PLAYING",
+				"source", "MANUAL");
+	}
+}
@@ -0,0 +1,203 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.dto.GamePatchDTO;
+import com.gamesync.api.dto.GameUpdateDTO;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameSource;
+import com.gamesync.api.model.GameTombstone;
+import com.gamesync.api.model.SyncCounter;
+import com.gamesync.api.model.UserPrincipal;
+import com.gamesync.api.service.GameService;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante quantos comandos cada operação de /games/{id} envia ao banco, por coleção, e que os
+ * comandos na coleção de jogos levam o ID e o userId no mesmo filtro, contando os comandos
+ * enviados pelo driver com um CommandListener. Cada operação é um único comando na coleção de
+ * jogos; as gravações reservam e liberam a sequência no contador do usuário, alterações que mudam
+ * os contadores do resumo da biblioteca enviam o seu {@code $inc} e a exclusão grava o tombstone.
+ * O cache de leitura é desligado para que a busca chegue ao banco.
+ */
+@SpringBootTest(properties = "gamesync.games.cache.enabled=false")
+class GameCommandCountTests {
+
+	private static final String OWNER_ID = "command-count-owner";
+	private static final String OTHER_ID = "command-count-other";
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private GameCommandRecorder recorder;
+
+	private String gameId;
+
+	@BeforeEach
+	void insertGame() {
+		gameId = mongoTemplate.insert(Game.builder()
+				.name("Command Count")
+				.normalizedName("command count")
+				.userId(OWNER_ID)
+				.source(GameSource.MANUAL)
+				.addedAt(new Date())
+				.build()).getId();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		mongoTemplate.remove(Query.query(Criteria.where("userId").in(OWNER_ID, OTHER_ID)), Game.class);
+		mongoTemplate.remove(Query.query(Criteria.where("userId").in(OWNER_ID, OTHER_ID)), GameTombstone.class);
+		mongoTemplate.remove(Query.query(Criteria.where("id").in(OWNER_ID, OTHER_ID)), SyncCounter.class);
+	}
+
+	@Test
+	void findIsOneCommand() {
+		authenticate(OWNER_ID);
+		assertEquals(Map.of("games", 1L), recorded(() -> gameService.findGameByIdAndCurrentUser(gameId).isPresent()));
+	}
+
+	@Test
+	void updateIsOneGameCommandTheSequenceAndTheSummaryIncrement() {
+		authenticate(OWNER_ID);
+		GameUpdateDTO update = new GameUpdateDTO();
+		update.setDeveloper("Updated");
+		update.setGenres(Set.of("RPG"));
+		assertEquals(Map.of("games", 1L, "sync_sequences", 2L, "library_summaries", 1L),
+				recorded(() -> gameService.updateGame(gameId, update).isPresent()));
+	}
+
+	@Test
+	void patchIsOneGameCommandTheSequenceAndTheSummaryIncrement() {
+		authenticate(OWNER_ID);
+		GamePatchDTO patch = GamePatchDTO.builder().favorite(true).addTags(Set.of("Tag")).build();
+		assertEquals(Map.of("games", 1L, "sync_sequences", 2L, "library_summaries", 1L),
+				recorded(() -> gameService.patchGame(gameId, patch).isPresent()));
+	}
+
+	@Test
+	void patchThatKeepsTheCountersSkipsTheSummary() {
+		authenticate(OWNER_ID);
+		GamePatchDTO patch = GamePatchDTO.builder().description("Only the description").build();
+		assertEquals(Map.of("games", 1L, "sync_sequences", 2L), recorded(() -> gameService.patchGame(gameId, patch).isPresent()));
+	}
+
+	@Test
+	void deleteIsOneGameCommandTheSequenceTheTombstoneAndTheSummaryIncrement() {
+		authenticate(OWNER_ID);
+		assertEquals(Map.of("games", 1L, "sync_sequences", 2L, "game_tombstones", 1L, "library_summaries", 1L),
+				recorded(() -> gameService.deleteGame(gameId)));
+	}
+
+	@Test
+	void otherUsersGameIsFilteredByTheDatabase() {
+		authenticate(OTHER_ID);
+		recorder.clear();
+		assertFalse(gameService.findGameByIdAndCurrentUser(gameId).isPresent());
+		assertFalse(gameService.deleteGame(gameId));
+		assertEquals(2, recorder.filters().size());
+		for (BsonDocument filter : recorder.filters()) {
+			assertEquals(OTHER_ID, filter.getString("userId").getValue());
+		}
+		assertEquals(1, mongoTemplate.count(Query.query(Criteria.where("id").is(gameId)), Game.class));
+	}
+
+	/**
+	 * Executa a operação, que deve ter sucesso, e retorna quantos comandos ela enviou a cada coleção.
+	 */
+	private Map<String, Long> recorded(BooleanSupplier operation) {
+		recorder.clear();
+		assertTrue(operation.getAsBoolean());
+		return recorder.collections().stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+	}
+
+	private static void authenticate(String userId) {
+		UserPrincipal principal = new UserPrincipal(userId, userId, null, null, List.of("ROLE_USER"), 0);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	/**
+	 * Registra a coleção de cada comando enviado pela thread do teste e o filtro dos comandos na
+	 * coleção de jogos (jobs agendados rodam em outras threads e são ignorados).
+	 */
+	static class GameCommandRecorder implements CommandListener {
+		private final List<String> collections = new CopyOnWriteArrayList<>();
+		private final List<BsonDocument> filters = new CopyOnWriteArrayList<>();
+		private volatile Thread thread;
+
+		void clear() {
+			collections.clear();
+			filters.clear();
+			thread = Thread.currentThread();
+		}
+
+		List<String> collections() {
+			return collections;
+		}
+
+		List<BsonDocument> filters() {
+			return filters;
+		}
+
+		@Override
+		public void commandStarted(CommandStartedEvent event) {
+			BsonDocument command = event.getCommand();
+			if (Thread.currentThread() != thread || !command.containsKey(event.getCommandName())
+					|| !command.get(event.getCommandName()).isString()) {
+				return;
+			}
+			String collection = command.getString(event.getCommandName()).getValue();
+			collections.add(collection);
+			if ("games".equals(collection)) {
+				// find usa "filter"; findAndModify (atualização e exclusão) usa "query".
+				filters.add(command.getDocument(command.containsKey("filter") ? "filter" : "query", new BsonDocument()));
+			}
+		}
+	}
+
+	@TestConfiguration
+	static class CommandListenerConfig {
+
+		@Bean
+		GameCommandRecorder gameCommandRecorder() {
+			return new GameCommandRecorder();
+		}
+
+		@Bean
+		MongoClientSettingsBuilderCustomizer commandListenerCustomizer(GameCommandRecorder recorder) {
+			return settings -> settings.addCommandListener(recorder);
+		}
+	}
+}
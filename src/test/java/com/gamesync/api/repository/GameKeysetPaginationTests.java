@@ -0,0 +1,81 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Garante que a paginação por keyset percorre a biblioteca inteira, sem repetir nem pular jogos,
+ * quando parte dos jogos não tem valor no campo de ordenação (o cursor pode parar em um nulo).
+ */
+@SpringBootTest
+class GameKeysetPaginationTests {
+
+	private static final String USER_ID = "keyset-null-test-user";
+	private static final int PAGE_SIZE = 2;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@BeforeEach
+	void insertGames() {
+		for (int i = 0; i < 9; i++) {
+			mongoTemplate.insert(Game.builder()
+					.name("Game " + i)
+					.userId(USER_ID)
+					// Um terço dos jogos sem horas jogadas, intercalados com horas repetidas.
+					.hoursPlayed(i % 3 == 0 ? null : i % 2)
+					.source(GameSource.MANUAL)
+					.addedAt(new Date(1_700_000_000_000L + i))
+					.build());
+		}
+	}
+
+	@AfterEach
+	void removeGames() {
+		mongoTemplate.remove(Query.query(Criteria.where("userId").is(USER_ID)), Game.class);
+	}
+
+	@Test
+	void pagesThroughNullSortValuesInBothDirections() {
+		for (Sort.Direction direction : Sort.Direction.values()) {
+			List<String> expected = gameRepository.findAllByFilter(USER_ID, null, GameSortField.HOURS_PLAYED, direction)
+					.stream().map(Game::getId).toList();
+
+			List<String> paged = new ArrayList<>();
+			Object afterValue = null;
+			String afterId = null;
+			List<Game> page;
+			do {
+				page = gameRepository.findPageByFilter(USER_ID, null, GameSortField.HOURS_PLAYED, direction,
+						afterValue, afterId, PAGE_SIZE);
+				page.forEach(game -> paged.add(game.getId()));
+				if (!page.isEmpty()) {
+					Game last = page.get(page.size() - 1);
+					afterValue = GameSortField.HOURS_PLAYED.valueOf(last);
+					afterId = last.getId();
+				}
+			} while (page.size() == PAGE_SIZE);
+
+			assertEquals(9, expected.size());
+			assertEquals(expected, paged, () -> "Paginação " + direction + " divergiu da listagem completa.");
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.gamesync.api.repository;
+
+import com.gamesync.api.dto.GameFilterDTO;
+import com.gamesync.api.model.Game;
+import com.gamesync.api.model.GameSource;
+import com.gamesync.api.model.GameStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Garante que cada formato de consulta suportado pela listagem de jogos
+ * (filtros, ordenações e condição de cursor) é resolvido por um índice,
+ * isto é, que o plano vencedor do MongoDB não contém COLLSCAN.
+ */
+@SpringBootTest
+class GameQueryPlanTests {
+
+	private static final String USER_ID = "query-plan-test-user";
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@BeforeEach
+	void insertGames() {
+		for (int i = 0; i < 20; i++) {
+			mongoTemplate.insert(Game.builder()
+					.name("Game " + i)
+					.developer("Dev")
+					.userId(USER_ID)
+					.hoursPlayed(i)
+					.favorite(i % 2 == 0)
+					.genres(Set.of("RPG", "Action"))
+					.platforms(Set.of("PC"))
+					.tags(Set.of("Tag" + (i % 3)))
+					.status(GameStatus.values()[i % GameStatus.values().length])
+					.source(GameSource.MANUAL)
+					.addedAt(new Date(1_700_000_000_000L + i))
+					.build());
+		}
+	}
+
+	@AfterEach
+	void removeGames() {
+		mongoTemplate.remove(Query.query(Criteria.where("userId").is(USER_ID)), Game.class);
+	}
+
+	static Stream<Arguments> queryShapes() {
+		GameFilterDTO none = new GameFilterDTO();
+		return Stream.of(
+				Arguments.of("sem filtro, addedAt", none, GameSortField.ADDED_AT, null),
+				Arguments.of("sem filtro, hoursPlayed", none, GameSortField.HOURS_PLAYED, null),
+				Arguments.of("sem filtro, name", none, GameSortField.NAME, null),
+				Arguments.of("cursor addedAt", none, GameSortField.ADDED_AT, new Date(1_700_000_000_005L)),
+				Arguments.of("cursor hoursPlayed", none, GameSortField.HOURS_PLAYED, 5),
+				Arguments.of("cursor name", none, GameSortField.NAME, "Game 5"),
+				Arguments.of("status", GameFilterDTO.builder().status(GameStatus.PLAYING).build(), GameSortField.ADDED_AT, null),
+				Arguments.of("favorite", GameFilterDTO.builder().favorite(true).build(), GameSortField.ADDED_AT, null),
+				Arguments.of("genres", GameFilterDTO.builder().genres(Set.of("RPG")).build(), GameSortField.ADDED_AT, null),
+				Arguments.of("platforms", GameFilterDTO.builder().platforms(Set.of("PC")).build(), GameSortField.ADDED_AT, null),
+				Arguments.of("tags", GameFilterDTO.builder().tags(Set.of("Tag1")).build(), GameSortField.ADDED_AT, null),
+				Arguments.of("status + genres, hoursPlayed",
+						GameFilterDTO.builder().status(GameStatus.COMPLETED).genres(Set.of("RPG")).build(),
+						GameSortField.HOURS_PLAYED, null));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("queryShapes")
+	void winningPlanIsNotCollectionScan(String shape, GameFilterDTO filter, GameSortField sort, Object afterValue) {
+		for (Sort.Direction direction : Sort.Direction.values()) {
+			Query query = GameRepositoryCustomImpl.buildQuery(USER_ID, filter, sort, direction,
+					afterValue, afterValue != null ? "000000000000000000000000" : null);
+
+			Document winningPlan = explain(query).get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+			assertFalse(winningPlan.toJson().contains("COLLSCAN"),
+					() -> "Consulta '" + shape + "' (" + direction + ") usa COLLSCAN: " + winningPlan.toJson());
+		}
+	}
+
+	private Document explain(Query query) {
+		QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+		MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Game.class);
+		Document filter = mapper.getMappedObject(query.getQueryObject(), entity);
+		Document sort = mapper.getMappedSort(query.getSortObject(), entity);
+		return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Game.class))
+				.find(filter)
+				.sort(sort)
+				.explain();
+	}
+}
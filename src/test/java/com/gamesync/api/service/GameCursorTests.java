@@ -0,0 +1,43 @@
+package com.gamesync.api.service;
+
+import com.gamesync.api.model.Game;
+import com.gamesync.api.repository.GameSortField;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Garante que o cursor de paginação representa jogos sem valor no campo de ordenação
+ * e que o valor nulo continua distinto de um texto vazio.
+ */
+class GameCursorTests {
+
+	private static final String GAME_ID = "65f000000000000000000001";
+
+	@Test
+	void nullSortValueRoundTrips() {
+		Game game = Game.builder().id(GAME_ID).name("Sem horas").build();
+
+		for (GameSortField sort : GameSortField.values()) {
+			if (sort.valueOf(game) != null) {
+				continue;
+			}
+			String token = GameCursor.after(game, sort, Sort.Direction.ASC).encode();
+			GameCursor decoded = GameCursor.decode(token, sort, Sort.Direction.ASC);
+
+			assertNull(decoded.value());
+			assertEquals(GAME_ID, decoded.id());
+		}
+	}
+
+	@Test
+	void emptyNameIsNotDecodedAsNull() {
+		Game game = Game.builder().id(GAME_ID).name("").build();
+
+		String token = GameCursor.after(game, GameSortField.NAME, Sort.Direction.DESC).encode();
+
+		assertEquals("", GameCursor.decode(token, GameSortField.NAME, Sort.Direction.DESC).value());
+	}
+}